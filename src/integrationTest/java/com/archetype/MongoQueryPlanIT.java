@@ -0,0 +1,279 @@
+package com.archetype;
+
+import com.archetype.layer.domain.model.Element;
+import com.archetype.layer.domain.model.PokemonId;
+import com.archetype.layer.domain.model.Species;
+import com.archetype.layer.mapper.persistence.AbilityPersistenceMapperImpl;
+import com.archetype.layer.mapper.persistence.PokemonPersistenceMapperImpl;
+import com.archetype.layer.mapper.persistence.SpeciesLoadJobPersistenceMapperImpl;
+import com.archetype.layer.mapper.persistence.SpeciesPersistenceMapperImpl;
+import com.archetype.layer.persistence.document.AbilityDocument;
+import com.archetype.layer.persistence.document.AbilityEmbedded;
+import com.archetype.layer.persistence.document.MoveDocument;
+import com.archetype.layer.persistence.document.PokemonDocument;
+import com.archetype.layer.persistence.document.SpeciesDocument;
+import com.archetype.layer.persistence.document.SpeciesLoadJobDocument;
+import com.archetype.layer.persistence.internal.AbilityRepository;
+import com.archetype.layer.persistence.internal.MongoIndexVerifier;
+import com.archetype.layer.persistence.internal.PokemonMongoDataRepo;
+import com.archetype.layer.persistence.internal.PokemonRepository;
+import com.archetype.layer.persistence.internal.SpeciesLoadJobRepository;
+import com.archetype.layer.persistence.internal.SpeciesRepository;
+import com.archetype.mvc.persistence.internal.SpeciesMvcRepository;
+import com.archetype.onion.infrastructure.persistence.TrainerDocument;
+import com.archetype.onion.infrastructure.persistence.TrainerMongoRepository;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoDatabase;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Named;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Query-plan regression suite for the Mongo repositories.
+ * <p>
+ * Indexes are created by {@link MongoIndexVerifier} from the document declarations, as on startup, then every
+ * repository query method, and the template queries of {@link PokemonMongoDataRepo}, runs against a seeded database
+ * with the profiler on. Each query the driver sent is re-run through {@code explain} and fails the suite when its
+ * winning plan contains a collection scan or an in-memory sort, or when it examines more than
+ * {@value #MAX_DOCS_EXAMINED_PER_RETURNED} documents per document returned. Existence checks must also be covered by
+ * their index and examine no documents at all.
+ */
+@Testcontainers
+class MongoQueryPlanIT {
+
+    private static final String DATABASE = "query-plan";
+    private static final double MAX_DOCS_EXAMINED_PER_RETURNED = 2.0;
+    private static final Element[] ELEMENTS = Element.values();
+
+    @Container
+    static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+    private static MongoClient client;
+    private static MongoDatabase database;
+
+    private static SpeciesRepository speciesRepo;
+    private static SpeciesMvcRepository speciesMvcRepo;
+    private static PokemonRepository pokemonRepo;
+    private static SpeciesLoadJobRepository loadJobRepo;
+    private static AbilityRepository abilityRepo;
+    private static TrainerMongoRepository trainerRepo;
+    private static PokemonMongoDataRepo pokemonDataRepo;
+
+    @BeforeAll
+    static void setUp() {
+        client = MongoClients.create(MONGO.getReplicaSetUrl());
+        database = client.getDatabase(DATABASE);
+
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setInitialEntitySet(Set.of(SpeciesDocument.class, com.archetype.mvc.persistence.document.SpeciesDocument.class,
+                PokemonDocument.class, SpeciesLoadJobDocument.class, AbilityDocument.class, MoveDocument.class, TrainerDocument.class));
+        mappingContext.afterPropertiesSet();
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.afterPropertiesSet();
+        MongoTemplate template = new MongoTemplate(new SimpleMongoClientDatabaseFactory(client, DATABASE), converter);
+
+        new MongoIndexVerifier(template).verify();
+        seed(template);
+
+        MongoRepositoryFactory repositories = new MongoRepositoryFactory(template);
+        speciesRepo = repositories.getRepository(SpeciesRepository.class);
+        speciesMvcRepo = repositories.getRepository(SpeciesMvcRepository.class);
+        pokemonRepo = repositories.getRepository(PokemonRepository.class);
+        loadJobRepo = repositories.getRepository(SpeciesLoadJobRepository.class);
+        abilityRepo = repositories.getRepository(AbilityRepository.class);
+        trainerRepo = repositories.getRepository(TrainerMongoRepository.class);
+        pokemonDataRepo = new PokemonMongoDataRepo(pokemonRepo, speciesRepo, new SpeciesPersistenceMapperImpl(), new PokemonPersistenceMapperImpl(),
+                abilityRepo, new AbilityPersistenceMapperImpl(), loadJobRepo, new SpeciesLoadJobPersistenceMapperImpl(), template);
+        // Reading the move dictionary is a deliberate full read of a small collection, done once and not profiled
+        pokemonDataRepo.getSpeciesById(1);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        client.close();
+    }
+
+    static Stream<Arguments> repositoryQueries() {
+        return Stream.of(
+                query("SpeciesRepository.findById", () -> speciesRepo.findById(25)),
+                query("SpeciesRepository.findByName", () -> speciesRepo.findByName("species-25")),
+                query("SpeciesRepository.findAllByFirstType", () -> speciesRepo.findAllByFirstType(Element.FIRE)),
+                query("SpeciesRepository.findAllByFirstTypeAndSecondType", () -> speciesRepo.findAllByFirstTypeAndSecondType(Element.FIRE, Element.FLYING)),
+                query("SpeciesRepository.findAllByFirstTypeOrSecondType", () -> speciesRepo.findAllByFirstTypeOrSecondType(Element.FIRE, Element.FLYING)),
+                query("SpeciesRepository.getByNationalIdIs", () -> speciesRepo.getByNationalIdIs(25)),
+                query("SpeciesMvcRepository.findByName", () -> speciesMvcRepo.findByName("species-25")),
+                query("SpeciesMvcRepository.findAllByFirstType", () -> speciesMvcRepo.findAllByFirstType(com.archetype.mvc.model.Element.FIRE)),
+                query("SpeciesMvcRepository.findAllByFirstTypeAndSecondType",
+                        () -> speciesMvcRepo.findAllByFirstTypeAndSecondType(com.archetype.mvc.model.Element.FIRE, com.archetype.mvc.model.Element.FLYING)),
+                query("SpeciesMvcRepository.findAllByFirstTypeOrSecondType",
+                        () -> speciesMvcRepo.findAllByFirstTypeOrSecondType(com.archetype.mvc.model.Element.FIRE, com.archetype.mvc.model.Element.FLYING)),
+                query("SpeciesMvcRepository.findAllSummaries", () -> speciesMvcRepo.findAllSummaries()),
+                query("PokemonRepository.findAllByName", () -> pokemonRepo.findAllByName("pokemon-25")),
+                query("PokemonRepository.getAllBySpeciesName", () -> pokemonRepo.getAllBySpeciesName("species-25")),
+                query("PokemonMongoDataRepo.getPokemonPage", () -> pokemonDataRepo.getPokemonPage(null, null, 50)),
+                query("PokemonMongoDataRepo.getPokemonPage of a species", () -> pokemonDataRepo.getPokemonPage(25, null, 50)),
+                query("PokemonMongoDataRepo.existsByNationalId", () -> pokemonDataRepo.existsByNationalId(25)),
+                query("SpeciesLoadJobRepository.findAllByStatus", () -> loadJobRepo.findAllByStatus("RUNNING")),
+                query("AbilityRepository.findById", () -> abilityRepo.findById("ability-25")),
+                query("TrainerMongoRepository.findById", () -> trainerRepo.findById("trainer-25"))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryQueries")
+    @DisplayName("Repository queries are index scans without in-memory sorts that examine few documents per document returned")
+    void repositoryQuery_usesIndex(Runnable query) {
+        List<Document> commands = profile(query);
+        assertFalse(commands.isEmpty(), "the query sent no command to the server");
+
+        for (Document command : commands) {
+            Document explain = explain(command);
+            Document plan = explain.get("queryPlanner", Document.class).get("winningPlan", Document.class);
+            Document stats = explain.get("executionStats", Document.class);
+
+            assertFalse(stages(plan).contains("COLLSCAN"), "collection scan for " + command.toJson() + ": " + plan.toJson());
+            assertFalse(stages(plan).contains("SORT"), "in-memory sort for " + command.toJson() + ": " + plan.toJson());
+            int returned = stats.getInteger("nReturned");
+            int examined = stats.getInteger("totalDocsExamined");
+            assertTrue(examined <= MAX_DOCS_EXAMINED_PER_RETURNED * Math.max(1, returned),
+                    examined + " documents examined for " + returned + " returned by " + command.toJson() + ": " + plan.toJson());
+        }
+    }
+
+    static Stream<Arguments> coveredQueries() {
+        return Stream.of(
+                query("PokemonMongoDataRepo.existsByNationalId", () -> pokemonDataRepo.existsByNationalId(25)),
+                query("PokemonMongoDataRepo.existsByNationalId without a match", () -> pokemonDataRepo.existsByNationalId(1025))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("coveredQueries")
+    @DisplayName("Existence checks are answered from the index alone without reading a document")
+    void coveredQuery_examinesNoDocuments(Runnable query) {
+        List<Document> commands = profile(query);
+        assertFalse(commands.isEmpty(), "the query sent no command to the server");
+
+        for (Document command : commands) {
+            Document explain = explain(command);
+            Document plan = explain.get("queryPlanner", Document.class).get("winningPlan", Document.class);
+            Document stats = explain.get("executionStats", Document.class);
+
+            assertTrue(stages(plan).contains("IXSCAN"), "no index scan for " + command.toJson() + ": " + plan.toJson());
+            assertFalse(stages(plan).contains("FETCH"), "documents fetched for " + command.toJson() + ": " + plan.toJson());
+            assertEquals(0, stats.getInteger("totalDocsExamined"), "documents examined by " + command.toJson() + ": " + plan.toJson());
+        }
+    }
+
+    private static Document explain(Document command) {
+        return database.runCommand(new Document("explain", command).append("verbosity", "executionStats"));
+    }
+
+    /**
+     * Run the query with the profiler on and return the commands it sent, ready to be explained.
+     */
+    private static List<Document> profile(Runnable query) {
+        database.runCommand(new Document("profile", 0));
+        database.getCollection("system.profile").drop();
+        database.runCommand(new Document("profile", 2));
+        try {
+            query.run();
+        } finally {
+            database.runCommand(new Document("profile", 0));
+        }
+
+        List<Document> commands = new ArrayList<>();
+        for (Document entry : database.getCollection("system.profile").find(new Document("ns", new Document("$not", new Document("$regex", "\\.system\\."))))) {
+            Document command = entry.get("command", Document.class);
+            if (command == null || !(command.containsKey("find") || command.containsKey("aggregate"))) continue;
+            Document explainable = new Document();
+            // Session and cluster metadata cannot be explained
+            command.forEach((key, value) -> {
+                if (!key.startsWith("$") && !key.equals("lsid")) explainable.append(key, value);
+            });
+            commands.add(explainable);
+        }
+        return commands;
+    }
+
+    /**
+     * Every stage of a plan, including the stages of nested plans such as the inputs of an OR.
+     */
+    private static List<String> stages(Object plan) {
+        List<String> stages = new ArrayList<>();
+        if (plan instanceof Document stage) {
+            if (stage.get("stage") instanceof String name) stages.add(name);
+            stage.values().forEach(value -> stages.addAll(stages(value)));
+        } else if (plan instanceof List<?> inputs) {
+            inputs.forEach(input -> stages.addAll(stages(input)));
+        }
+        return stages;
+    }
+
+    private static void seed(MongoTemplate template) {
+        Instant now = Instant.now();
+        List<SpeciesDocument> species = new ArrayList<>();
+        for (int id = 1; id <= 1000; id++) {
+            species.add(new SpeciesDocument(id, "species-" + id, ELEMENTS[id % 18], id % 3 == 0 ? null : ELEMENTS[id * 7 % 18],
+                    List.of(id % 300), new int[]{id % 50, 100 + id % 50}, new Species.PokemonStats(50, 50, 50, 50, 50, 50), "hash-" + id));
+        }
+        template.insertAll(species);
+
+        List<PokemonDocument> pokemons = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            int nationalId = 1 + i % 1000;
+            pokemons.add(new PokemonDocument(new PokemonId(), "pokemon-" + i, List.of(ELEMENTS[nationalId % 18].name()),
+                    List.of(new AbilityEmbedded(nationalId % 300, "ability-" + nationalId % 300, false)), 1 + i % 100, i % 50 == 0,
+                    nationalId, "species-" + nationalId, null, null));
+        }
+        template.insertAll(pokemons);
+
+        List<SpeciesLoadJobDocument> jobs = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            String status = i % 100 == 0 ? "RUNNING" : i % 10 == 0 ? "FAILED" : "COMPLETED";
+            jobs.add(new SpeciesLoadJobDocument("job-" + i, status, "API", 1, 151, 151, 151, 0, 0, now, now, now, null));
+        }
+        template.insertAll(jobs);
+
+        List<AbilityDocument> abilities = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            abilities.add(new AbilityDocument("ability-" + i, i, "ability-" + i, "description"));
+        }
+        template.insertAll(abilities);
+
+        List<TrainerDocument> trainers = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            trainers.add(TrainerDocument.builder().id("trainer-" + i).name("trainer-" + i).badges(i % 9).createdAt(now).updatedAt(now).build());
+        }
+        template.insertAll(trainers);
+    }
+
+    private static Arguments query(String name, Runnable query) {
+        return Arguments.of(Named.of(name, query));
+    }
+}
@@ -0,0 +1,179 @@
+package com.archetype.layer.persistence.internal;
+
+import com.archetype.layer.domain.model.IndividualValues;
+import com.archetype.layer.domain.model.KeysetPage;
+import com.archetype.layer.domain.model.Pokemon;
+import com.archetype.layer.domain.model.PokemonChanges;
+import com.archetype.layer.domain.model.Species;
+import com.archetype.layer.domain.model.SpeciesSyncResult;
+import com.archetype.layer.domain.model.Type;
+import com.archetype.layer.exception.PokemonNotFoundException;
+import com.archetype.layer.exception.PokemonVersionConflictException;
+import com.archetype.layer.mapper.persistence.AbilityPersistenceMapperImpl;
+import com.archetype.layer.mapper.persistence.PokemonPersistenceMapperImpl;
+import com.archetype.layer.mapper.persistence.SpeciesLoadJobPersistenceMapperImpl;
+import com.archetype.layer.mapper.persistence.SpeciesPersistenceMapperImpl;
+import com.archetype.layer.persistence.document.MoveDocument;
+import com.archetype.layer.persistence.document.PokemonDocument;
+import com.archetype.layer.persistence.document.SpeciesDocument;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Round trips through PokemonMongoDataRepo against a real MongoDB: what is stored is what is read back.
+ */
+@Testcontainers
+class PokemonMongoDataRepoIT {
+
+    private static final Species PIKACHU = new Species(25, "pikachu", Type.electric, null, List.of(), Map.of(1, "thundershock"),
+            new Species.PokemonStats(55, 40, 50, 50, 90, 35));
+
+    @Container
+    static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+    private static MongoClient client;
+    private static MongoTemplate template;
+    private static MongoRepositoryFactory repositories;
+
+    private PokemonMongoDataRepo repository;
+
+    @BeforeAll
+    static void setUp() {
+        client = MongoClients.create(MONGO.getReplicaSetUrl());
+        template = new MongoTemplate(client, "round-trip");
+        repositories = new MongoRepositoryFactory(template);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        client.close();
+    }
+
+    @BeforeEach
+    void setUpRepository() {
+        template.dropCollection(PokemonDocument.class);
+        template.dropCollection(SpeciesDocument.class);
+        template.dropCollection(MoveDocument.class);
+        // A new repository per test, since it keeps the move dictionary in process
+        repository = new PokemonMongoDataRepo(repositories.getRepository(PokemonRepository.class),
+                repositories.getRepository(SpeciesRepository.class),
+                new SpeciesPersistenceMapperImpl(),
+                new PokemonPersistenceMapperImpl(),
+                repositories.getRepository(AbilityRepository.class),
+                new AbilityPersistenceMapperImpl(),
+                repositories.getRepository(SpeciesLoadJobRepository.class),
+                new SpeciesLoadJobPersistenceMapperImpl(),
+                template);
+    }
+
+    @Test
+    @DisplayName("A stored Pokemon is read back with its id, species, level and DVs by id, by page and by stream")
+    void savedPokemon_isReadBack() {
+        repository.save(PIKACHU);
+        Pokemon stored = repository.save(new Pokemon(PIKACHU, "sparky", 12, new IndividualValues(1, 2, 3, 4)));
+
+        Pokemon byId = repository.getPokemonById(stored.getId().uuid());
+        KeysetPage<Pokemon> page = repository.getPokemonPage(25, null, 10);
+        List<Pokemon> streamed;
+        try (Stream<Pokemon> stream = repository.streamPokemon()) {
+            streamed = stream.toList();
+        }
+
+        for (Pokemon read : List.of(byId, page.items().getFirst(), streamed.getFirst())) {
+            assertEquals(stored.getId(), read.getId());
+            assertEquals("sparky", read.getName());
+            assertEquals("pikachu", read.getSpecies().name());
+            assertEquals(12, read.getLevel());
+            assertEquals(stored.getIndividualValues(), read.getIndividualValues());
+            assertEquals(stored.getMaxHp(), read.getMaxHp());
+        }
+        assertEquals(1, page.items().size());
+        assertEquals(1, streamed.size());
+    }
+
+    @Test
+    @DisplayName("A stored species is read back with its learnset in PokeAPI names, including moves seeded with display names")
+    void savedSpecies_isReadBack() {
+        template.insert(new MoveDocument(2, "Karate Chop"));
+        Species machop = new Species(66, "machop", Type.fighting, null, List.of(), Map.of(2, "karate-chop", 279, "revenge"),
+                new Species.PokemonStats(80, 50, 35, 35, 35, 70));
+
+        repository.save(machop);
+        Species read = repository.getSpeciesById(66);
+
+        assertEquals("machop", read.name());
+        assertEquals(Type.fighting, read.firstType());
+        assertEquals(machop.stats(), read.stats());
+        assertEquals(Map.of(2, "karate-chop", 279, "revenge"), read.moves());
+        assertEquals("Karate Chop", template.findAll(MoveDocument.class).stream().filter(m -> m.number() == 2).findFirst().orElseThrow().name());
+    }
+
+    @Test
+    @DisplayName("An update at the current version is applied and read back with the next version")
+    void updatePokemon_atCurrentVersion() {
+        repository.save(PIKACHU);
+        Pokemon stored = repository.save(new Pokemon(PIKACHU, "sparky", 12));
+
+        long version = repository.updatePokemon(stored.getId().uuid(), 0, new PokemonChanges("volt", 13));
+        Pokemon read = repository.getPokemonById(stored.getId().uuid());
+
+        assertEquals(1, version);
+        assertEquals(1, read.getVersion());
+        assertEquals("volt", read.getName());
+        assertEquals(13, read.getLevel());
+    }
+
+    @Test
+    @DisplayName("An update at a stale version is rejected as a conflict and leaves the Pokemon unchanged")
+    void updatePokemon_staleVersion() {
+        repository.save(PIKACHU);
+        Pokemon stored = repository.save(new Pokemon(PIKACHU, "sparky", 12));
+        UUID id = stored.getId().uuid();
+        repository.updatePokemon(id, 0, new PokemonChanges("volt", null));
+
+        assertThrows(PokemonVersionConflictException.class, () -> repository.updatePokemon(id, 0, new PokemonChanges("zap", null)));
+        assertEquals("volt", repository.getPokemonById(id).getName());
+    }
+
+    @Test
+    @DisplayName("An update of a Pokemon that is not stored is rejected as not found")
+    void updatePokemon_missing() {
+        UUID id = UUID.randomUUID();
+
+        assertThrows(PokemonNotFoundException.class, () -> repository.updatePokemon(id, 0, new PokemonChanges("volt", null)));
+    }
+
+    @Test
+    @DisplayName("A resync inserts new species, rewrites changed ones and leaves unchanged ones alone")
+    void resync_writesOnlyChanges() {
+        Species bulbasaur = new Species(1, "bulbasaur", Type.grass, Type.poison, List.of(), Map.of(33, "tackle"),
+                new Species.PokemonStats(45, 49, 49, 65, 45, 45));
+
+        SpeciesSyncResult first = repository.resync(List.of(bulbasaur, PIKACHU));
+        Species relearned = new Species(25, "pikachu", Type.electric, null, List.of(), Map.of(1, "thundershock", 86, "thunder-wave"),
+                new Species.PokemonStats(55, 40, 50, 50, 90, 35));
+        SpeciesSyncResult second = repository.resync(List.of(bulbasaur, relearned));
+
+        assertEquals(new SpeciesSyncResult(2, 0, 0), first);
+        assertEquals(new SpeciesSyncResult(0, 1, 1), second);
+        assertEquals(2, repository.speciesCount());
+        assertEquals(Map.of(1, "thundershock", 86, "thunder-wave"), repository.getSpeciesById(25).moves());
+    }
+}
@@ -0,0 +1,156 @@
+package com.archetype.layer.persistence.internal;
+
+import com.archetype.layer.domain.model.IndividualValues;
+import com.archetype.layer.domain.model.KeysetPage;
+import com.archetype.layer.domain.model.Pokemon;
+import com.archetype.layer.domain.model.PokemonId;
+import com.archetype.layer.domain.model.Species;
+import com.archetype.layer.domain.model.Type;
+import com.archetype.layer.exception.PokemonNotFoundException;
+import com.archetype.layer.mapper.persistence.AbilityPersistenceMapperImpl;
+import com.archetype.layer.mapper.persistence.PokemonPersistenceMapperImpl;
+import com.archetype.layer.mapper.persistence.SpeciesLoadJobPersistenceMapperImpl;
+import com.archetype.layer.mapper.persistence.SpeciesPersistenceMapperImpl;
+import com.archetype.layer.persistence.document.MoveDocument;
+import com.archetype.layer.persistence.document.PokemonDocument;
+import com.archetype.layer.persistence.document.SpeciesDocument;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ReactivePokemonMongoDataRepo against a real MongoDB, alongside the blocking PokemonMongoDataRepo that writes the
+ * same collections.
+ */
+@Testcontainers
+class ReactivePokemonMongoDataRepoIT {
+
+    private static final Species PIKACHU = new Species(25, "pikachu", Type.electric, null, List.of(), Map.of(84, "thunder-shock"),
+            new Species.PokemonStats(55, 40, 50, 50, 90, 35));
+    private static final Species MACHOP = new Species(66, "machop", Type.fighting, null, List.of(), Map.of(2, "karate-chop"),
+            new Species.PokemonStats(80, 50, 35, 35, 35, 70));
+
+    @Container
+    static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+    private static MongoClient client;
+    private static com.mongodb.reactivestreams.client.MongoClient reactiveClient;
+    private static MongoTemplate template;
+    private static ReactiveMongoTemplate reactiveTemplate;
+    private static MongoRepositoryFactory repositories;
+
+    private PokemonMongoDataRepo blocking;
+    private ReactivePokemonMongoDataRepo repository;
+
+    @BeforeAll
+    static void setUp() {
+        client = MongoClients.create(MONGO.getReplicaSetUrl());
+        reactiveClient = com.mongodb.reactivestreams.client.MongoClients.create(MONGO.getReplicaSetUrl());
+        template = new MongoTemplate(client, "reactive");
+        reactiveTemplate = new ReactiveMongoTemplate(reactiveClient, "reactive");
+        repositories = new MongoRepositoryFactory(template);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        reactiveClient.close();
+        client.close();
+    }
+
+    @BeforeEach
+    void setUpRepositories() {
+        template.dropCollection(PokemonDocument.class);
+        template.dropCollection(SpeciesDocument.class);
+        template.dropCollection(MoveDocument.class);
+        // New repositories per test, since both keep the move dictionary in process
+        blocking = new PokemonMongoDataRepo(repositories.getRepository(PokemonRepository.class),
+                repositories.getRepository(SpeciesRepository.class),
+                new SpeciesPersistenceMapperImpl(),
+                new PokemonPersistenceMapperImpl(),
+                repositories.getRepository(AbilityRepository.class),
+                new AbilityPersistenceMapperImpl(),
+                repositories.getRepository(SpeciesLoadJobRepository.class),
+                new SpeciesLoadJobPersistenceMapperImpl(),
+                template);
+        repository = new ReactivePokemonMongoDataRepo(reactiveTemplate, new PokemonPersistenceMapperImpl(), new SpeciesPersistenceMapperImpl());
+        blocking.save(PIKACHU);
+        blocking.save(MACHOP);
+    }
+
+    @Test
+    @DisplayName("A Pokemon saved reactively is read back by ID with its species, DVs and level, also by the blocking repository")
+    void savedPokemon_isReadBack() {
+        Pokemon saved = repository.save(new Pokemon(PIKACHU, "sparky", 12, new IndividualValues(1, 2, 3, 4))).block();
+
+        Pokemon read = repository.getPokemonById(saved.getId().uuid()).block();
+
+        for (Pokemon pokemon : List.of(read, blocking.getPokemonById(saved.getId().uuid()))) {
+            assertEquals(saved.getId(), pokemon.getId());
+            assertEquals("sparky", pokemon.getName());
+            assertEquals(12, pokemon.getLevel());
+            assertEquals(saved.getIndividualValues(), pokemon.getIndividualValues());
+            assertEquals(PIKACHU.moves(), pokemon.getSpecies().moves());
+        }
+    }
+
+    @Test
+    @DisplayName("A missing Pokemon fails with not found")
+    void missing_isNotFound() {
+        UUID id = UUID.randomUUID();
+
+        assertThrows(PokemonNotFoundException.class, () -> repository.getPokemonById(id).block());
+    }
+
+    @Test
+    @DisplayName("Pages of one species continue after the last key of the previous page")
+    void pokemonPages_followLastKey() {
+        Set<PokemonId> pikachus = Stream.of("a", "b", "c")
+                                        .map(name -> blocking.save(new Pokemon(PIKACHU, name, 5)).getId())
+                                        .collect(Collectors.toSet());
+        blocking.save(new Pokemon(MACHOP, "d", 5));
+
+        KeysetPage<Pokemon> first = repository.getPokemonPage(25, null, 2).block();
+        KeysetPage<Pokemon> second = repository.getPokemonPage(25, first.lastKey(), 2).block();
+        KeysetPage<Pokemon> all = repository.getPokemonPage(null, null, 10).block();
+
+        assertEquals(2, first.items().size());
+        assertEquals(first.items().getLast().getId().uuid().toString(), first.lastKey());
+        assertEquals(1, second.items().size());
+        assertNull(second.lastKey());
+        assertEquals(pikachus, Stream.concat(first.items().stream(), second.items().stream()).map(Pokemon::getId).collect(Collectors.toSet()));
+        assertEquals(4, all.items().size());
+        assertEquals("machop", all.items().stream().filter(pokemon -> pokemon.getName().equals("d")).findFirst().orElseThrow().getSpecies().name());
+    }
+
+    @Test
+    @DisplayName("Moves registered by the blocking repository after the dictionary was read are resolved")
+    void species_resolvesMovesRegisteredLater() {
+        UUID id = blocking.save(new Pokemon(PIKACHU, "sparky", 5)).getId().uuid();
+        assertEquals(PIKACHU.moves(), repository.getPokemonById(id).block().getSpecies().moves());
+
+        Species relearned = new Species(25, "pikachu", Type.electric, null, List.of(), Map.of(84, "thunder-shock", 86, "thunder-wave"),
+                PIKACHU.stats());
+        blocking.resync(List.of(relearned));
+
+        assertEquals(relearned.moves(), repository.getPokemonById(id).block().getSpecies().moves());
+    }
+}
@@ -0,0 +1,126 @@
+package com.archetype.layer.persistence.internal;
+
+import com.archetype.layer.persistence.document.MoveDocument;
+import com.archetype.layer.persistence.document.SpeciesDocument;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SpeciesSchemaMigration against a real MongoDB, starting from species documents in the legacy schema.
+ */
+@Testcontainers
+class SpeciesSchemaMigrationIT {
+
+    @Container
+    static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+    private static MongoClient client;
+    private static MongoTemplate template;
+
+    private MongoCollection<Document> species;
+    private MongoCollection<Document> moves;
+    private SpeciesSchemaMigration migration;
+
+    @BeforeAll
+    static void setUp() {
+        client = MongoClients.create(MONGO.getReplicaSetUrl());
+        template = new MongoTemplate(client, "schema-migration");
+    }
+
+    @AfterAll
+    static void tearDown() {
+        client.close();
+    }
+
+    @BeforeEach
+    void setUpCollections() {
+        template.dropCollection(SpeciesDocument.class);
+        template.dropCollection(MoveDocument.class);
+        species = template.getCollection(template.getCollectionName(SpeciesDocument.class));
+        moves = template.getCollection(template.getCollectionName(MoveDocument.class));
+        migration = new SpeciesSchemaMigration(template);
+    }
+
+    @Test
+    @DisplayName("Legacy species are rewritten to element-only types and sorted learnsets, with move names moved to the dictionary")
+    void migrate_convertsLegacySpecies() {
+        species.insertOne(new Document("_id", 6).append("name", "charizard")
+                                                .append("firstType", embeddedType("FIRE"))
+                                                .append("secondType", embeddedType("FLYING"))
+                                                .append("moves", new Document("85", "thunderbolt").append("9", "thunder-punch")
+                                                                                                  .append("10", "scratch")));
+        species.insertOne(new Document("_id", 25).append("name", "pikachu")
+                                                 .append("firstType", embeddedType("ELECTRIC"))
+                                                 .append("secondType", null)
+                                                 .append("moves", new Document("84", "thunder-shock").append("85", "thunderbolt")));
+        // Already compact: left alone by both migrations
+        species.insertOne(new Document("_id", 1).append("name", "bulbasaur")
+                                                .append("firstType", "GRASS")
+                                                .append("secondType", "POISON")
+                                                .append("learnset", List.of(22, 33)));
+        moves.insertOne(new Document("number", 33).append("name", "tackle"));
+
+        assertEquals(2, migration.migrateTypes());
+        assertEquals(2, migration.migrateMoves());
+
+        Document charizard = species.find(new Document("_id", 6)).first();
+        assertEquals("FIRE", charizard.get("firstType"));
+        assertEquals("FLYING", charizard.get("secondType"));
+        assertEquals(List.of(9, 10, 85), charizard.getList("learnset", Integer.class));
+        assertFalse(charizard.containsKey("moves"));
+
+        Document pikachu = species.find(new Document("_id", 25)).first();
+        assertEquals("ELECTRIC", pikachu.get("firstType"));
+        assertNull(pikachu.get("secondType"));
+        assertEquals(List.of(84, 85), pikachu.getList("learnset", Integer.class));
+        assertFalse(pikachu.containsKey("moves"));
+
+        Document bulbasaur = species.find(new Document("_id", 1)).first();
+        assertEquals("GRASS", bulbasaur.get("firstType"));
+        assertEquals(List.of(22, 33), bulbasaur.getList("learnset", Integer.class));
+
+        Map<Integer, String> dictionary = new TreeMap<>();
+        moves.find().forEach(move -> dictionary.put(move.getInteger("number"), move.getString("name")));
+        assertEquals(Map.of(9, "thunder-punch", 10, "scratch", 33, "tackle", 84, "thunder-shock", 85, "thunderbolt"), dictionary);
+    }
+
+    @Test
+    @DisplayName("Running the migrations again on a converted collection changes nothing")
+    void migrate_isIdempotent() {
+        species.insertOne(new Document("_id", 25).append("name", "pikachu")
+                                                 .append("firstType", embeddedType("ELECTRIC"))
+                                                 .append("moves", new Document("84", "thunder-shock")));
+        migration.onApplicationStarted();
+        List<Document> converted = species.find().into(new ArrayList<>());
+
+        assertEquals(0, migration.migrateTypes());
+        assertEquals(0, migration.migrateMoves());
+        assertEquals(converted, species.find().into(new ArrayList<>()));
+        assertEquals(1, moves.countDocuments());
+    }
+
+    private static Document embeddedType(String element) {
+        return new Document("element", element).append("strongVs", List.of())
+                                               .append("weakVs", List.of())
+                                               .append("immuneTo", List.of())
+                                               .append("resists", List.of());
+    }
+}
@@ -0,0 +1,63 @@
+package com.archetype.layer.client.pokeapi;
+
+import com.archetype.layer.client.pokeapi.dto.PokeApiPokemon;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares decoding a PokeAPI {@code /pokemon/{id}} payload with Jackson databind followed by move filtering
+ * (what the Feign client did before) against the filtering {@link PokeApiPokemonReader}.
+ * <p>
+ * Run with {@code ./gradlew jmh -PjmhIncludes=PokeApiPokemonDecoding}; the gc profiler reports allocation per decode.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PokeApiPokemonDecodingBenchmark {
+
+    @Param({"pokemon-1.json", "pokemon-25.json"})
+    public String fixture;
+
+    private byte[] payload;
+    private ObjectMapper objectMapper;
+    private PokeApiPokemonReader reader;
+
+    @Setup
+    public void setUp() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/fixtures/pokeapi/" + fixture)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing fixture " + fixture);
+            }
+            payload = in.readAllBytes();
+        }
+        // Same leniency as the application's mapper: the payload carries far more fields than the DTOs map.
+        objectMapper = JsonMapper.builder().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES).build();
+        reader = new PokeApiPokemonReader(objectMapper.getFactory());
+    }
+
+    @Benchmark
+    public List<PokeApiPokemon.PokeApiMove> databindThenFilter() throws IOException {
+        PokeApiPokemon pokemon = objectMapper.readValue(new ByteArrayInputStream(payload), PokeApiPokemon.class);
+        return pokemon.moves().stream().filter(PokeApiPokemon.PokeApiMove::isValid).toList();
+    }
+
+    @Benchmark
+    public List<PokeApiPokemon.PokeApiMove> streamingReader() throws IOException {
+        return reader.read(new ByteArrayInputStream(payload)).moves();
+    }
+}
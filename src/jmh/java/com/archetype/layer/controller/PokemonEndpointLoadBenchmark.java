@@ -0,0 +1,84 @@
+package com.archetype.layer.controller;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load comparison of the blocking and reactive Pokemon listing endpoints of a running application.
+ * <p>
+ * Many more clients ({@value #CLIENTS}) than servlet threads call each endpoint. Throughput mode reports requests
+ * per millisecond and sample-time mode reports the latency distribution, including p99. Start the application with a
+ * constrained thread budget and both stacks enabled, e.g.
+ * {@code --server.tomcat.threads.max=8 --pokemon.reactive.enabled=true} against a populated {@code pokemons}
+ * collection, then run {@code ./gradlew jmh -PjmhIncludes=PokemonEndpointLoad}. The blocking endpoint holds one
+ * of the 8 threads for the whole database call, the reactive one only while handling the request and response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(PokemonEndpointLoadBenchmark.CLIENTS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 20)
+public class PokemonEndpointLoadBenchmark {
+
+    static final int CLIENTS = 64;
+
+    @Param("http://localhost:8080")
+    public String baseUrl;
+
+    @Param("50")
+    public int pageSize;
+
+    private HttpClient client;
+    private HttpRequest blockingList;
+    private HttpRequest reactiveList;
+
+    @Setup
+    public void setUp() throws IOException, InterruptedException {
+        client = HttpClient.newBuilder()
+                           .version(HttpClient.Version.HTTP_1_1)
+                           .connectTimeout(Duration.ofSeconds(5))
+                           .build();
+        blockingList = HttpRequest.newBuilder(URI.create(baseUrl + "/api/pokemon?size=" + pageSize)).GET().build();
+        reactiveList = HttpRequest.newBuilder(URI.create(baseUrl + "/api/reactive/pokemon?size=" + pageSize)).GET().build();
+
+        // Fail fast when the application is not up or the reactive endpoints are disabled
+        call(blockingList);
+        call(reactiveList);
+    }
+
+    @Benchmark
+    public int blockingList() throws IOException, InterruptedException {
+        return call(blockingList);
+    }
+
+    @Benchmark
+    public int reactiveList() throws IOException, InterruptedException {
+        return call(reactiveList);
+    }
+
+    private int call(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(request.uri() + " answered " + response.statusCode());
+        }
+        return response.body().length;
+    }
+}
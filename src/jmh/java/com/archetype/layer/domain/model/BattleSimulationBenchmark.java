@@ -0,0 +1,71 @@
+package com.archetype.layer.domain.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the {@link BattleSimulator} inner loop: single battles, a sequential batch, and the same batch
+ * spread over a fork/join pool with one worker per core. The gc profiler in the jmh configuration should report no
+ * allocation per battle.
+ * <p>
+ * Run with {@code ./gradlew jmh -PjmhIncludes=BattleSimulation}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BattleSimulationBenchmark {
+
+    @Param({"100000"})
+    public int battles;
+
+    private BattleSimulator simulator;
+    private SplittableRandom random;
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Species pikachu = new Species(25, "pikachu", Type.electric, null, List.of(), Map.of(),
+                new Species.PokemonStats(55, 40, 50, 50, 90, 35));
+        Species gyarados = new Species(130, "gyarados", Type.water, Type.flying, List.of(), Map.of(),
+                new Species.PokemonStats(125, 79, 60, 100, 81, 95));
+        simulator = new BattleSimulator(Combatant.of(pikachu, 50), Combatant.of(gyarados, 50));
+        random = new SplittableRandom(42);
+        pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public int singleBattle() {
+        return simulator.battle(random);
+    }
+
+    @Benchmark
+    public BattleOutcome sequentialBatch() {
+        return simulator.simulate(battles, random);
+    }
+
+    @Benchmark
+    public BattleOutcome forkJoinBatch() {
+        return simulator.simulate(battles, random.nextLong(), pool);
+    }
+}
@@ -0,0 +1,74 @@
+package com.archetype.layer.domain.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the combined effectiveness of an attacking type against a dual-typed defender computed with
+ * {@link TypeChart} against the same rule evaluated with {@code contains} scans over the matchup lists of
+ * {@link Type}, as battle and team analysis would call it in a tight loop.
+ * <p>
+ * Each invocation evaluates {@value #MATCHUPS} random attacker × (first, second) combinations.
+ * Run with {@code ./gradlew jmh -PjmhIncludes=TypeEffectiveness}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TypeEffectivenessBenchmark {
+
+    static final int MATCHUPS = 1024;
+
+    private final Element[] attacking = new Element[MATCHUPS];
+    private final Element[] firstTypes = new Element[MATCHUPS];
+    private final Element[] secondTypes = new Element[MATCHUPS];
+
+    @Setup
+    public void setUp() {
+        Element[] elements = Element.values();
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < MATCHUPS; i++) {
+            attacking[i] = elements[random.nextInt(18)];
+            firstTypes[i] = elements[random.nextInt(18)];
+            // A third of the defenders are single-typed
+            secondTypes[i] = random.nextInt(3) == 0 ? null : elements[random.nextInt(18)];
+        }
+    }
+
+    @Benchmark
+    public double matrix() {
+        double total = 0;
+        for (int i = 0; i < MATCHUPS; i++) {
+            total += TypeChart.effectiveness(attacking[i], firstTypes[i], secondTypes[i]);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double listScans() {
+        double total = 0;
+        for (int i = 0; i < MATCHUPS; i++) {
+            Type attacker = Type.fromElement(attacking[i]);
+            double multiplier = scan(attacker, Type.fromElement(firstTypes[i]));
+            if (secondTypes[i] != null && secondTypes[i] != firstTypes[i]) {
+                multiplier *= scan(attacker, Type.fromElement(secondTypes[i]));
+            }
+            total += multiplier;
+        }
+        return total;
+    }
+
+    private static double scan(Type attacker, Type defender) {
+        if (defender.immuneTo().contains(attacker.element())) return 0;
+        if (defender.weakVs().contains(attacker.element())) return 2;
+        if (defender.resists().contains(attacker.element())) return 0.5;
+        return 1;
+    }
+}
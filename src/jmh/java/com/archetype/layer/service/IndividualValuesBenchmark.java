@@ -0,0 +1,66 @@
+package com.archetype.layer.service;
+
+import com.archetype.layer.domain.model.IndividualValues;
+import com.archetype.layer.domain.model.Pokemon;
+import com.archetype.layer.domain.model.Species;
+import com.archetype.layer.domain.model.Type;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DV rolls and Pokemon construction under concurrent create load. The previous scheme, four {@code nextInt} calls
+ * on one shared {@link Random}, is compared with the per-thread generators of {@link IndividualValuesService} and
+ * with its bulk rolls.
+ * <p>
+ * Run with {@code ./gradlew jmh -PjmhIncludes=IndividualValues}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class IndividualValuesBenchmark {
+
+    private static final int BLOCK = 1000;
+    private static final Species PIKACHU = new Species(25, "pikachu", Type.electric, null, List.of(), Map.of(),
+            new Species.PokemonStats(55, 40, 50, 50, 90, 35));
+
+    private final Random shared = new Random();
+    private final IndividualValuesService service = new IndividualValuesService();
+
+    @Benchmark
+    public IndividualValues sharedRandom() {
+        return new IndividualValues(shared.nextInt(16), shared.nextInt(16), shared.nextInt(16), shared.nextInt(16));
+    }
+
+    @Benchmark
+    public IndividualValues perThreadGenerator() {
+        return service.roll();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BLOCK)
+    public List<IndividualValues> bulk() {
+        return service.rollAll(BLOCK, null);
+    }
+
+    @Benchmark
+    public Pokemon createWithSharedRandom() {
+        return new Pokemon(PIKACHU, "pika", 1, sharedRandom());
+    }
+
+    @Benchmark
+    public Pokemon createWithPerThreadGenerator() {
+        return new Pokemon(PIKACHU, "pika", 1, service.roll());
+    }
+}
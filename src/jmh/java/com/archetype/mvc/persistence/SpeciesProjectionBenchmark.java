@@ -0,0 +1,89 @@
+package com.archetype.mvc.persistence;
+
+import com.archetype.mvc.model.Species;
+import com.archetype.mvc.model.SpeciesSummary;
+import com.archetype.mvc.persistence.document.SpeciesDocument;
+import com.archetype.mvc.persistence.document.SpeciesDocumentFixtures;
+import com.archetype.mvc.persistence.document.SpeciesSummaryDocument;
+import com.archetype.mvc.persistence.internal.PokemonMvcPersistenceMapper;
+import com.archetype.mvc.persistence.internal.PokemonMvcPersistenceMapperImpl;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.Document;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading a species for the pokedex list as a full {@code pokemon-species} document against reading the
+ * {@link SpeciesSummaryDocument} projection: BSON decoding of the wire bytes, conversion to the document record and
+ * mapping to the domain model.
+ * <p>
+ * Run with {@code ./gradlew jmh -PjmhIncludes=SpeciesProjection}; the gc profiler reports allocation per read.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SpeciesProjectionBenchmark {
+
+    private static final DocumentCodec CODEC = new DocumentCodec();
+
+    private MappingMongoConverter converter;
+    private PokemonMvcPersistenceMapper mapper;
+    private byte[] fullBytes;
+    private byte[] summaryBytes;
+
+    @Setup
+    public void setUp() {
+        MongoMappingContext context = new MongoMappingContext();
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, context);
+        converter.afterPropertiesSet();
+        mapper = new PokemonMvcPersistenceMapperImpl();
+
+        Document full = new Document();
+        converter.write(mapper.toDocument(SpeciesDocumentFixtures.charizard()), full);
+        fullBytes = encode(full);
+
+        Document summary = new Document("_id", full.get("_id"))
+                .append("name", full.get("name"))
+                .append("firstType", full.get("firstType"))
+                .append("secondType", full.get("secondType"));
+        summaryBytes = encode(summary);
+    }
+
+    @Benchmark
+    public SpeciesSummary fullDocument() {
+        Species species = mapper.toDomain(converter.read(SpeciesDocument.class, decode(fullBytes)));
+        return new SpeciesSummary(species.nationalId(), species.name(), species.firstType().element(),
+                species.secondType() != null ? species.secondType().element() : null);
+    }
+
+    @Benchmark
+    public SpeciesSummary summaryProjection() {
+        return mapper.toSummary(converter.read(SpeciesSummaryDocument.class, decode(summaryBytes)));
+    }
+
+    private static byte[] encode(Document document) {
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        CODEC.encode(new BsonBinaryWriter(buffer), document, EncoderContext.builder().build());
+        return buffer.toByteArray();
+    }
+
+    private static Document decode(byte[] bytes) {
+        return CODEC.decode(new BsonBinaryReader(ByteBuffer.wrap(bytes)), DecoderContext.builder().build());
+    }
+}
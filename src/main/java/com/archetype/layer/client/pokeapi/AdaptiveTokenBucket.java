@@ -0,0 +1,111 @@
+package com.archetype.layer.client.pokeapi;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket whose refill rate adapts to upstream throttling.
+ * <p>
+ * Every successful call raises the rate by a fixed step up to {@code maxRate}; a throttled call halves it
+ * (at most once per second, so a burst of 429s shrinks it once) down to {@code minRate}, empties the bucket and
+ * pauses all callers until the server-requested delay has passed. Callers reserve a token and are told how long
+ * to wait for it, so waiting threads queue up in arrival order instead of spinning.
+ */
+public class AdaptiveTokenBucket {
+
+    private static final long DECREASE_COOLDOWN_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final double minRate;
+    private final double maxRate;
+    private final double capacity;
+    private final double increaseStep;
+    private final LongSupplier nanoClock;
+
+    private double rate;
+    private double tokens;
+    private long lastRefill;
+    private long pausedUntil;
+    private long lastDecrease;
+
+    public AdaptiveTokenBucket(double initialRate, double minRate, double maxRate, double capacity, double increaseStep) {
+        this(initialRate, minRate, maxRate, capacity, increaseStep, System::nanoTime);
+    }
+
+    AdaptiveTokenBucket(double initialRate, double minRate, double maxRate, double capacity, double increaseStep, LongSupplier nanoClock) {
+        if (minRate <= 0 || maxRate < minRate || capacity < 1) {
+            throw new IllegalArgumentException("Invalid token bucket limits: min-rate=" + minRate + ", max-rate=" + maxRate + ", burst=" + capacity);
+        }
+        this.minRate = minRate;
+        this.maxRate = maxRate;
+        this.capacity = capacity;
+        this.increaseStep = increaseStep;
+        this.nanoClock = nanoClock;
+        this.rate = Math.clamp(initialRate, minRate, maxRate);
+        this.tokens = capacity;
+        this.lastRefill = nanoClock.getAsLong();
+        this.pausedUntil = lastRefill;
+        this.lastDecrease = lastRefill - DECREASE_COOLDOWN_NANOS;
+    }
+
+    /**
+     * Take a token, blocking until it is available.
+     *
+     * @return nanoseconds spent waiting
+     */
+    public long acquire() throws InterruptedException {
+        long wait = reserve();
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+        return wait;
+    }
+
+    /**
+     * Reserve a token.
+     *
+     * @return nanoseconds the caller must wait before using it
+     */
+    synchronized long reserve() {
+        long now = nanoClock.getAsLong();
+        refill(now);
+        tokens -= 1;
+        long pauseWait = Math.max(0, pausedUntil - now);
+        long tokenWait = tokens >= 0 ? 0 : (long) (-tokens / rate * TimeUnit.SECONDS.toNanos(1));
+        return pauseWait + tokenWait;
+    }
+
+    public synchronized void onSuccess() {
+        rate = Math.min(maxRate, rate + increaseStep);
+    }
+
+    /**
+     * Shrink the rate and stop handing out tokens for {@code pauseNanos}.
+     */
+    public synchronized void onThrottled(long pauseNanos) {
+        long now = nanoClock.getAsLong();
+        refill(now);
+        if (now - lastDecrease >= DECREASE_COOLDOWN_NANOS) {
+            rate = Math.max(minRate, rate / 2);
+            lastDecrease = now;
+        }
+        tokens = Math.min(tokens, 0);
+        pausedUntil = Math.max(pausedUntil, now + pauseNanos);
+    }
+
+    public synchronized double rate() {
+        return rate;
+    }
+
+    public synchronized double availableTokens() {
+        refill(nanoClock.getAsLong());
+        return tokens;
+    }
+
+    private void refill(long now) {
+        long from = Math.max(lastRefill, pausedUntil);
+        if (now > from) {
+            tokens = Math.min(capacity, tokens + (now - from) * rate / TimeUnit.SECONDS.toNanos(1));
+        }
+        lastRefill = Math.max(lastRefill, now);
+    }
+}
@@ -0,0 +1,173 @@
+package com.archetype.layer.client.pokeapi;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Feign {@link Client} decorator that serves PokeAPI GET requests from a {@link PokeApiResponseCache}.
+ * <p>
+ * Fresh entries are answered from disk without touching the network. Stale entries are revalidated with
+ * {@code If-None-Match} / {@code If-Modified-Since}; a 304 answer refreshes the entry and the cached body is served.
+ * Freshness comes from the response {@code Cache-Control: max-age}, falling back to the configured TTL.
+ * <p>
+ * {@code pokeapi.http.cache} counts requests by {@code result}: {@code hit} (served from disk), {@code revalidated}
+ * (served from disk after a 304), {@code miss} (fetched and stored) and {@code bypass} (fetched but not stored,
+ * because the response is not a 200, is marked {@code no-store} or is still content-encoded).
+ */
+@Slf4j
+public class CachingPokeApiClient implements Client {
+
+    static final String CACHE_COUNTER = "pokeapi.http.cache";
+
+    private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+
+    private final Client delegate;
+    private final PokeApiResponseCache cache;
+    private final Duration defaultTtl;
+    private final Clock clock;
+    private final MeterRegistry meterRegistry;
+
+    public CachingPokeApiClient(Client delegate, PokeApiResponseCache cache, Duration defaultTtl, Clock clock, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.defaultTtl = defaultTtl;
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        if (request.httpMethod() != Request.HttpMethod.GET) {
+            return delegate.execute(request, options);
+        }
+
+        String url = request.url();
+        Optional<PokeApiResponseCache.Entry> cached = cache.get(url);
+
+        if (cached.isPresent() && cached.get().isFresh(clock.instant())) {
+            Optional<byte[]> body = cache.body(cached.get());
+            if (body.isPresent()) {
+                record("hit");
+                return cachedResponse(request, cached.get(), body.get());
+            }
+            cached = Optional.empty();
+        }
+
+        Response response = delegate.execute(cached.map(entry -> conditional(request, entry)).orElse(request), options);
+
+        if (response.status() == 304 && cached.isPresent()) {
+            Optional<byte[]> body = cache.body(cached.get());
+            if (body.isPresent()) {
+                response.close();
+                record("revalidated");
+                PokeApiResponseCache.Entry refreshed = cache.revalidated(cached.get(), expiresAt(response));
+                return cachedResponse(request, refreshed, body.get());
+            }
+            // Body was evicted while revalidating: fetch it again unconditionally
+            response.close();
+            response = delegate.execute(request, options);
+        }
+
+        if (response.status() != 200 || response.body() == null || noStore(response) || encoded(response)) {
+            record("bypass");
+            return response;
+        }
+        record("miss");
+
+        byte[] body;
+        try (InputStream in = response.body().asInputStream()) {
+            body = in.readAllBytes();
+        }
+        PokeApiResponseCache.Entry entry = cache.put(url, body,
+                header(response, "Content-Type"),
+                header(response, "ETag"),
+                header(response, "Last-Modified"),
+                expiresAt(response));
+        log.debug("Cached PokeAPI response for {} ({} bytes)", url, body.length);
+        return cachedResponse(request, entry, body);
+    }
+
+    private Request conditional(Request request, PokeApiResponseCache.Entry entry) {
+        Map<String, Collection<String>> headers = new LinkedHashMap<>(request.headers());
+        if (entry.etag() != null) {
+            headers.put("If-None-Match", List.of(entry.etag()));
+        }
+        if (entry.lastModified() != null) {
+            headers.put("If-Modified-Since", List.of(entry.lastModified()));
+        }
+        return Request.create(request.httpMethod(), request.url(), headers, request.body(), request.charset(), request.requestTemplate());
+    }
+
+    private Response cachedResponse(Request request, PokeApiResponseCache.Entry entry, byte[] body) {
+        Map<String, Collection<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        if (entry.contentType() != null) {
+            headers.put("Content-Type", List.of(entry.contentType()));
+        }
+        if (entry.etag() != null) {
+            headers.put("ETag", List.of(entry.etag()));
+        }
+        return Response.builder()
+                       .status(200)
+                       .reason("OK")
+                       .request(request)
+                       .headers(headers)
+                       .body(body)
+                       .build();
+    }
+
+    private Instant expiresAt(Response response) {
+        String cacheControl = header(response, "Cache-Control");
+        if (cacheControl != null) {
+            Matcher matcher = MAX_AGE.matcher(cacheControl);
+            if (matcher.find()) {
+                return clock.instant().plusSeconds(Long.parseLong(matcher.group(1)));
+            }
+        }
+        return clock.instant().plus(defaultTtl);
+    }
+
+    private static boolean noStore(Response response) {
+        String cacheControl = header(response, "Cache-Control");
+        return cacheControl != null && cacheControl.contains("no-store");
+    }
+
+    /**
+     * Whether the body is still content-encoded; cached bodies are served without a Content-Encoding header,
+     * so only identity-encoded bodies can be stored.
+     */
+    private static boolean encoded(Response response) {
+        String contentEncoding = header(response, "Content-Encoding");
+        return contentEncoding != null && !contentEncoding.isBlank() && !"identity".equalsIgnoreCase(contentEncoding.trim());
+    }
+
+    private static String header(Response response, String name) {
+        return response.headers()
+                       .entrySet()
+                       .stream()
+                       .filter(e -> e.getKey() != null && e.getKey().equalsIgnoreCase(name))
+                       .flatMap(e -> e.getValue().stream())
+                       .findFirst()
+                       .orElse(null);
+    }
+
+    private void record(String result) {
+        meterRegistry.counter(CACHE_COUNTER, "result", result).increment();
+    }
+}
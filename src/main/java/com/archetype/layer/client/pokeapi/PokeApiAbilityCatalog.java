@@ -0,0 +1,107 @@
+package com.archetype.layer.client.pokeapi;
+
+import com.archetype.layer.domain.model.Ability;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * In-process catalog of PokeAPI abilities keyed by their API name (e.g. "overgrow").
+ * <p>
+ * Each name is fetched at most once: the first caller registers an in-flight future and performs the request,
+ * concurrent callers for the same name wait on that future instead of issuing their own request.
+ * Entries are kept without the per-species {@code hidden} flag, which callers apply themselves.
+ */
+@Component
+public class PokeApiAbilityCatalog {
+
+    static final String LOOKUP_COUNTER = "pokeapi.abilities.catalog.lookups";
+
+    private final Map<String, CompletableFuture<Ability>> entries = new ConcurrentHashMap<>();
+    private final Map<String, Ability> fetched = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    public PokeApiAbilityCatalog(MeterRegistry meterRegistry) {
+        this.hits = meterRegistry.counter(LOOKUP_COUNTER, "result", "hit");
+        this.misses = meterRegistry.counter(LOOKUP_COUNTER, "result", "miss");
+        Gauge.builder("pokeapi.abilities.catalog.size", entries, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * Resolve an ability, invoking the loader only if no other caller has fetched or is fetching the same name.
+     *
+     * @param name   PokeAPI ability name
+     * @param loader fetches the ability when it is not in the catalog yet
+     * @return the catalog entry for the name
+     */
+    public Ability resolve(String name, Function<String, Ability> loader) {
+        CompletableFuture<Ability> mine = new CompletableFuture<>();
+        CompletableFuture<Ability> existing = entries.putIfAbsent(name, mine);
+
+        if (existing != null) {
+            hits.increment();
+            return join(existing);
+        }
+
+        misses.increment();
+        try {
+            Ability ability = loader.apply(name);
+            fetched.put(name, ability);
+            mine.complete(ability);
+            return ability;
+        } catch (Throwable ex) {
+            // Let a later lookup retry instead of caching the failure; errors too, or waiters would block forever
+            entries.remove(name, mine);
+            mine.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    /**
+     * Seed the catalog with abilities persisted by a previous ingest run.
+     *
+     * @param abilities abilities keyed by PokeAPI name
+     */
+    public void preload(Map<String, Ability> abilities) {
+        abilities.forEach((name, ability) -> entries.putIfAbsent(name, CompletableFuture.completedFuture(ability)));
+    }
+
+    /**
+     * Return the abilities fetched from PokeAPI since the last call, so they can be persisted.
+     *
+     * @return newly fetched abilities keyed by PokeAPI name
+     */
+    public Map<String, Ability> drainFetched() {
+        Map<String, Ability> drained = new HashMap<>();
+        fetched.keySet().forEach(name -> {
+            Ability ability = fetched.remove(name);
+            if (ability != null) {
+                drained.put(name, ability);
+            }
+        });
+        return drained;
+    }
+
+    private static Ability join(CompletableFuture<Ability> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        }
+    }
+}
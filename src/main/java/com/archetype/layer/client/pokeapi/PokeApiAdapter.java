@@ -1,50 +1,133 @@
 package com.archetype.layer.client.pokeapi;
 
+import com.archetype.layer.client.pokeapi.dto.PokeApiAbility;
 import com.archetype.layer.client.pokeapi.dto.PokeApiPokemon;
+import com.archetype.layer.client.pokeapi.dto.PokeApiPokemon.PokeApiAbility.PokeApiAbilityInfo;
 import com.archetype.layer.domain.model.Ability;
 import com.archetype.layer.domain.model.Element;
 import com.archetype.layer.domain.model.Species;
 import com.archetype.layer.domain.model.Type;
+import com.archetype.layer.exception.PokemonServiceException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
  * Service for populating the database with Pokemon data from PokeAPI.
- * Fetches the first 151 Pokemon from PokeAPI and saves them to the MongoDB database.
+ * Fetches species by national ID from PokeAPI and maps them to the domain model.
  * Follows ADR 0007 (Prefer OpenFeign) and ADR 0002 (Domain separation and mapping).
+ * <p>
+ * Species flow through a {@link SpeciesIngestionPipeline}. Every call to {@link PokeApiClient} holds one of
+ * {@code clients.pokeapi.max-concurrency} permits, so the upstream never sees more requests in flight than configured.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class PokeApiAdapter {
 
+    static final String CLIENT_TIMER = "pokeapi.client.requests";
+    static final String INGEST_TIMER = "pokeapi.ingest.duration";
+
     final PokeApiClient client;
 
-    public List<Species> getFirstGenerationSpecies() {
+    private final PokeApiAbilityCatalog abilityCatalog;
+
+    private final SpeciesIngestionPipeline pipeline;
+
+    private final PokeApiDumpReader dumpReader;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${clients.pokeapi.max-concurrency:8}")
+    private final int maxConcurrency;
+
+    /**
+     * Seed the ability catalog so abilities persisted by earlier loads are not fetched again.
+     *
+     * @param abilities abilities keyed by PokeAPI name
+     */
+    public void primeAbilities(Map<String, Ability> abilities) {
+        abilityCatalog.preload(abilities);
+    }
+
+    /**
+     * Abilities fetched from PokeAPI since the last call, keyed by PokeAPI name.
+     */
+    public Map<String, Ability> takeFetchedAbilities() {
+        return abilityCatalog.drainFetched();
+    }
+
+    /**
+     * Fetch, map and hand over to {@code sink} every species between two national IDs, both inclusive.
+     *
+     * @param firstId   first national ID to fetch
+     * @param lastId    last national ID to fetch
+     * @param batchSize species per batch handed to the sink
+     * @param sink      persists each batch
+     * @return number of species handed to the sink
+     */
+    public int ingest(int firstId, int lastId, int batchSize, SpeciesBatchSink sink) {
+
+        Timer.Sample ingest = Timer.start(meterRegistry);
+        Semaphore permits = new Semaphore(Math.max(1, maxConcurrency));
+        try {
+            int count = pipeline.run(firstId, lastId, maxConcurrency, batchSize,
+                    nationalId -> call("getPokemonById", permits, () -> client.getPokemonById(nationalId)),
+                    pokemon -> toSpecies(pokemon, info -> call("getAbilityByName", permits, () -> client.getAbilityByName(info.name()))),
+                    sink);
+            log.info("Ingested {} species from PokeAPI with max concurrency {}", count, maxConcurrency);
+            return count;
+        } finally {
+            ingest.stop(meterRegistry.timer(INGEST_TIMER, "source", "api"));
+        }
+    }
 
-        List<Species> firstGen = new ArrayList<>();
-        for (int i = 1; i <= 151; i++) {
-            PokeApiPokemon pokemon = client.getPokemonById(i);
-            firstGen.add(toSpecies(pokemon));
+    /**
+     * Same as {@link #ingest} but reading the local PokeAPI dump instead of calling PokeAPI.
+     */
+    public int ingestFromDump(int firstId, int lastId, int batchSize, SpeciesBatchSink sink) {
+
+        Timer.Sample ingest = Timer.start(meterRegistry);
+        try {
+            int count = pipeline.run(firstId, lastId, Runtime.getRuntime().availableProcessors(), batchSize,
+                    dumpReader::pokemon,
+                    pokemon -> toSpecies(pokemon, dumpReader::ability),
+                    sink);
+            log.info("Imported {} species from the local PokeAPI dump", count);
+            return count;
+        } finally {
+            ingest.stop(meterRegistry.timer(INGEST_TIMER, "source", "dump"));
         }
-        return firstGen;
     }
 
-    private Species toSpecies(PokeApiPokemon pokemon) {
+    /**
+     * Highest national ID, up to {@code upperBound}, for which the local dump holds every species from 1 on.
+     *
+     * @return 0 when no dump is configured
+     */
+    public int lastIdInDump(int upperBound) {
+        return dumpReader.lastContiguousPokemonId(upperBound);
+    }
+
+    private Species toSpecies(PokeApiPokemon pokemon, Function<PokeApiAbilityInfo, PokeApiAbility> abilitySource) {
 
         Type firstType = Type.fromElement(Element.valueOf(pokemon.types().getFirst().type().name().toUpperCase()));
         Type secondType = pokemon.types().size() > 1 ? Type.fromElement(Element.valueOf(pokemon.types().get(1).type().name().toUpperCase())) : null;
 
         List<Ability> abilities1 = pokemon.abilities()
                                           .stream()
-                                          .map(ab -> getAbilityByName(ab.ability().name(), ab.isHidden()))
+                                          .map(ab -> getAbility(ab.ability(), ab.isHidden(), abilitySource))
                                           .toList();
 
 
@@ -85,15 +168,35 @@ public class PokeApiAdapter {
         );
     }
 
-    private Ability getAbilityByName(String name, boolean hidden) {
-        var ab = client.getAbilityByName(name);
+    private Ability getAbility(PokeApiAbilityInfo info, boolean hidden, Function<PokeApiAbilityInfo, PokeApiAbility> abilitySource) {
+        Ability ab = abilityCatalog.resolve(info.name(), key -> toAbility(abilitySource.apply(info)));
+        return new Ability(ab.id(), ab.name(), ab.description(), hidden);
+    }
+
+    private static Ability toAbility(PokeApiAbility ab) {
         return new Ability(ab.id(), ab.name(), ab.effects().stream()
                                                  .filter(a -> "en".equals(a.language().name()))
+                                                 .map(PokeApiAbility.EffectEntry::effect)
                                                  .findFirst()
-                                                 .map(x -> x.language().name()).stream().findFirst().orElseGet(() -> ""),
-                hidden);
-
+                                                 .orElse(""),
+                null);
     }
 
+    /**
+     * Run a single PokeAPI call while holding a concurrency permit, recording its latency.
+     */
+    private <T> T call(String operation, Semaphore permits, Supplier<T> request) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw PokemonServiceException.externalServiceFailure("PokeAPI", operation, ex);
+        }
+        try {
+            return meterRegistry.timer(CLIENT_TIMER, "operation", operation).record(request);
+        } finally {
+            permits.release();
+        }
+    }
 
 }
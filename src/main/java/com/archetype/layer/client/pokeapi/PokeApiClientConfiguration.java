@@ -1,13 +1,27 @@
 package com.archetype.layer.client.pokeapi;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Client;
 import feign.Logger;
 import feign.Request;
+import feign.codec.Decoder;
 import feign.codec.ErrorDecoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.okhttp3.OkHttpConnectionPoolMetrics;
 import lombok.extern.slf4j.Slf4j;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
 
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -25,6 +39,60 @@ public class PokeApiClientConfiguration {
     @Value("${clients.pokeapi.read-timeout:10000}")
     private int readTimeout;
 
+    @Value("${clients.pokeapi.http.transport:okhttp}")
+    private String transport;
+
+    @Value("${clients.pokeapi.http.pool.max-idle:16}")
+    private int poolMaxIdle;
+
+    @Value("${clients.pokeapi.http.pool.keep-alive:5m}")
+    private Duration poolKeepAlive;
+
+    @Value("${clients.pokeapi.http.http2:true}")
+    private boolean http2;
+
+    @Value("${clients.pokeapi.http.compression:true}")
+    private boolean compression;
+
+    @Value("${clients.pokeapi.cache.enabled:true}")
+    private boolean cacheEnabled;
+
+    @Value("${clients.pokeapi.cache.directory:${java.io.tmpdir}/pokeapi-cache}")
+    private Path cacheDirectory;
+
+    @Value("${clients.pokeapi.cache.max-size:64MB}")
+    private DataSize cacheMaxSize;
+
+    @Value("${clients.pokeapi.cache.ttl:24h}")
+    private Duration cacheTtl;
+
+    @Value("${clients.pokeapi.rate-limit.enabled:true}")
+    private boolean rateLimitEnabled;
+
+    @Value("${clients.pokeapi.rate-limit.initial-rate:20}")
+    private double rateLimitInitialRate;
+
+    @Value("${clients.pokeapi.rate-limit.min-rate:1}")
+    private double rateLimitMinRate;
+
+    @Value("${clients.pokeapi.rate-limit.max-rate:100}")
+    private double rateLimitMaxRate;
+
+    @Value("${clients.pokeapi.rate-limit.burst:10}")
+    private double rateLimitBurst;
+
+    @Value("${clients.pokeapi.rate-limit.increase-step:0.5}")
+    private double rateLimitIncreaseStep;
+
+    @Value("${clients.pokeapi.rate-limit.max-attempts:5}")
+    private int rateLimitMaxAttempts;
+
+    @Value("${clients.pokeapi.rate-limit.backoff-base:200ms}")
+    private Duration rateLimitBackoffBase;
+
+    @Value("${clients.pokeapi.rate-limit.backoff-max:30s}")
+    private Duration rateLimitBackoffMax;
+
     /**
      * Configure request options for PokeAPI client.
      * Sets connection and read timeouts based on configuration.
@@ -55,4 +123,72 @@ public class PokeApiClientConfiguration {
     public ErrorDecoder pokeApiErrorDecoder() {
         return new PokeApiClientErrorDecoder();
     }
+
+    /**
+     * Configure the decoder for PokeAPI responses.
+     * Pokemon payloads are parsed with a streaming reader that drops unused fields and move details while tokenizing.
+     */
+    @Bean
+    public Decoder pokeApiDecoder(ObjectMapper objectMapper) {
+        return new PokeApiPokemonDecoder(new PokeApiPokemonReader(objectMapper.getFactory()), objectMapper);
+    }
+
+    /**
+     * Configure the HTTP client used by PokeAPI requests.
+     * Requests pass through the response cache, then the adaptive rate limiter, then the transport, so cache hits
+     * never spend rate limit tokens. The transport is pooled OkHttp unless {@code clients.pokeapi.http.transport}
+     * is {@code default}. When the response cache is enabled, GET responses are kept on disk and
+     * revalidated with ETag/If-Modified-Since, so repeated species loads are served locally.
+     */
+    @Bean
+    public Client pokeApiHttpClient(MeterRegistry meterRegistry) {
+        Clock clock = Clock.systemUTC();
+        Client client = transport(meterRegistry);
+        if (rateLimitEnabled) {
+            log.info("PokeAPI rate limiter enabled ({}/s initial, {}-{}/s, burst {}, {} attempts)",
+                    rateLimitInitialRate, rateLimitMinRate, rateLimitMaxRate, rateLimitBurst, rateLimitMaxAttempts);
+            AdaptiveTokenBucket bucket = new AdaptiveTokenBucket(rateLimitInitialRate, rateLimitMinRate, rateLimitMaxRate,
+                    rateLimitBurst, rateLimitIncreaseStep);
+            client = new ThrottlingPokeApiClient(client, bucket, rateLimitMaxAttempts, rateLimitBackoffBase,
+                    rateLimitBackoffMax, clock, meterRegistry);
+        }
+        if (cacheEnabled) {
+            log.info("PokeAPI response cache enabled at {} (max {}, ttl {})", cacheDirectory, cacheMaxSize, cacheTtl);
+            PokeApiResponseCache cache = new PokeApiResponseCache(cacheDirectory, cacheMaxSize.toBytes(), clock);
+            client = new CachingPokeApiClient(client, cache, cacheTtl, clock, meterRegistry);
+        }
+        return client;
+    }
+
+    /**
+     * Build the transport at the bottom of the client chain.
+     * OkHttp keeps a keep-alive connection pool, negotiates HTTP/2 over TLS and transparently requests and inflates
+     * gzip responses, so bodies reaching the cache are already decompressed.
+     */
+    Client transport(MeterRegistry meterRegistry) {
+        if ("default".equalsIgnoreCase(transport)) {
+            log.info("PokeAPI transport: HttpURLConnection");
+            return new Client.Default(null, null);
+        }
+
+        ConnectionPool pool = new ConnectionPool(poolMaxIdle, poolKeepAlive.toMillis(), TimeUnit.MILLISECONDS);
+        new OkHttpConnectionPoolMetrics(pool, "pokeapi.http", Tags.empty(), poolMaxIdle).bindTo(meterRegistry);
+
+        OkHttpClient.Builder builder = new OkHttpClient.Builder()
+                .connectionPool(pool)
+                .protocols(http2 ? List.of(Protocol.HTTP_2, Protocol.HTTP_1_1) : List.of(Protocol.HTTP_1_1))
+                .eventListenerFactory(PokeApiConnectionEventListener.factory(meterRegistry))
+                .connectTimeout(connectTimeout, TimeUnit.MILLISECONDS)
+                .readTimeout(readTimeout, TimeUnit.MILLISECONDS);
+        if (!compression) {
+            // OkHttp only asks for gzip when the request does not set Accept-Encoding itself
+            builder.addInterceptor(chain -> chain.proceed(chain.request()
+                                                               .newBuilder()
+                                                               .header("Accept-Encoding", "identity")
+                                                               .build()));
+        }
+
+        log.info("PokeAPI transport: OkHttp (pool {} idle / {}, http2 {}, gzip {})", poolMaxIdle, poolKeepAlive, http2, compression);
+        return new feign.okhttp.OkHttpClient(builder.build());
+    }
 }
@@ -0,0 +1,67 @@
+package com.archetype.layer.client.pokeapi;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.EventListener;
+import okhttp3.Protocol;
+
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OkHttp call listener that measures how long PokeAPI calls wait for a connection.
+ * <p>
+ * {@code pokeapi.http.connection.acquire} is the time from the start of a call until it holds a connection, tagged
+ * with whether a pooled connection was reused; {@code pokeapi.http.connection.setup} is the DNS + TCP + TLS time of
+ * newly opened connections, tagged with the negotiated protocol.
+ */
+public class PokeApiConnectionEventListener extends EventListener {
+
+    static final String ACQUIRE_TIMER = "pokeapi.http.connection.acquire";
+    static final String SETUP_TIMER = "pokeapi.http.connection.setup";
+
+    private final MeterRegistry meterRegistry;
+
+    private long callStart;
+    private long connectStart;
+    private boolean connected;
+
+    PokeApiConnectionEventListener(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public static EventListener.Factory factory(MeterRegistry meterRegistry) {
+        return call -> new PokeApiConnectionEventListener(meterRegistry);
+    }
+
+    @Override
+    public void callStart(Call call) {
+        callStart = System.nanoTime();
+    }
+
+    @Override
+    public void connectStart(Call call, InetSocketAddress address, Proxy proxy) {
+        connectStart = System.nanoTime();
+    }
+
+    @Override
+    public void connectEnd(Call call, InetSocketAddress address, Proxy proxy, Protocol protocol) {
+        connected = true;
+        Timer.builder(SETUP_TIMER)
+             .tag("protocol", protocol != null ? protocol.toString() : "unknown")
+             .register(meterRegistry)
+             .record(System.nanoTime() - connectStart, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void connectionAcquired(Call call, Connection connection) {
+        Timer.builder(ACQUIRE_TIMER)
+             .tag("reused", String.valueOf(!connected))
+             .tag("protocol", connection.protocol().toString())
+             .register(meterRegistry)
+             .record(System.nanoTime() - callStart, TimeUnit.NANOSECONDS);
+    }
+}
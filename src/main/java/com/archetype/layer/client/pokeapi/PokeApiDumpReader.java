@@ -0,0 +1,120 @@
+package com.archetype.layer.client.pokeapi;
+
+import com.archetype.layer.client.pokeapi.dto.PokeApiAbility;
+import com.archetype.layer.client.pokeapi.dto.PokeApiPokemon;
+import com.archetype.layer.exception.PokemonServiceException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Reads PokeAPI resources from a local copy of the PokeAPI {@code api-data} JSON tree, so species can be imported
+ * without network access.
+ * <p>
+ * {@code clients.pokeapi.dump.directory} points either at the checkout root (containing {@code data/api/v2}) or at
+ * a directory containing {@code api/v2}. Resources are laid out as {@code api/v2/<resource>/<id>/index.json}.
+ * Pokemon files are parsed with the same filtering {@link PokeApiPokemonReader} the HTTP client uses.
+ */
+@Component
+@Slf4j
+public class PokeApiDumpReader {
+
+    private final String directory;
+    private final PokeApiPokemonReader pokemonReader;
+    private final ObjectMapper objectMapper;
+
+    public PokeApiDumpReader(@Value("${clients.pokeapi.dump.directory:}") String directory, ObjectMapper objectMapper) {
+        this.directory = directory;
+        this.objectMapper = objectMapper;
+        this.pokemonReader = new PokeApiPokemonReader(objectMapper.getFactory());
+    }
+
+    /**
+     * Highest national ID such that every pokemon from 1 up to it is present in the dump.
+     *
+     * @return 0 when the dump is missing or holds no pokemon
+     */
+    public int lastContiguousPokemonId(int upperBound) {
+        Optional<Path> root = apiRoot();
+        if (root.isEmpty()) return 0;
+        int id = 0;
+        while (id < upperBound && Files.isRegularFile(resource(root.get(), "pokemon", id + 1))) {
+            id++;
+        }
+        return id;
+    }
+
+    public PokeApiPokemon pokemon(int nationalId) {
+        Path file = resource(requireRoot(), "pokemon", nationalId);
+        try (InputStream in = Files.newInputStream(file)) {
+            return pokemonReader.read(in);
+        } catch (NoSuchFileException ex) {
+            throw PokemonServiceException.externalServiceFailure("PokeAPI dump", "reading pokemon " + nationalId, ex);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot read " + file, ex);
+        }
+    }
+
+    /**
+     * Read the ability a pokemon links to; the dump is keyed by ability ID, taken from the resource URL.
+     */
+    public PokeApiAbility ability(PokeApiPokemon.PokeApiAbility.PokeApiAbilityInfo info) {
+        int id = idFromUrl(info.url());
+        if (id <= 0) {
+            throw PokemonServiceException.externalServiceFailure("PokeAPI dump", "resolving ability " + info.name(),
+                    new IllegalArgumentException("No ability ID in URL " + info.url()));
+        }
+        Path file = resource(requireRoot(), "ability", id);
+        try (InputStream in = Files.newInputStream(file)) {
+            return objectMapper.readValue(in, PokeApiAbility.class);
+        } catch (NoSuchFileException ex) {
+            throw PokemonServiceException.externalServiceFailure("PokeAPI dump", "reading ability " + info.name(), ex);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot read " + file, ex);
+        }
+    }
+
+    private Optional<Path> apiRoot() {
+        if (directory == null || directory.isBlank()) return Optional.empty();
+        Path base = Path.of(directory);
+        for (Path candidate : new Path[]{base.resolve("data/api/v2"), base.resolve("api/v2")}) {
+            if (Files.isDirectory(candidate.resolve("pokemon"))) {
+                return Optional.of(candidate);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Path requireRoot() {
+        return apiRoot().orElseThrow(() -> PokemonServiceException.externalServiceFailure("PokeAPI dump", "locating api/v2",
+                new NoSuchFileException(directory)));
+    }
+
+    private static Path resource(Path root, String resource, int id) {
+        return root.resolve(resource).resolve(String.valueOf(id)).resolve("index.json");
+    }
+
+    private static int idFromUrl(String url) {
+        if (url == null) return -1;
+        String[] parts = url.split("/");
+        for (int i = parts.length - 1; i >= 0; i--) {
+            if (!parts[i].isBlank()) {
+                try {
+                    return Integer.parseInt(parts[i]);
+                } catch (NumberFormatException ex) {
+                    return -1;
+                }
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,41 @@
+package com.archetype.layer.client.pokeapi;
+
+import com.archetype.layer.client.pokeapi.dto.PokeApiPokemon;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Response;
+import feign.Util;
+import feign.codec.Decoder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+
+/**
+ * Feign decoder for PokeAPI responses.
+ * <p>
+ * {@link PokeApiPokemon} payloads go through the filtering {@link PokeApiPokemonReader}; every other type is
+ * bound with the application's Jackson {@link ObjectMapper}.
+ */
+public class PokeApiPokemonDecoder implements Decoder {
+
+    private final PokeApiPokemonReader reader;
+    private final ObjectMapper objectMapper;
+
+    public PokeApiPokemonDecoder(PokeApiPokemonReader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Object decode(Response response, Type type) throws IOException {
+        if (response.body() == null || response.status() == 204) {
+            return Util.emptyValueOf(type);
+        }
+        try (InputStream in = response.body().asInputStream()) {
+            if (type == PokeApiPokemon.class) {
+                return reader.read(in);
+            }
+            return objectMapper.readValue(in, objectMapper.constructType(type));
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.archetype.layer.client.pokeapi;
+
+import com.archetype.layer.client.pokeapi.dto.PokeApiPokemon;
+import com.archetype.layer.client.pokeapi.dto.PokeApiPokemon.PokeApiAbility;
+import com.archetype.layer.client.pokeapi.dto.PokeApiPokemon.PokeApiMove;
+import com.archetype.layer.client.pokeapi.dto.PokeApiPokemon.PokeApiStat;
+import com.archetype.layer.client.pokeapi.dto.PokeApiPokemon.PokeApiType;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming reader for PokeAPI {@code /pokemon/{id}} payloads.
+ * <p>
+ * Most of a pokemon response is {@code moves[].version_group_details} for games we do not keep, plus sprites,
+ * cries and game indices we never read. This reader walks the token stream once, skips unused fields without
+ * materializing them and drops move details outside red-blue, yellow and gold-silver while parsing,
+ * so only moves that would pass {@link PokeApiMove#isValid()} are allocated.
+ */
+public class PokeApiPokemonReader {
+
+    private final JsonFactory jsonFactory;
+
+    public PokeApiPokemonReader() {
+        this(new JsonFactory());
+    }
+
+    public PokeApiPokemonReader(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    public PokeApiPokemon read(InputStream in) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            expect(parser.nextToken(), JsonToken.START_OBJECT, parser);
+            return readPokemon(parser);
+        }
+    }
+
+    private PokeApiPokemon readPokemon(JsonParser parser) throws IOException {
+        int id = 0;
+        String name = null;
+        int height = 0;
+        int weight = 0;
+        Integer baseExperience = null;
+        List<PokeApiType> types = List.of();
+        List<PokeApiAbility> abilities = List.of();
+        List<PokeApiMove> moves = List.of();
+        List<PokeApiStat> stats = List.of();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "id" -> id = parser.getIntValue();
+                case "name" -> name = parser.getValueAsString();
+                case "height" -> height = parser.getValueAsInt();
+                case "weight" -> weight = parser.getValueAsInt();
+                case "base_experience" -> baseExperience = value == JsonToken.VALUE_NULL ? null : parser.getIntValue();
+                case "types" -> types = readTypes(parser);
+                case "abilities" -> abilities = readAbilities(parser);
+                case "moves" -> moves = readMoves(parser);
+                case "stats" -> stats = readStats(parser);
+                default -> parser.skipChildren();
+            }
+        }
+        return new PokeApiPokemon(id, name, height, weight, baseExperience, types, abilities, moves, stats);
+    }
+
+    private List<PokeApiType> readTypes(JsonParser parser) throws IOException {
+        List<PokeApiType> types = new ArrayList<>(2);
+        while (nextElement(parser)) {
+            int slot = 0;
+            String typeName = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "slot" -> slot = parser.getIntValue();
+                    case "type" -> typeName = readResource(parser)[0];
+                    default -> parser.skipChildren();
+                }
+            }
+            types.add(new PokeApiType(slot, new PokeApiType.PokeApiTypeInfo(typeName)));
+        }
+        return types;
+    }
+
+    private List<PokeApiAbility> readAbilities(JsonParser parser) throws IOException {
+        List<PokeApiAbility> abilities = new ArrayList<>(3);
+        while (nextElement(parser)) {
+            String[] ability = {null, null};
+            boolean hidden = false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "ability" -> ability = readResource(parser);
+                    case "is_hidden" -> hidden = parser.getBooleanValue();
+                    default -> parser.skipChildren();
+                }
+            }
+            abilities.add(new PokeApiAbility(new PokeApiAbility.PokeApiAbilityInfo(ability[0], ability[1]), hidden));
+        }
+        return abilities;
+    }
+
+    private List<PokeApiMove> readMoves(JsonParser parser) throws IOException {
+        List<PokeApiMove> moves = new ArrayList<>();
+        while (nextElement(parser)) {
+            String[] move = {null, null};
+            List<PokeApiMove.PokeApiMoveDetail> details = List.of();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "move" -> move = readResource(parser);
+                    case "version_group_details" -> details = readSupportedDetails(parser);
+                    default -> parser.skipChildren();
+                }
+            }
+            if (!details.isEmpty()) {
+                moves.add(new PokeApiMove(new PokeApiMove.PokeApiMoveId(move[0], move[1]), details));
+            }
+        }
+        return moves;
+    }
+
+    private List<PokeApiMove.PokeApiMoveDetail> readSupportedDetails(JsonParser parser) throws IOException {
+        List<PokeApiMove.PokeApiMoveDetail> details = null;
+        while (nextElement(parser)) {
+            int level = 0;
+            String version = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "level_learned_at" -> level = parser.getIntValue();
+                    case "version_group" -> version = readResource(parser)[0];
+                    default -> parser.skipChildren();
+                }
+            }
+            if (PokeApiMove.validVersion(version)) {
+                if (details == null) details = new ArrayList<>(3);
+                details.add(new PokeApiMove.PokeApiMoveDetail(level, new PokeApiMove.PokeApiMoveVersion(version)));
+            }
+        }
+        return details != null ? details : List.of();
+    }
+
+    private List<PokeApiStat> readStats(JsonParser parser) throws IOException {
+        List<PokeApiStat> stats = new ArrayList<>(6);
+        while (nextElement(parser)) {
+            int baseStat = 0;
+            int effort = 0;
+            String statName = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "base_stat" -> baseStat = parser.getIntValue();
+                    case "effort" -> effort = parser.getIntValue();
+                    case "stat" -> statName = readResource(parser)[0];
+                    default -> parser.skipChildren();
+                }
+            }
+            stats.add(new PokeApiStat(baseStat, effort, new PokeApiStat.PokeStat(statName)));
+        }
+        return stats;
+    }
+
+    /**
+     * Read a PokeAPI named resource ({@code {"name": ..., "url": ...}}) the parser is positioned on.
+     *
+     * @return the name and url, either of which may be null
+     */
+    private String[] readResource(JsonParser parser) throws IOException {
+        String[] resource = {null, null};
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return resource;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "name" -> resource[0] = parser.getValueAsString();
+                case "url" -> resource[1] = parser.getValueAsString();
+                default -> parser.skipChildren();
+            }
+        }
+        return resource;
+    }
+
+    /**
+     * Advance to the next object of the array the parser is positioned in.
+     *
+     * @return false once the end of the array is reached
+     */
+    private static boolean nextElement(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.START_ARRAY || parser.currentToken() == JsonToken.START_OBJECT
+                || parser.currentToken() == JsonToken.END_OBJECT) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_OBJECT) return true;
+            if (token == JsonToken.END_ARRAY) return false;
+            throw new IOException("Unexpected token " + token + " in PokeAPI array at " + parser.currentLocation());
+        }
+        // Arrays can be null in incomplete payloads
+        return false;
+    }
+
+    private static void expect(JsonToken actual, JsonToken expected, JsonParser parser) throws IOException {
+        if (actual != expected) {
+            throw new IOException("Expected " + expected + " but found " + actual + " at " + parser.currentLocation());
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package com.archetype.layer.client.pokeapi;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Disk-backed store for PokeAPI responses.
+ * <p>
+ * Bodies are content-addressed: each one is written once under {@code bodies/<sha-256 of body>}, so identical payloads
+ * share a file. Each cached URL has a small metadata file under {@code entries/<sha-256 of url>} pointing at its body
+ * together with the validators ({@code ETag}, {@code Last-Modified}) needed to revalidate it.
+ * When the bodies exceed the configured size, the least recently used entries are evicted. The size is kept as a
+ * running total, so only an eviction pass lists the cache directories. Writers are serialized by a
+ * {@link ReentrantLock} rather than {@code synchronized}, so the file I/O done under it does not pin the carrier of a
+ * virtual thread.
+ */
+@Slf4j
+public class PokeApiResponseCache {
+
+    private static final String URL = "url";
+    private static final String BODY = "body";
+    private static final String CONTENT_TYPE = "content-type";
+    private static final String ETAG = "etag";
+    private static final String LAST_MODIFIED = "last-modified";
+    private static final String EXPIRES_AT = "expires-at";
+
+    private final Path entriesDir;
+    private final Path bodiesDir;
+    private final long maxSizeBytes;
+    private final Clock clock;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long bodyBytes;
+
+    public PokeApiResponseCache(Path directory, long maxSizeBytes, Clock clock) {
+        this.entriesDir = directory.resolve("entries");
+        this.bodiesDir = directory.resolve("bodies");
+        this.maxSizeBytes = maxSizeBytes;
+        this.clock = clock;
+        try {
+            Files.createDirectories(entriesDir);
+            Files.createDirectories(bodiesDir);
+            try (Stream<Path> bodies = Files.list(bodiesDir)) {
+                bodyBytes = bodies.mapToLong(PokeApiResponseCache::sizeOf).sum();
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot create PokeAPI cache directory " + directory, ex);
+        }
+    }
+
+    /**
+     * Cached response metadata for a single URL.
+     */
+    public record Entry(String url,
+                        String bodyHash,
+                        String contentType,
+                        String etag,
+                        String lastModified,
+                        Instant expiresAt) {
+
+        public boolean isFresh(Instant now) {
+            return expiresAt != null && now.isBefore(expiresAt);
+        }
+    }
+
+    public Optional<Entry> get(String url) {
+        Path file = entryFile(url);
+        Properties props = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            props.load(in);
+            Files.setLastModifiedTime(file, FileTime.from(clock.instant()));
+        } catch (NoSuchFileException ex) {
+            return Optional.empty();
+        } catch (IOException ex) {
+            log.warn("Discarding unreadable PokeAPI cache entry for {}", url, ex);
+            return Optional.empty();
+        }
+        if (!url.equals(props.getProperty(URL))) {
+            return Optional.empty();
+        }
+        String expiresAt = props.getProperty(EXPIRES_AT);
+        return Optional.of(new Entry(
+                url,
+                props.getProperty(BODY),
+                props.getProperty(CONTENT_TYPE),
+                props.getProperty(ETAG),
+                props.getProperty(LAST_MODIFIED),
+                expiresAt != null ? Instant.parse(expiresAt) : null));
+    }
+
+    /**
+     * Read the body of an entry.
+     *
+     * @return the body, or empty if it was evicted since the entry was read
+     */
+    public Optional<byte[]> body(Entry entry) {
+        try {
+            return Optional.of(Files.readAllBytes(bodiesDir.resolve(entry.bodyHash())));
+        } catch (NoSuchFileException ex) {
+            return Optional.empty();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public Entry put(String url, byte[] body, String contentType, String etag, String lastModified, Instant expiresAt) {
+        String bodyHash = sha256(body);
+        Path bodyFile = bodiesDir.resolve(bodyHash);
+        lock.lock();
+        try {
+            if (Files.notExists(bodyFile)) {
+                writeAtomically(bodyFile, body);
+                bodyBytes += body.length;
+            }
+            Entry entry = new Entry(url, bodyHash, contentType, etag, lastModified, expiresAt);
+            writeEntry(entry);
+            evictIfNeeded();
+            return entry;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Extend the freshness of an entry after the server confirmed it with a 304 Not Modified.
+     */
+    public Entry revalidated(Entry entry, Instant expiresAt) {
+        Entry refreshed = new Entry(entry.url(), entry.bodyHash(), entry.contentType(), entry.etag(), entry.lastModified(), expiresAt);
+        lock.lock();
+        try {
+            writeEntry(refreshed);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            lock.unlock();
+        }
+        return refreshed;
+    }
+
+    /**
+     * Total bytes currently used by cached bodies.
+     */
+    public long size() {
+        lock.lock();
+        try {
+            return bodyBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Reads every entry once to count the references to each body, then deletes entries in least recently used order,
+     * and each body as its last reference goes, until the bodies fit. Bodies no entry refers to go first.
+     */
+    private void evictIfNeeded() throws IOException {
+        if (bodyBytes <= maxSizeBytes) return;
+
+        List<Path> byLastAccess;
+        try (Stream<Path> entries = Files.list(entriesDir)) {
+            byLastAccess = entries.sorted(Comparator.comparing(PokeApiResponseCache::lastModified)).toList();
+        }
+        Map<Path, String> bodyOf = new HashMap<>();
+        Map<String, Integer> references = new HashMap<>();
+        for (Path entry : byLastAccess) {
+            Properties props = new Properties();
+            try (InputStream in = Files.newInputStream(entry)) {
+                props.load(in);
+            } catch (IOException ignored) {
+                // Entry vanished or is corrupt; its body is treated as unreferenced
+                continue;
+            }
+            String body = props.getProperty(BODY);
+            if (body != null) {
+                bodyOf.put(entry, body);
+                references.merge(body, 1, Integer::sum);
+            }
+        }
+
+        // Resynchronizes the running total with the disk
+        long size = 0;
+        try (Stream<Path> bodies = Files.list(bodiesDir)) {
+            for (Path body : bodies.toList()) {
+                if (references.containsKey(body.getFileName().toString())) {
+                    size += sizeOf(body);
+                } else {
+                    Files.deleteIfExists(body);
+                }
+            }
+        }
+
+        int evicted = 0;
+        for (Path entry : byLastAccess) {
+            if (size <= maxSizeBytes) break;
+            Files.deleteIfExists(entry);
+            evicted++;
+            String body = bodyOf.get(entry);
+            if (body != null && references.merge(body, -1, Integer::sum) == 0) {
+                Path bodyFile = bodiesDir.resolve(body);
+                size -= sizeOf(bodyFile);
+                Files.deleteIfExists(bodyFile);
+            }
+        }
+        bodyBytes = size;
+        log.debug("Evicted {} PokeAPI cache entries, {} bytes remain", evicted, size);
+    }
+
+    private void writeEntry(Entry entry) throws IOException {
+        Properties props = new Properties();
+        props.setProperty(URL, entry.url());
+        props.setProperty(BODY, entry.bodyHash());
+        setIfPresent(props, CONTENT_TYPE, entry.contentType());
+        setIfPresent(props, ETAG, entry.etag());
+        setIfPresent(props, LAST_MODIFIED, entry.lastModified());
+        setIfPresent(props, EXPIRES_AT, entry.expiresAt() != null ? entry.expiresAt().toString() : null);
+
+        Path file = entryFile(entry.url());
+        Path tmp = Files.createTempFile(entriesDir, "entry", ".tmp");
+        try (OutputStream out = Files.newOutputStream(tmp)) {
+            props.store(out, null);
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Files.setLastModifiedTime(file, FileTime.from(clock.instant()));
+    }
+
+    private void writeAtomically(Path target, byte[] content) throws IOException {
+        Path tmp = Files.createTempFile(target.getParent(), "body", ".tmp");
+        Files.write(tmp, content);
+        Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private Path entryFile(String url) {
+        return entriesDir.resolve(sha256(url.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static void setIfPresent(Properties props, String key, String value) {
+        if (value != null) props.setProperty(key, value);
+    }
+
+    private static long sizeOf(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException ex) {
+            return 0;
+        }
+    }
+
+    private static FileTime lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path);
+        } catch (IOException ex) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.archetype.layer.client.pokeapi;
+
+import com.archetype.layer.domain.model.Species;
+
+import java.util.List;
+
+/**
+ * Receives mapped species from the ingestion pipeline in batches.
+ */
+@FunctionalInterface
+public interface SpeciesBatchSink {
+
+    /**
+     * Persist a batch of species.
+     *
+     * @param batch            species to persist, in no particular order
+     * @param completedThrough once this batch is persisted, every national ID of the run up to this one is persisted
+     */
+    void accept(List<Species> batch, int completedThrough);
+}
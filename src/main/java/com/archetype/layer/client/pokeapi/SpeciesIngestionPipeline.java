@@ -0,0 +1,248 @@
+package com.archetype.layer.client.pokeapi;
+
+import com.archetype.layer.client.pokeapi.dto.PokeApiPokemon;
+import com.archetype.layer.domain.model.Species;
+import com.archetype.layer.exception.PokemonServiceException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * Staged species ingestion: fetch, then map, then batched upsert.
+ * <p>
+ * Stages run on virtual threads and hand items over through bounded queues of {@code queue-capacity} entries.
+ * When the upsert stage falls behind, the mapped queue fills and mappers block, then the fetched queue fills and
+ * no further fetches are dispatched, so memory stays bounded however large the ID range is.
+ * The first failure in any stage stops the whole run.
+ * <p>
+ * Each stage reports processed items ({@code species.pipeline.items}) and per-item latency
+ * ({@code species.pipeline.stage.duration}), tagged by stage; {@code species.pipeline.queue.depth} tracks both queues
+ * of the run in progress.
+ */
+@Component
+@Slf4j
+public class SpeciesIngestionPipeline {
+
+    static final String STAGE_COUNTER = "species.pipeline.items";
+    static final String STAGE_TIMER = "species.pipeline.stage.duration";
+    static final String QUEUE_GAUGE = "species.pipeline.queue.depth";
+
+    private static final PokeApiPokemon END_OF_FETCH = new PokeApiPokemon(0, null, 0, 0, null, List.of(), List.of(), List.of(), List.of());
+    private static final Species END_OF_MAP = new Species(0, null, null, null, List.of(), Map.of(), null);
+    private static final long FLUSH_INTERVAL_MILLIS = 1000;
+
+    private final MeterRegistry meterRegistry;
+    private final int queueCapacity;
+    private final int mapWorkers;
+
+    private final AtomicReference<BlockingQueue<?>> fetchedQueue = new AtomicReference<>();
+    private final AtomicReference<BlockingQueue<?>> mappedQueue = new AtomicReference<>();
+
+    public SpeciesIngestionPipeline(MeterRegistry meterRegistry,
+                                    @Value("${clients.pokeapi.pipeline.queue-capacity:32}") int queueCapacity,
+                                    @Value("${clients.pokeapi.pipeline.map-workers:4}") int mapWorkers) {
+        this.meterRegistry = meterRegistry;
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.mapWorkers = Math.max(1, mapWorkers);
+
+        Gauge.builder(QUEUE_GAUGE, fetchedQueue, SpeciesIngestionPipeline::depth).tag("queue", "fetched").register(meterRegistry);
+        Gauge.builder(QUEUE_GAUGE, mappedQueue, SpeciesIngestionPipeline::depth).tag("queue", "mapped").register(meterRegistry);
+    }
+
+    /**
+     * Ingest every national ID between {@code firstId} and {@code lastId}, both inclusive.
+     *
+     * @param fetchConcurrency fetches in flight at once
+     * @param batchSize        species handed to the sink per batch; a partial batch is flushed after a second idle
+     * @param fetcher          fetch stage, called once per national ID
+     * @param mapper           map stage
+     * @param sink             upsert stage
+     * @return number of species handed to the sink
+     */
+    public int run(int firstId,
+                   int lastId,
+                   int fetchConcurrency,
+                   int batchSize,
+                   IntFunction<PokeApiPokemon> fetcher,
+                   Function<PokeApiPokemon, Species> mapper,
+                   SpeciesBatchSink sink) {
+
+        BlockingQueue<PokeApiPokemon> fetched = new ArrayBlockingQueue<>(queueCapacity);
+        BlockingQueue<Species> mapped = new ArrayBlockingQueue<>(queueCapacity);
+        fetchedQueue.set(fetched);
+        mappedQueue.set(mapped);
+
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        Runnable abort = executor::shutdownNow;
+
+        try {
+            executor.submit(stage(failure, abort, () -> fetchAll(firstId, lastId, fetchConcurrency, fetcher, fetched, executor, failure, abort)));
+
+            AtomicInteger mappersLeft = new AtomicInteger(mapWorkers);
+            for (int i = 0; i < mapWorkers; i++) {
+                executor.submit(stage(failure, abort, () -> mapAll(mapper, fetched, mapped, mappersLeft)));
+            }
+
+            Future<Integer> upsert = executor.submit(() -> {
+                try {
+                    return upsertAll(firstId, lastId, batchSize, mapped, sink);
+                } catch (Throwable ex) {
+                    failure.compareAndSet(null, ex);
+                    abort.run();
+                    throw ex;
+                }
+            });
+
+            int persisted = upsert.get();
+            if (failure.get() != null) throw new ExecutionException(failure.get());
+            return persisted;
+
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw PokemonServiceException.externalServiceFailure("PokeAPI", "species ingestion", ex);
+        } catch (ExecutionException ex) {
+            Throwable cause = failure.get() != null ? failure.get() : ex.getCause();
+            if (cause instanceof RuntimeException runtime) throw runtime;
+            throw PokemonServiceException.externalServiceFailure("PokeAPI", "species ingestion", cause);
+        } finally {
+            executor.shutdownNow();
+            executor.close();
+            fetchedQueue.set(null);
+            mappedQueue.set(null);
+        }
+    }
+
+    private void fetchAll(int firstId,
+                          int lastId,
+                          int fetchConcurrency,
+                          IntFunction<PokeApiPokemon> fetcher,
+                          BlockingQueue<PokeApiPokemon> fetched,
+                          ExecutorService executor,
+                          AtomicReference<Throwable> failure,
+                          Runnable abort) throws InterruptedException {
+
+        Semaphore inFlight = new Semaphore(Math.max(1, fetchConcurrency));
+        CountDownLatch done = new CountDownLatch(lastId - firstId + 1);
+
+        for (int id = firstId; id <= lastId; id++) {
+            int nationalId = id;
+            // The permit is held until the result is queued, so a full queue stops new fetches
+            inFlight.acquire();
+            try {
+                executor.submit(stage(failure, abort, () -> {
+                    try {
+                        PokeApiPokemon pokemon = meterRegistry.timer(STAGE_TIMER, "stage", "fetch").record(() -> fetcher.apply(nationalId));
+                        fetched.put(pokemon);
+                        meterRegistry.counter(STAGE_COUNTER, "stage", "fetch").increment();
+                    } finally {
+                        inFlight.release();
+                        done.countDown();
+                    }
+                }));
+            } catch (RejectedExecutionException ex) {
+                // Another stage failed and the run is shutting down
+                return;
+            }
+        }
+        done.await();
+        for (int i = 0; i < mapWorkers; i++) {
+            fetched.put(END_OF_FETCH);
+        }
+    }
+
+    private void mapAll(Function<PokeApiPokemon, Species> mapper,
+                        BlockingQueue<PokeApiPokemon> fetched,
+                        BlockingQueue<Species> mapped,
+                        AtomicInteger mappersLeft) throws InterruptedException {
+
+        for (PokeApiPokemon pokemon = fetched.take(); pokemon != END_OF_FETCH; pokemon = fetched.take()) {
+            PokeApiPokemon current = pokemon;
+            Species species = meterRegistry.timer(STAGE_TIMER, "stage", "map").record(() -> mapper.apply(current));
+            mapped.put(species);
+            meterRegistry.counter(STAGE_COUNTER, "stage", "map").increment();
+        }
+        if (mappersLeft.decrementAndGet() == 0) {
+            mapped.put(END_OF_MAP);
+        }
+    }
+
+    private int upsertAll(int firstId, int lastId, int batchSize, BlockingQueue<Species> mapped, SpeciesBatchSink sink) throws InterruptedException {
+        int size = Math.max(1, batchSize);
+        List<Species> batch = new ArrayList<>(size);
+        BitSet persisted = new BitSet(lastId - firstId + 1);
+        int count = 0;
+
+        while (true) {
+            Species species = mapped.poll(FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            if (species == END_OF_MAP) break;
+            if (species != null) batch.add(species);
+
+            if (batch.size() >= size || (species == null && !batch.isEmpty())) {
+                count += flush(firstId, batch, persisted, sink);
+            }
+        }
+        if (!batch.isEmpty()) {
+            count += flush(firstId, batch, persisted, sink);
+        }
+        return count;
+    }
+
+    private int flush(int firstId, List<Species> batch, BitSet persisted, SpeciesBatchSink sink) {
+        batch.forEach(species -> persisted.set(species.nationalId() - firstId));
+        int completedThrough = firstId + persisted.nextClearBit(0) - 1;
+        List<Species> items = List.copyOf(batch);
+        batch.clear();
+
+        meterRegistry.timer(STAGE_TIMER, "stage", "upsert").record(() -> sink.accept(items, completedThrough));
+        meterRegistry.counter(STAGE_COUNTER, "stage", "upsert").increment(items.size());
+        log.debug("Persisted {} species, complete through national ID {}", items.size(), completedThrough);
+        return items.size();
+    }
+
+    private static Runnable stage(AtomicReference<Throwable> failure, Runnable abort, Stage body) {
+        return () -> {
+            try {
+                body.run();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (Throwable ex) {
+                if (failure.compareAndSet(null, ex)) {
+                    log.debug("Species ingestion stage failed, stopping the pipeline", ex);
+                }
+                abort.run();
+            }
+        };
+    }
+
+    private static double depth(AtomicReference<BlockingQueue<?>> queue) {
+        BlockingQueue<?> current = queue.get();
+        return current != null ? current.size() : 0;
+    }
+
+    @FunctionalInterface
+    private interface Stage {
+        void run() throws InterruptedException;
+    }
+}
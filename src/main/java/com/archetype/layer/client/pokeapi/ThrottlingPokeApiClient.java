@@ -0,0 +1,167 @@
+package com.archetype.layer.client.pokeapi;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feign {@link Client} decorator that paces PokeAPI requests through an {@link AdaptiveTokenBucket}.
+ * <p>
+ * 429 and 503 answers shrink the bucket and pause every caller for the {@code Retry-After} delay, or for a jittered
+ * exponential backoff when the server sends none; the request is then retried up to {@code maxAttempts} times.
+ * I/O failures are retried with the same backoff. When attempts run out the last response is returned, so
+ * {@link PokeApiClientErrorDecoder} still turns it into a {@code PokeApiRateLimitException}.
+ */
+@Slf4j
+public class ThrottlingPokeApiClient implements Client {
+
+    static final String RETRY_COUNTER = "pokeapi.client.retries";
+    static final String THROTTLED_COUNTER = "pokeapi.limiter.throttled";
+    static final String WAIT_TIMER = "pokeapi.limiter.wait";
+    static final String RATE_GAUGE = "pokeapi.limiter.rate";
+    static final String TOKENS_GAUGE = "pokeapi.limiter.tokens";
+
+    private final Client delegate;
+    private final AdaptiveTokenBucket bucket;
+    private final int maxAttempts;
+    private final Duration backoffBase;
+    private final Duration backoffMax;
+    private final Clock clock;
+    private final MeterRegistry meterRegistry;
+
+    public ThrottlingPokeApiClient(Client delegate,
+                                   AdaptiveTokenBucket bucket,
+                                   int maxAttempts,
+                                   Duration backoffBase,
+                                   Duration backoffMax,
+                                   Clock clock,
+                                   MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.bucket = bucket;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffBase = backoffBase;
+        this.backoffMax = backoffMax;
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder(RATE_GAUGE, bucket, AdaptiveTokenBucket::rate)
+             .description("Current PokeAPI request rate allowed by the adaptive limiter, per second")
+             .register(meterRegistry);
+        Gauge.builder(TOKENS_GAUGE, bucket, AdaptiveTokenBucket::availableTokens)
+             .description("Tokens available in the PokeAPI limiter bucket; negative while callers are queued")
+             .register(meterRegistry);
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        boolean retryable = request.httpMethod() == Request.HttpMethod.GET;
+
+        for (int attempt = 1; ; attempt++) {
+            acquire();
+
+            Response response;
+            try {
+                response = delegate.execute(request, options);
+            } catch (IOException ex) {
+                if (!retryable || attempt >= maxAttempts) throw ex;
+                long delay = backoff(attempt);
+                log.debug("PokeAPI request {} failed ({}), retrying in {} ms", request.url(), ex.getMessage(), TimeUnit.NANOSECONDS.toMillis(delay));
+                meterRegistry.counter(RETRY_COUNTER, "reason", "io").increment();
+                sleep(delay);
+                continue;
+            }
+
+            if (response.status() != 429 && response.status() != 503) {
+                bucket.onSuccess();
+                return response;
+            }
+
+            Optional<Long> requested = retryAfter(response);
+            long delay = requested.isPresent() ? requested.get() : backoff(attempt);
+            bucket.onThrottled(delay);
+            meterRegistry.counter(THROTTLED_COUNTER, "status", String.valueOf(response.status())).increment();
+
+            if (!retryable || attempt >= maxAttempts) {
+                log.warn("PokeAPI still throttling {} after {} attempts", request.url(), attempt);
+                return response;
+            }
+            log.debug("PokeAPI answered {} for {}, limiter now at {}/s, retrying in {} ms",
+                    response.status(), request.url(), String.format("%.1f", bucket.rate()), TimeUnit.NANOSECONDS.toMillis(delay));
+            meterRegistry.counter(RETRY_COUNTER, "reason", String.valueOf(response.status())).increment();
+            response.close();
+        }
+    }
+
+    private void acquire() throws IOException {
+        try {
+            long waited = bucket.acquire();
+            meterRegistry.timer(WAIT_TIMER).record(waited, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a PokeAPI rate limit token");
+        }
+    }
+
+    private static void sleep(long nanos) throws IOException {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while backing off a PokeAPI request");
+        }
+    }
+
+    /**
+     * Exponential backoff with full jitter: a random delay up to {@code base * 2^(attempt-1)}, capped.
+     */
+    private long backoff(int attempt) {
+        long ceiling = Math.min(backoffMax.toNanos(), backoffBase.toNanos() << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(Math.max(1, ceiling) + 1);
+    }
+
+    /**
+     * Delay requested by the {@code Retry-After} header, as delta-seconds or an HTTP date, plus a little jitter so
+     * paused callers do not all retry on the same instant. Capped at {@code backoffMax}, so a server asking for
+     * minutes cannot stall every caller of the shared bucket for that long.
+     */
+    private Optional<Long> retryAfter(Response response) {
+        String value = response.headers()
+                               .entrySet()
+                               .stream()
+                               .filter(e -> e.getKey() != null && e.getKey().equalsIgnoreCase("Retry-After"))
+                               .flatMap(e -> e.getValue().stream())
+                               .findFirst()
+                               .orElse(null);
+        if (value == null || value.isBlank()) {
+            return Optional.empty();
+        }
+        long jitter = ThreadLocalRandom.current().nextLong(backoffBase.toNanos() + 1);
+        try {
+            long seconds = Long.parseLong(value.trim());
+            return Optional.of(Math.min(backoffMax.toNanos(), TimeUnit.SECONDS.toNanos(Math.max(0, seconds)) + jitter));
+        } catch (NumberFormatException notSeconds) {
+            try {
+                ZonedDateTime at = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+                long delay = Duration.between(clock.instant(), at.toInstant()).toNanos();
+                return Optional.of(Math.min(backoffMax.toNanos(), Math.max(0, delay) + jitter));
+            } catch (DateTimeParseException ex) {
+                log.debug("Ignoring unparseable Retry-After header '{}'", value);
+                return Optional.empty();
+            }
+        }
+    }
+}
@@ -58,7 +58,10 @@ public record PokeApiPokemon(
             return details.stream().anyMatch(detail -> validVersion(detail.version.name));
         }
 
-        private boolean validVersion(String version) {
+        /**
+         * Whether a version group is one of the Gen I/II games whose learnsets are kept.
+         */
+        public static boolean validVersion(String version) {
             if (version == null) return false;
             return "red-blue".equals(version) || "yellow".equals(version) || "gold-silver".equals(version);
         }
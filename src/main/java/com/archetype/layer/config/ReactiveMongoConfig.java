@@ -0,0 +1,41 @@
+package com.archetype.layer.config;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mongo.MongoConnectionDetails;
+import org.springframework.boot.autoconfigure.mongo.MongoProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+
+/**
+ * Reactive MongoDB client and template, only for the reactive Pokemon endpoints.
+ * <p>
+ * The reactive auto-configurations are excluded in {@code application.yaml}, so no second MongoClient and connection
+ * pool is opened unless {@code pokemon.reactive.enabled} is set. The exclude property also applies to
+ * {@code @ImportAutoConfiguration}, so the client and template are declared here. They use the same connection
+ * details, database and UUID representation as the blocking client.
+ */
+@Configuration
+@ConditionalOnProperty(name = "pokemon.reactive.enabled", havingValue = "true")
+public class ReactiveMongoConfig {
+
+    @Bean(destroyMethod = "close")
+    public MongoClient reactiveMongoClient(MongoConnectionDetails connectionDetails, MongoProperties properties) {
+        return MongoClients.create(MongoClientSettings.builder()
+                                                      .applyConnectionString(connectionDetails.getConnectionString())
+                                                      .uuidRepresentation(properties.getUuidRepresentation())
+                                                      .build());
+    }
+
+    @Bean
+    public ReactiveMongoTemplate reactiveMongoTemplate(MongoClient reactiveMongoClient,
+                                                       MongoConnectionDetails connectionDetails,
+                                                       MongoProperties properties) {
+        String database = properties.getDatabase() != null ? properties.getDatabase()
+                : connectionDetails.getConnectionString().getDatabase();
+        return new ReactiveMongoTemplate(reactiveMongoClient, database != null ? database : "test");
+    }
+}
@@ -0,0 +1,26 @@
+package com.archetype.layer.config;
+
+import com.archetype.layer.service.SpeciesCatalogService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports the species catalog down until its first snapshot has been built. Part of the readiness group, so an
+ * instance whose catalog could not be preloaded on startup keeps running but receives no traffic.
+ */
+@Component
+@RequiredArgsConstructor
+public class SpeciesCatalogHealthIndicator implements HealthIndicator {
+
+    private final SpeciesCatalogService speciesCatalog;
+
+    @Override
+    public Health health() {
+        if (!speciesCatalog.isLoaded()) {
+            return Health.down().withDetail("reason", "species catalog not loaded yet").build();
+        }
+        return Health.up().withDetail("species", speciesCatalog.all().size()).build();
+    }
+}
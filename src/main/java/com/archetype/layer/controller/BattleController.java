@@ -0,0 +1,59 @@
+package com.archetype.layer.controller;
+
+import com.archetype.layer.domain.dto.response.BattleSimulationResponse;
+import com.archetype.layer.service.BattleSimulationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.OutputStream;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+@RestController
+@RequestMapping("/api/battles")
+@RequiredArgsConstructor
+public class BattleController implements BattleControllerInfo {
+
+    private final BattleSimulationService battleService;
+
+    /**
+     * Win rate of one species against another at the same level.
+     */
+    @GetMapping("/species")
+    public BattleSimulationResponse simulateSpecies(@RequestParam int attacker,
+                                                    @RequestParam int defender,
+                                                    @RequestParam(required = false) Integer level,
+                                                    @RequestParam(required = false) Long battles,
+                                                    @RequestParam(required = false) Long seed) {
+        return battleService.simulateSpecies(attacker, defender, level, battles, seed);
+    }
+
+    /**
+     * Win rate of one owned Pokemon against another.
+     */
+    @GetMapping("/pokemon")
+    public BattleSimulationResponse simulatePokemon(@RequestParam UUID attacker,
+                                                    @RequestParam UUID defender,
+                                                    @RequestParam(required = false) Long battles,
+                                                    @RequestParam(required = false) Long seed) {
+        return battleService.simulatePokemon(attacker, defender, battles, seed);
+    }
+
+    /**
+     * Win rates of a species against every species, as newline-delimited JSON streamed one matchup at a time.
+     */
+    @GetMapping(value = "/species/{nationalId}/matchups", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody streamMatchups(@PathVariable int nationalId,
+                                                @RequestParam(required = false) Integer level,
+                                                @RequestParam(required = false) Long battles,
+                                                @RequestParam(required = false) Long seed) {
+        Consumer<OutputStream> matchups = battleService.matchups(nationalId, level, battles, seed);
+        return matchups::accept;
+    }
+}
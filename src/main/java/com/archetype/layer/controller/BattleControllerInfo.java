@@ -0,0 +1,12 @@
+package com.archetype.layer.controller;
+
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * API documentation interface for BattleController.
+ * Contains OpenAPI / springdoc annotations so the implementation stays free of documentation noise.
+ */
+@Tag(name = "Battle simulation API", description = "Monte-Carlo win rates between species and owned Pokemon")
+public interface BattleControllerInfo {
+
+}
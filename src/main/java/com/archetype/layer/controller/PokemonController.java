@@ -1,20 +1,37 @@
 package com.archetype.layer.controller;
 
 import com.archetype.layer.domain.dto.request.PokemonCreate;
+import com.archetype.layer.domain.dto.request.PokemonUpdate;
+import com.archetype.layer.domain.dto.response.PageResponse;
+import com.archetype.layer.domain.dto.response.PokemonBulkCreateResponse;
 import com.archetype.layer.domain.dto.response.PokemonDetails;
+import com.archetype.layer.domain.dto.response.SpeciesLoadJobResponse;
 import com.archetype.layer.domain.dto.response.SpeciesResponse;
+import com.archetype.layer.domain.dto.response.SpeciesSummaryResponse;
+import com.archetype.layer.service.PokemonBulkService;
+import com.archetype.layer.service.PokemonExportService;
 import com.archetype.layer.service.PokemonService;
+import com.archetype.layer.service.SpeciesLoadService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.UUID;
 
 /**
  * Controller layer using proper DTOs.
@@ -28,21 +45,109 @@ import java.util.List;
 public class PokemonController implements PokemonControllerInfo {
 
     private final PokemonService pokemonService;
+    private final SpeciesLoadService speciesLoadService;
+    private final PokemonExportService exportService;
+    private final PokemonBulkService bulkService;
 
 
+    /**
+     * Create a Pokemon; a {@code seed} makes its DVs reproducible. The response carries its id and version.
+     */
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public PokemonDetails create(@RequestBody @Valid PokemonCreate pokemonCreate) {
-        return pokemonService.createPokemon(pokemonCreate);
+    public PokemonDetails create(@RequestBody @Valid PokemonCreate pokemonCreate, @RequestParam(required = false) Long seed) {
+        return pokemonService.createPokemon(pokemonCreate, seed);
     }
 
-    @GetMapping("/load")
-    public List<SpeciesResponse> loadSpecies() {
-        return pokemonService.loadSpecies();
+    /**
+     * Create many Pokemon at once; entries succeed or fail individually. A {@code seed} makes the DVs of every entry
+     * reproducible.
+     */
+    @PostMapping("/bulk")
+    public PokemonBulkCreateResponse createAll(@RequestBody List<PokemonCreate> pokemonCreates, @RequestParam(required = false) Long seed) {
+        return bulkService.createAll(pokemonCreates, seed);
+    }
+
+    /**
+     * A Pokemon, with its version in the {@code ETag} header as well as in the body.
+     */
+    @GetMapping("/{id}")
+    public PokemonDetails getPokemon(@PathVariable UUID id, HttpServletResponse response) {
+        PokemonDetails pokemon = pokemonService.getPokemon(id);
+        response.setHeader(HttpHeaders.ETAG, "\"" + pokemon.version() + "\"");
+        return pokemon;
+    }
+
+    /**
+     * Change individual fields of a Pokemon. Responds with the new version in the {@code ETag} header, or 409 when
+     * the Pokemon was modified after {@code version}.
+     */
+    @PatchMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void update(@PathVariable UUID id, @RequestBody @Valid PokemonUpdate pokemonUpdate, HttpServletResponse response) {
+        long version = pokemonService.updatePokemon(id, pokemonUpdate);
+        response.setHeader(HttpHeaders.ETAG, "\"" + version + "\"");
+    }
+
+    @PostMapping("/load")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public SpeciesLoadJobResponse loadSpecies(@RequestParam(required = false) Integer generation,
+                                              @RequestParam(required = false) Integer from,
+                                              @RequestParam(required = false) Integer to,
+                                              @RequestParam(required = false) String source) {
+        return speciesLoadService.start(generation, from, to, source);
+    }
+
+    @GetMapping("/load/{jobId}")
+    public SpeciesLoadJobResponse getLoadJob(@PathVariable String jobId) {
+        return speciesLoadService.getJob(jobId);
+    }
+
+    @GetMapping
+    public PageResponse<PokemonDetails> listPokemon(@RequestParam(required = false) Integer nationalId,
+                                                    @RequestParam(required = false) String cursor,
+                                                    @RequestParam(required = false) Integer size) {
+        return pokemonService.listPokemon(nationalId, cursor, size);
+    }
+
+    /**
+     * All owned Pokemon as newline-delimited JSON, gzip-compressed when the client accepts it.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody exportPokemon(@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                               HttpServletResponse response) {
+        boolean gzip = acceptsGzip(acceptEncoding, response);
+        return out -> exportService.exportPokemon(out, gzip);
+    }
+
+    /**
+     * All species as newline-delimited JSON, gzip-compressed when the client accepts it.
+     */
+    @GetMapping(value = "/species/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody exportSpecies(@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                               HttpServletResponse response) {
+        boolean gzip = acceptsGzip(acceptEncoding, response);
+        return out -> exportService.exportSpecies(out, gzip);
     }
 
     @GetMapping("/species")
-    public List<SpeciesResponse> getAllSpecies() {
-        return pokemonService.listAllSpecies();
+    public PageResponse<SpeciesResponse> getAllSpecies(@RequestParam(required = false) String cursor,
+                                                       @RequestParam(required = false) Integer size) {
+        return pokemonService.listSpecies(cursor, size);
+    }
+
+    @GetMapping("/species/summary")
+    public PageResponse<SpeciesSummaryResponse> getSpeciesSummaries(@RequestParam(required = false) String cursor,
+                                                                    @RequestParam(required = false) Integer size) {
+        return pokemonService.listSpeciesSummaries(cursor, size);
+    }
+
+    private boolean acceptsGzip(String acceptEncoding, HttpServletResponse response) {
+        boolean gzip = exportService.acceptsGzip(acceptEncoding);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        return gzip;
     }
 }
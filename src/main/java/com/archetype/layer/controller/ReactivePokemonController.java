@@ -0,0 +1,54 @@
+package com.archetype.layer.controller;
+
+import com.archetype.layer.domain.dto.request.PokemonCreate;
+import com.archetype.layer.domain.dto.response.PageResponse;
+import com.archetype.layer.domain.dto.response.PokemonDetails;
+import com.archetype.layer.service.ReactivePokemonService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Reactive endpoints for getting, listing and creating Pokemon, enabled with {@code pokemon.reactive.enabled}.
+ * <p>
+ * Same requests and responses as {@link PokemonController}. Returning {@link Mono} lets Spring MVC release the
+ * servlet thread while the database call is in flight and complete the response asynchronously.
+ */
+@RestController
+@RequestMapping("/api/reactive/pokemon")
+@ConditionalOnProperty(name = "pokemon.reactive.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ReactivePokemonController implements ReactivePokemonControllerInfo {
+
+    private final ReactivePokemonService pokemonService;
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<PokemonDetails> create(@RequestBody @Valid PokemonCreate pokemonCreate, @RequestParam(required = false) Long seed) {
+        return pokemonService.createPokemon(pokemonCreate, seed);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<PokemonDetails> getPokemon(@PathVariable UUID id) {
+        return pokemonService.getPokemon(id);
+    }
+
+    @GetMapping
+    public Mono<PageResponse<PokemonDetails>> listPokemon(@RequestParam(required = false) Integer nationalId,
+                                                          @RequestParam(required = false) String cursor,
+                                                          @RequestParam(required = false) Integer size) {
+        return pokemonService.listPokemon(nationalId, cursor, size);
+    }
+}
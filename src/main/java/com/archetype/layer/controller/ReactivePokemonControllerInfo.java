@@ -0,0 +1,12 @@
+package com.archetype.layer.controller;
+
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * API documentation interface for ReactivePokemonController.
+ * Contains OpenAPI / springdoc annotations so the implementation stays free of documentation noise.
+ */
+@Tag(name = "Pokemon API (reactive)", description = "Non-blocking variants of the Pokemon read and create operations")
+public interface ReactivePokemonControllerInfo {
+
+}
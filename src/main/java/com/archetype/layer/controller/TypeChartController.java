@@ -0,0 +1,37 @@
+package com.archetype.layer.controller;
+
+import com.archetype.layer.domain.dto.response.TypeEffectivenessResponse;
+import com.archetype.layer.service.TypeChartService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/types")
+@RequiredArgsConstructor
+public class TypeChartController implements TypeChartControllerInfo {
+
+    private final TypeChartService typeChartService;
+
+    /**
+     * Multiplier of an attacking type against one or two defending types, e.g.
+     * {@code ?attacking=ice&defending=dragon&defending=flying}.
+     */
+    @GetMapping("/effectiveness")
+    public TypeEffectivenessResponse effectiveness(@RequestParam String attacking, @RequestParam List<String> defending) {
+        return typeChartService.effectiveness(attacking, defending);
+    }
+
+    /**
+     * Multiplier of an attacking type against the types of a species.
+     */
+    @GetMapping("/effectiveness/species/{nationalId}")
+    public TypeEffectivenessResponse effectivenessAgainstSpecies(@RequestParam String attacking, @PathVariable int nationalId) {
+        return typeChartService.effectivenessAgainstSpecies(attacking, nationalId);
+    }
+}
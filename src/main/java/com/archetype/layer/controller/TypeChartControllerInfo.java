@@ -0,0 +1,12 @@
+package com.archetype.layer.controller;
+
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * API documentation interface for TypeChartController.
+ * Contains OpenAPI / springdoc annotations so the implementation stays free of documentation noise.
+ */
+@Tag(name = "Type chart API", description = "Damage multipliers between Pokemon types")
+public interface TypeChartControllerInfo {
+
+}
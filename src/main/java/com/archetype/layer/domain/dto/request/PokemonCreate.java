@@ -18,7 +18,7 @@ public record PokemonCreate(
 
         @NotNull(message = "pokemon.national-id.required")
         @Min(value = 1, message = "pokemon.national-id.min")
-        @Max(value = 151, message = "pokemon.national-id.max")
+        @Max(value = 1025, message = "pokemon.national-id.max")
         int nationalId,
 
         @Nullable
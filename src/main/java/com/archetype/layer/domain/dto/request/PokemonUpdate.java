@@ -0,0 +1,30 @@
+package com.archetype.layer.domain.dto.request;
+
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Request DTO for a partial update of a Pokemon; fields left out are not changed.
+ * <p>
+ * {@code version} is the version of the Pokemon the changes were made against. The update is rejected when the
+ * stored Pokemon has been modified since.
+ */
+public record PokemonUpdate(
+
+        @Nullable
+        @Size(max = 50, message = "pokemon.name.max-length")
+        String name,
+
+        @Nullable
+        @Min(value = 1, message = "pokemon.level.min")
+        @Max(value = 100, message = "pokemon.level.max")
+        Integer level,
+
+        @NotNull(message = "pokemon.version.required")
+        Long version
+
+) {
+}
@@ -0,0 +1,21 @@
+package com.archetype.layer.domain.dto.response;
+
+/**
+ * Aggregated outcome of simulated battles between two Pokemon; rates are seen from the attacker's side.
+ *
+ * @param seed seed that reproduces the outcome
+ */
+public record BattleSimulationResponse(String attacker,
+                                       int attackerNationalId,
+                                       int attackerLevel,
+                                       String defender,
+                                       int defenderNationalId,
+                                       int defenderLevel,
+                                       long battles,
+                                       long wins,
+                                       long losses,
+                                       long draws,
+                                       double winRate,
+                                       double averageTurns,
+                                       long seed) {
+}
@@ -0,0 +1,11 @@
+package com.archetype.layer.domain.dto.response;
+
+import jakarta.annotation.Nullable;
+
+import java.util.List;
+
+/**
+ * Page of results; pass {@code next} back as {@code cursor} to get the following page.
+ */
+public record PageResponse<T>(List<T> items, int size, @Nullable String next) {
+}
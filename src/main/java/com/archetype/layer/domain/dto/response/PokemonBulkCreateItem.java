@@ -0,0 +1,19 @@
+package com.archetype.layer.domain.dto.response;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * Result of one entry of a bulk create.
+ *
+ * @param index     position of the entry in the request
+ * @param id        ID of the created Pokemon, {@code null} when the entry failed
+ * @param errorCode message key of the failure, {@code null} when the entry was created
+ * @param message   localized failure description
+ */
+public record PokemonBulkCreateItem(int index,
+                                    int nationalId,
+                                    String status,
+                                    @Nullable String id,
+                                    @Nullable String errorCode,
+                                    @Nullable String message) {
+}
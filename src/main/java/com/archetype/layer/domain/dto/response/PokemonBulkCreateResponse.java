@@ -0,0 +1,9 @@
+package com.archetype.layer.domain.dto.response;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk create; {@code items} follow the order of the request.
+ */
+public record PokemonBulkCreateResponse(int created, int failed, List<PokemonBulkCreateItem> items) {
+}
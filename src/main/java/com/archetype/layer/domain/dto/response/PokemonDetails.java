@@ -3,8 +3,14 @@ package com.archetype.layer.domain.dto.response;
 import jakarta.annotation.Nullable;
 
 import java.util.List;
+import java.util.UUID;
 
+/**
+ * An owned Pokemon. {@code version} is the one to send with a partial update.
+ */
 public record PokemonDetails(
+        UUID id,
+        long version,
         int nationalId,
         String species,
         String firstType,
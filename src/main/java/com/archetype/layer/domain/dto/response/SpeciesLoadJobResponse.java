@@ -0,0 +1,21 @@
+package com.archetype.layer.domain.dto.response;
+
+import java.time.Instant;
+
+public record SpeciesLoadJobResponse(String jobId,
+                                     String status,
+                                     String source,
+                                     int firstId,
+                                     int lastId,
+                                     int lastCompletedId,
+                                     int inserted,
+                                     int updated,
+                                     int unchanged,
+                                     int loaded,
+                                     int total,
+                                     double speciesPerSecond,
+                                     Instant startedAt,
+                                     Instant updatedAt,
+                                     Instant finishedAt,
+                                     String failure) {
+}
@@ -0,0 +1,6 @@
+package com.archetype.layer.domain.dto.response;
+
+import jakarta.annotation.Nullable;
+
+public record SpeciesSummaryResponse(int nationalId, String name, String firstType, @Nullable String secondType) {
+}
@@ -0,0 +1,10 @@
+package com.archetype.layer.domain.dto.response;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * Damage multiplier of a move of type {@code attacking} against a defender of one or two types; for two types it
+ * is the product of the multipliers against each.
+ */
+public record TypeEffectivenessResponse(String attacking, String firstType, @Nullable String secondType, double multiplier) {
+}
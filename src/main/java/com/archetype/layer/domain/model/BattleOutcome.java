@@ -0,0 +1,24 @@
+package com.archetype.layer.domain.model;
+
+/**
+ * Aggregated results of simulated battles, seen from the attacker's side.
+ *
+ * @param turns turns fought over all battles
+ */
+public record BattleOutcome(long battles, long wins, long losses, long draws, long turns) {
+
+    public static final BattleOutcome NONE = new BattleOutcome(0, 0, 0, 0, 0);
+
+    public BattleOutcome plus(BattleOutcome other) {
+        return new BattleOutcome(battles + other.battles, wins + other.wins, losses + other.losses, draws + other.draws,
+                turns + other.turns);
+    }
+
+    public double winRate() {
+        return battles == 0 ? 0 : (double) wins / battles;
+    }
+
+    public double averageTurns() {
+        return battles == 0 ? 0 : (double) turns / battles;
+    }
+}
@@ -0,0 +1,177 @@
+package com.archetype.layer.domain.model;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Monte-Carlo battles between two {@link Combatant}s with the Gen II damage formula.
+ * <p>
+ * Species data holds no move power or move types, so each side attacks every turn with a
+ * {@value #STANDARD_POWER}-power move of whichever of its own types hits the opponent harder. The move gets STAB and
+ * is physical or special by its type, as in Gen II; Fairy, which Gen II lacks, counts as special. Type matchups are
+ * the current {@link TypeChart}, not the Gen II chart. Moves always hit. A hit is critical with a chance of 17/256 and
+ * doubles its damage. The random factor is 217 to 255 over 255. The faster side moves first, and speed ties are
+ * decided at random. A battle ends when one side faints, or as a draw after {@value #MAX_TURNS} turns.
+ * <p>
+ * Everything that does not depend on the dice is resolved once in the constructor. A battle then allocates nothing
+ * and does only integer arithmetic. Batches are spread over a {@link ForkJoinPool}. Each half of a split draws from
+ * its own {@link SplittableRandom#split() split} generator. The tree of splits depends only on the batch size, so a
+ * seed gives the same outcome at any parallelism.
+ */
+public final class BattleSimulator {
+
+    public static final int STANDARD_POWER = 80;
+    public static final int MAX_TURNS = 100;
+
+    /**
+     * Battles below which a batch is simulated on the current thread instead of being split.
+     */
+    static final long SEQUENTIAL_THRESHOLD = 8192;
+
+    private static final int CRITICAL_CHANCE = 17;
+
+    private final Combatant attacker;
+    private final Combatant defender;
+    private final int attackerHp;
+    private final int attackerSpeed;
+    private final int attackerDamage;
+    private final int defenderHp;
+    private final int defenderSpeed;
+    private final int defenderDamage;
+
+    public BattleSimulator(Combatant attacker, Combatant defender) {
+        this.attacker = attacker;
+        this.defender = defender;
+        this.attackerHp = attacker.hp();
+        this.attackerSpeed = attacker.speed();
+        this.attackerDamage = bestDamage(attacker, defender);
+        this.defenderHp = defender.hp();
+        this.defenderSpeed = defender.speed();
+        this.defenderDamage = bestDamage(defender, attacker);
+    }
+
+    public Combatant attacker() {
+        return attacker;
+    }
+
+    public Combatant defender() {
+        return defender;
+    }
+
+    /**
+     * Fight one battle.
+     *
+     * @return the turns it took, positive when the attacker won, negative when the defender won, 0 for a draw
+     */
+    public int battle(SplittableRandom random) {
+        if (attackerDamage == 0 && defenderDamage == 0) return 0;
+        int hpA = attackerHp;
+        int hpD = defenderHp;
+        for (int turn = 1; turn <= MAX_TURNS; turn++) {
+            if (attackerSpeed > defenderSpeed || attackerSpeed == defenderSpeed && random.nextBoolean()) {
+                if ((hpD -= hit(attackerDamage, random)) <= 0) return turn;
+                if ((hpA -= hit(defenderDamage, random)) <= 0) return -turn;
+            } else {
+                if ((hpA -= hit(defenderDamage, random)) <= 0) return -turn;
+                if ((hpD -= hit(attackerDamage, random)) <= 0) return turn;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Fight {@code battles} battles on the current thread.
+     */
+    public BattleOutcome simulate(long battles, SplittableRandom random) {
+        long wins = 0;
+        long losses = 0;
+        long turns = 0;
+        for (long i = 0; i < battles; i++) {
+            int result = battle(random);
+            if (result > 0) {
+                wins++;
+                turns += result;
+            } else if (result < 0) {
+                losses++;
+                turns -= result;
+            } else {
+                turns += MAX_TURNS;
+            }
+        }
+        return new BattleOutcome(battles, wins, losses, battles - wins - losses, turns);
+    }
+
+    /**
+     * Fight {@code battles} battles spread over {@code pool}. The outcome depends only on the seed and the batch size.
+     */
+    public BattleOutcome simulate(long battles, long seed, ForkJoinPool pool) {
+        return pool.invoke(new Batch(this, battles, new SplittableRandom(seed)));
+    }
+
+    private static int hit(int damage, SplittableRandom random) {
+        if (damage == 0) return 0;
+        if (random.nextInt(256) < CRITICAL_CHANCE) damage *= 2;
+        return Math.max(1, damage * (217 + random.nextInt(39)) / 255);
+    }
+
+    /**
+     * Damage before the critical hit and random factor of the better of the attacker's STAB moves.
+     */
+    static int bestDamage(Combatant attacker, Combatant defender) {
+        int damage = damage(attacker, defender, attacker.firstType());
+        if (attacker.secondType() != null) {
+            damage = Math.max(damage, damage(attacker, defender, attacker.secondType()));
+        }
+        return damage;
+    }
+
+    static int damage(Combatant attacker, Combatant defender, Element moveType) {
+        double effectiveness = TypeChart.effectiveness(moveType, defender.firstType(), defender.secondType());
+        if (effectiveness == 0) return 0;
+        boolean special = isSpecial(moveType);
+        int attack = special ? attacker.specialAttack() : attacker.attack();
+        int defense = Math.max(1, special ? defender.specialDefense() : defender.defense());
+        int damage = Math.min(997, (2 * attacker.level() / 5 + 2) * STANDARD_POWER * attack / defense / 50) + 2;
+        // Every move used is one of the attacker's own types
+        damage += damage / 2;
+        return (int) (damage * effectiveness);
+    }
+
+    /**
+     * Gen II splits physical and special moves by type. Types introduced later have no Gen II category: Fairy counts
+     * as special, since most Fairy moves are special in later generations. Stellar and unknown, which no species has,
+     * count as physical.
+     */
+    static boolean isSpecial(Element type) {
+        return switch (type) {
+            case FIRE, WATER, GRASS, ELECTRIC, PSYCHIC, ICE, DRAGON, DARK, FAIRY -> true;
+            default -> false;
+        };
+    }
+
+    private static final class Batch extends RecursiveTask<BattleOutcome> {
+
+        private final BattleSimulator simulator;
+        private final long battles;
+        private final SplittableRandom random;
+
+        Batch(BattleSimulator simulator, long battles, SplittableRandom random) {
+            this.simulator = simulator;
+            this.battles = battles;
+            this.random = random;
+        }
+
+        @Override
+        protected BattleOutcome compute() {
+            if (battles <= SEQUENTIAL_THRESHOLD) {
+                return simulator.simulate(battles, random);
+            }
+            long half = battles / 2;
+            Batch left = new Batch(simulator, half, random.split());
+            left.fork();
+            BattleOutcome right = new Batch(simulator, battles - half, random).compute();
+            return left.join().plus(right);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.archetype.layer.domain.model;
+
+/**
+ * A Pokemon as it enters a simulated battle: its types and its Gen II stats at its level.
+ * <p>
+ * Stats follow the Gen II formula without stat experience, {@code (base + DV) * 2 * level / 100 + 5}, and
+ * {@code + level + 10} for HP. The special DV is used for both special attack and special defense.
+ */
+public record Combatant(int nationalId,
+                        String name,
+                        Element firstType,
+                        Element secondType,
+                        int level,
+                        int hp,
+                        int attack,
+                        int defense,
+                        int specialAttack,
+                        int specialDefense,
+                        int speed) {
+
+    /**
+     * DVs of a species entered without an owned Pokemon.
+     */
+    public static final int PERFECT_DV = 15;
+
+    /**
+     * A species at the given level with perfect DVs.
+     */
+    public static Combatant of(Species species, int level) {
+        return of(species, species.name(), level, PERFECT_DV, PERFECT_DV, PERFECT_DV, PERFECT_DV, PERFECT_DV);
+    }
+
+    /**
+     * An owned Pokemon with its own level and DVs.
+     */
+    public static Combatant of(Pokemon pokemon) {
+        return of(pokemon.getSpecies(), pokemon.getName(), pokemon.getLevel(), pokemon.getHpIV(), pokemon.getAttackIV(),
+                pokemon.getDefenseIV(), pokemon.getSpecialIV(), pokemon.getSpeedIV());
+    }
+
+    private static Combatant of(Species species, String name, int level, int hpDV, int attackDV, int defenseDV, int specialDV, int speedDV) {
+        Species.PokemonStats base = species.stats();
+        return new Combatant(species.nationalId(), name,
+                species.firstType().element(),
+                species.secondType() != null ? species.secondType().element() : null,
+                level,
+                stat(base.hp(), hpDV, level) + level + 10,
+                stat(base.attack(), attackDV, level) + 5,
+                stat(base.defense(), defenseDV, level) + 5,
+                stat(base.specialAttack(), specialDV, level) + 5,
+                stat(base.specialDefense(), specialDV, level) + 5,
+                stat(base.speed(), speedDV, level) + 5);
+    }
+
+    private static int stat(int base, int dv, int level) {
+        return (base + dv) * 2 * level / 100;
+    }
+}
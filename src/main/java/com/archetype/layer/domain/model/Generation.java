@@ -0,0 +1,56 @@
+package com.archetype.layer.domain.model;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Main-series generations and the national-ID range of the species each one introduced.
+ */
+public enum Generation {
+
+    GEN_I(1, 1, 151),
+    GEN_II(2, 152, 251),
+    GEN_III(3, 252, 386),
+    GEN_IV(4, 387, 493),
+    GEN_V(5, 494, 649),
+    GEN_VI(6, 650, 721),
+    GEN_VII(7, 722, 809),
+    GEN_VIII(8, 810, 905),
+    GEN_IX(9, 906, 1025);
+
+    public static final int FIRST_NATIONAL_ID = 1;
+    public static final int LAST_NATIONAL_ID = 1025;
+
+    private final int number;
+    private final int firstId;
+    private final int lastId;
+
+    Generation(int number, int firstId, int lastId) {
+        this.number = number;
+        this.firstId = firstId;
+        this.lastId = lastId;
+    }
+
+    public int number() {
+        return number;
+    }
+
+    public int firstId() {
+        return firstId;
+    }
+
+    public int lastId() {
+        return lastId;
+    }
+
+    public static Optional<Generation> of(int number) {
+        return Arrays.stream(values()).filter(g -> g.number == number).findFirst();
+    }
+
+    public static Generation ofNationalId(int nationalId) {
+        return Arrays.stream(values())
+                     .filter(g -> nationalId >= g.firstId && nationalId <= g.lastId)
+                     .findFirst()
+                     .orElseThrow(() -> new IllegalArgumentException("No generation introduces national ID " + nationalId));
+    }
+}
@@ -0,0 +1,35 @@
+package com.archetype.layer.domain.model;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * The four rolled DVs of a Gen II Pokemon, 0 to 15 each; the HP DV is derived from them.
+ * <p>
+ * The four DVs fit in 16 bits, one nibble each, so one random {@code int} rolls a Pokemon and one {@code long} rolls
+ * four.
+ */
+public record IndividualValues(int attack, int defense, int speed, int special) {
+
+    public static final int MAX = 15;
+
+    public IndividualValues {
+        if ((attack | defense | speed | special) >>> 4 != 0) {
+            throw new IllegalArgumentException("DVs must be between 0 and " + MAX);
+        }
+    }
+
+    public static IndividualValues roll(RandomGenerator random) {
+        return ofBits(random.nextInt());
+    }
+
+    /**
+     * DVs from the low 16 bits of {@code bits}.
+     */
+    public static IndividualValues ofBits(int bits) {
+        return new IndividualValues(bits & MAX, bits >>> 4 & MAX, bits >>> 8 & MAX, bits >>> 12 & MAX);
+    }
+
+    public int hp() {
+        return (attack & 1) * 8 + (defense & 1) * 4 + (speed & 1) * 2 + (special & 1);
+    }
+}
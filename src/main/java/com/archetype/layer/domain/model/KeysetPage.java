@@ -0,0 +1,16 @@
+package com.archetype.layer.domain.model;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated query.
+ *
+ * @param items   page content, in sort-key order
+ * @param lastKey sort key of the last item when more items follow, otherwise {@code null}
+ */
+public record KeysetPage<T>(List<T> items, String lastKey) {
+
+    public boolean hasNext() {
+        return lastKey != null;
+    }
+}
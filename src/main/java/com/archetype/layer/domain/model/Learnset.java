@@ -0,0 +1,81 @@
+package com.archetype.layer.domain.model;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Moves a species can learn, as a read-only map of move number to name.
+ * <p>
+ * Only a sorted array of move numbers is held; names come from the shared {@link MoveDictionary}. Iteration is in
+ * move number order.
+ */
+public final class Learnset extends AbstractMap<Integer, String> {
+
+    private final int[] numbers;
+    private final MoveDictionary dictionary;
+
+    Learnset(int[] numbers, MoveDictionary dictionary) {
+        int[] sorted = numbers != null ? numbers.clone() : new int[0];
+        Arrays.sort(sorted);
+        this.numbers = sorted;
+        this.dictionary = dictionary;
+    }
+
+    /**
+     * Sorted move numbers of any moves map; free for a {@link Learnset}.
+     */
+    public static int[] numbers(Map<Integer, String> moves) {
+        if (moves == null) return new int[0];
+        if (moves instanceof Learnset learnset) return learnset.numbers.clone();
+        return moves.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+    }
+
+    @Override
+    public int size() {
+        return numbers.length;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof Integer number && Arrays.binarySearch(numbers, number) >= 0;
+    }
+
+    @Override
+    public String get(Object key) {
+        return containsKey(key) ? dictionary.name((Integer) key) : null;
+    }
+
+    @Override
+    public Set<Entry<Integer, String>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<Integer, String>> iterator() {
+                return new Iterator<>() {
+                    private int next;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < numbers.length;
+                    }
+
+                    @Override
+                    public Entry<Integer, String> next() {
+                        if (!hasNext()) throw new NoSuchElementException();
+                        int number = numbers[next++];
+                        return new SimpleImmutableEntry<>(number, dictionary.name(number));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return numbers.length;
+            }
+        };
+    }
+}
@@ -0,0 +1,81 @@
+package com.archetype.layer.domain.model;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable lookup of move names by move number, shared by every species learnset.
+ * <p>
+ * Names are held in an array indexed by move number and interned, so each name exists once in the heap however
+ * many species learn the move. Names are kept in PokeAPI's form, lower case and hyphenated ({@code karate-chop}),
+ * whatever form they were stored in, so moves seeded with display names ({@code Karate Chop}) and moves registered
+ * from PokeAPI read the same.
+ */
+public final class MoveDictionary {
+
+    public static final MoveDictionary EMPTY = new MoveDictionary(new String[0]);
+
+    private final String[] names;
+
+    private MoveDictionary(String[] names) {
+        this.names = names;
+    }
+
+    public static MoveDictionary of(Map<Integer, String> names) {
+        return EMPTY.with(names);
+    }
+
+    /**
+     * A dictionary with the given entries added; existing names are kept.
+     */
+    public MoveDictionary with(Map<Integer, String> additions) {
+        int max = names.length - 1;
+        for (Integer number : additions.keySet()) {
+            if (number != null && number > max) max = number;
+        }
+        String[] next = Arrays.copyOf(names, max + 1);
+        boolean changed = next.length != names.length;
+        for (Map.Entry<Integer, String> entry : additions.entrySet()) {
+            Integer number = entry.getKey();
+            if (number == null || number < 0 || entry.getValue() == null || next[number] != null) continue;
+            next[number] = normalize(entry.getValue());
+            changed = true;
+        }
+        return changed ? new MoveDictionary(next) : this;
+    }
+
+    /**
+     * A move name in PokeAPI's form: lower case, words joined by hyphens, without apostrophes or periods.
+     */
+    public static String normalize(String name) {
+        return name.trim()
+                   .toLowerCase(Locale.ROOT)
+                   .replaceAll("['.]", "")
+                   .replaceAll("[\\s_]+", "-")
+                   .intern();
+    }
+
+    public String name(int number) {
+        return number >= 0 && number < names.length ? names[number] : null;
+    }
+
+    public boolean contains(int number) {
+        return name(number) != null;
+    }
+
+    public int size() {
+        int size = 0;
+        for (String name : names) {
+            if (name != null) size++;
+        }
+        return size;
+    }
+
+    /**
+     * The moves of a learnset as a read-only map of move number to name, backed by the learnset array.
+     */
+    public Learnset learnset(int[] numbers) {
+        return new Learnset(numbers, this);
+    }
+}
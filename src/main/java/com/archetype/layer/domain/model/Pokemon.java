@@ -6,14 +6,16 @@ import lombok.Setter;
 import org.springframework.util.StringUtils;
 
 import java.util.List;
-import java.util.Random;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
 
 
 @Setter
 @Getter
 public class Pokemon {
 
-    public static Random rand = new Random();
+    final PokemonId id;
     final int attackIV;
     final int defenseIV;
     final int speedIV;
@@ -25,8 +27,29 @@ public class Pokemon {
     int level;
     long maxHp;
     MoveSet moveSet = new MoveSet();
-
+    /**
+     * Version of the stored Pokemon, the precondition of partial updates; 0 until it is first updated.
+     */
+    long version;
+
+    /**
+     * A Pokemon with DVs rolled from the current thread's generator.
+     */
+    @Default
     public Pokemon(Species species, String name, int level) {
+        this(species, name, level, IndividualValues.roll(ThreadLocalRandom.current()));
+    }
+
+    public Pokemon(Species species, String name, int level, IndividualValues ivs) {
+        this(new PokemonId(), species, name, level, ivs);
+    }
+
+    /**
+     * A stored Pokemon, rebuilt with its own id and DVs.
+     */
+    public Pokemon(PokemonId id, Species species, String name, int level, IndividualValues ivs) {
+
+        this.id = id;
 
         this.name = StringUtils.hasText(name) ? name : species.name();
 
@@ -34,11 +57,11 @@ public class Pokemon {
 
         this.level = level;
 
-        this.attackIV = rand.nextInt(16);// 4-bit random value (0-15)
-        this.defenseIV = rand.nextInt(16);
-        this.speedIV = rand.nextInt(16);
-        this.specialIV = rand.nextInt(16);
-        this.hpIV = calculateHpIV();
+        this.attackIV = ivs.attack();
+        this.defenseIV = ivs.defense();
+        this.speedIV = ivs.speed();
+        this.specialIV = ivs.special();
+        this.hpIV = ivs.hp();
         this.shiny = calculateShiny();
         this.maxHp = calculateMaxHp();
         species.moves().entrySet().stream()
@@ -46,8 +69,12 @@ public class Pokemon {
                .forEach(m -> this.moveSet.addMove(m.getValue()));
     }
 
+    public IndividualValues getIndividualValues() {
+        return new IndividualValues(attackIV, defenseIV, speedIV, specialIV);
+    }
+
     public List<String> getMoves() {
-        return List.of(moveSet.move1, moveSet.move2, moveSet.move3, moveSet.move4);
+        return Stream.of(moveSet.move1, moveSet.move2, moveSet.move3, moveSet.move4).filter(Objects::nonNull).toList();
     }
 
     boolean calculateShiny() {
@@ -56,10 +83,6 @@ public class Pokemon {
                 (List.of(2, 3, 6, 7, 11, 14, 15).contains(attackIV));
     }
 
-    int calculateHpIV() {
-        return (attackIV % 2) * 8 + (defenseIV % 2) * 4 + (speedIV % 2) * 2 + (specialIV % 2);
-    }
-
     int calculateMaxHp() {
         return ((this.species.stats().hp() + this.hpIV) * this.level / 100) + this.level + 10;
     }
@@ -79,10 +102,15 @@ public class Pokemon {
                     move.equals(move3) || move.equals(move4)) {
                 return;
             }
-            if (replaceMove(move1, move).equals(move)) return;
-            if (replaceMove(move2, move).equals(move)) return;
-            if (replaceMove(move3, move).equals(move)) return;
-            replaceMove(move4, move);
+            if (move1 == null) {
+                move1 = move;
+            } else if (move2 == null) {
+                move2 = move;
+            } else if (move3 == null) {
+                move3 = move;
+            } else {
+                move4 = replaceMove(move4, move);
+            }
         }
 
         String replaceMove(String initial, String replacement) {
@@ -0,0 +1,11 @@
+package com.archetype.layer.domain.model;
+
+/**
+ * Fields to change on a stored Pokemon; {@code null} leaves a field as it is.
+ */
+public record PokemonChanges(String name, Integer level) {
+
+    public boolean isEmpty() {
+        return name == null && level == null;
+    }
+}
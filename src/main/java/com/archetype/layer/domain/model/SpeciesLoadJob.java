@@ -0,0 +1,83 @@
+package com.archetype.layer.domain.model;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Background ingestion of a national-ID range of species from PokeAPI.
+ * <p>
+ * {@code lastCompletedId} is the checkpoint: every species up to it has been persisted, so an interrupted job
+ * resumes from the next ID. {@code inserted}, {@code updated} and {@code unchanged} count how the persisted species
+ * compared with what was already stored.
+ */
+public record SpeciesLoadJob(String id,
+                             Status status,
+                             Source source,
+                             int firstId,
+                             int lastId,
+                             int lastCompletedId,
+                             int inserted,
+                             int updated,
+                             int unchanged,
+                             Instant startedAt,
+                             Instant updatedAt,
+                             Instant finishedAt,
+                             String failure) {
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    /**
+     * Where species are read from: PokeAPI over HTTP, or a local copy of the PokeAPI data dump.
+     */
+    public enum Source {
+        API,
+        DUMP
+    }
+
+    public static SpeciesLoadJob start(Source source, int firstId, int lastId, Instant now) {
+        return new SpeciesLoadJob(UUID.randomUUID().toString(), Status.RUNNING, source, firstId, lastId, firstId - 1, 0, 0, 0, now, now, null, null);
+    }
+
+    public SpeciesLoadJob checkpoint(int completedId, SpeciesSyncResult batch, Instant now) {
+        return new SpeciesLoadJob(id, status, source, firstId, lastId, completedId,
+                inserted + batch.inserted(), updated + batch.updated(), unchanged + batch.unchanged(),
+                startedAt, now, finishedAt, failure);
+    }
+
+    public SpeciesLoadJob completed(Instant now) {
+        return new SpeciesLoadJob(id, Status.COMPLETED, source, firstId, lastId, lastCompletedId, inserted, updated, unchanged, startedAt, now, now, null);
+    }
+
+    public SpeciesLoadJob failed(String reason, Instant now) {
+        return new SpeciesLoadJob(id, Status.FAILED, source, firstId, lastId, lastCompletedId, inserted, updated, unchanged, startedAt, now, now, reason);
+    }
+
+    public int total() {
+        return lastId - firstId + 1;
+    }
+
+    public int loaded() {
+        return lastCompletedId - firstId + 1;
+    }
+
+    public boolean isFromDump() {
+        return source == Source.DUMP;
+    }
+
+    public boolean isRunning() {
+        return status == Status.RUNNING;
+    }
+
+    /**
+     * Species persisted per second between the start of the job and its last checkpoint.
+     */
+    public double speciesPerSecond() {
+        long millis = Duration.between(startedAt, updatedAt).toMillis();
+        return millis > 0 ? loaded() * 1000.0 / millis : 0;
+    }
+}
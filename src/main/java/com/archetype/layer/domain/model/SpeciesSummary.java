@@ -0,0 +1,12 @@
+package com.archetype.layer.domain.model;
+
+/**
+ * The fields of a species shown in listings; the second type is {@code null} for single-typed species.
+ */
+public record SpeciesSummary(int nationalId, String name, Element firstType, Element secondType) {
+
+    public static SpeciesSummary of(Species species) {
+        return new SpeciesSummary(species.nationalId(), species.name(), species.firstType().element(),
+                species.secondType() != null ? species.secondType().element() : null);
+    }
+}
@@ -0,0 +1,13 @@
+package com.archetype.layer.domain.model;
+
+/**
+ * Outcome of synchronizing species with the stored catalog.
+ *
+ * @param inserted  species that were not stored yet
+ * @param updated   stored species whose content changed
+ * @param unchanged stored species left untouched
+ */
+public record SpeciesSyncResult(int inserted, int updated, int unchanged) {
+
+    public static final SpeciesSyncResult EMPTY = new SpeciesSyncResult(0, 0, 0);
+}
@@ -0,0 +1,58 @@
+package com.archetype.layer.domain.model;
+
+/**
+ * Immutable attacker × defender damage multiplier matrix over every {@link Element}, built once from the matchups of
+ * {@link Type}.
+ * <p>
+ * Multipliers are held in a flat array indexed by {@code attacking.ordinal() * size + defending.ordinal()}, so a
+ * lookup is two ordinals and an array read instead of scans over the matchup lists. Cells come from the defending
+ * type's lists: a move has no effect (0) when the defender lists its type in {@code immuneTo}, is super effective (2)
+ * when it is in {@code weakVs}, not very effective (0.5) when it is in {@code resists}, and neutral (1) otherwise.
+ * Against two types the multipliers of both are multiplied, from 0.25 to 4.
+ */
+public final class TypeChart {
+
+    private static final Element[] ELEMENTS = Element.values();
+    private static final int SIZE = ELEMENTS.length;
+    private static final double[] MULTIPLIERS = build();
+
+    private TypeChart() {
+    }
+
+    public static double effectiveness(Element attacking, Element defending) {
+        return MULTIPLIERS[attacking.ordinal() * SIZE + defending.ordinal()];
+    }
+
+    /**
+     * @param secondType {@code null} for single-typed defenders
+     */
+    public static double effectiveness(Element attacking, Element firstType, Element secondType) {
+        int row = attacking.ordinal() * SIZE;
+        double multiplier = MULTIPLIERS[row + firstType.ordinal()];
+        return secondType != null && secondType != firstType ? multiplier * MULTIPLIERS[row + secondType.ordinal()] : multiplier;
+    }
+
+    public static double effectiveness(Element attacking, Species defending) {
+        return effectiveness(attacking, defending.firstType().element(),
+                defending.secondType() != null ? defending.secondType().element() : null);
+    }
+
+    private static double[] build() {
+        double[] multipliers = new double[SIZE * SIZE];
+        for (Element attacking : ELEMENTS) {
+            for (Element defending : ELEMENTS) {
+                Type defender = Type.fromElement(defending);
+                double multiplier = 1;
+                if (defender.immuneTo().contains(attacking)) {
+                    multiplier = 0;
+                } else if (defender.weakVs().contains(attacking)) {
+                    multiplier = 2;
+                } else if (defender.resists().contains(attacking)) {
+                    multiplier = 0.5;
+                }
+                multipliers[attacking.ordinal() * SIZE + defending.ordinal()] = multiplier;
+            }
+        }
+        return multipliers;
+    }
+}
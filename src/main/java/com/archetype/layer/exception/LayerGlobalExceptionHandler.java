@@ -106,6 +106,36 @@ public class LayerGlobalExceptionHandler {
                 "pokemon-not-found", ex.getErrorCode() + ".reason");
     }
 
+    /**
+     * Handle species load job not found exceptions.
+     * Results in HTTP 404 Not Found.
+     */
+    @ExceptionHandler(SpeciesLoadJobNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ProblemDetail handleSpeciesLoadJobNotFound(SpeciesLoadJobNotFoundException ex,
+                                                      HttpServletRequest request,
+                                                      Locale locale) {
+
+        logDomainException(ex, request, false);
+        return buildDomainProblemDetail(ex, request, locale, HttpStatus.NOT_FOUND,
+                "species-load-job-not-found", "species.load-job.not-found.reason");
+    }
+
+    /**
+     * Handle species not found exceptions.
+     * Results in HTTP 404 Not Found.
+     */
+    @ExceptionHandler(SpeciesNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ProblemDetail handleSpeciesNotFound(SpeciesNotFoundException ex,
+                                               HttpServletRequest request,
+                                               Locale locale) {
+
+        logDomainException(ex, request, false);
+        return buildDomainProblemDetail(ex, request, locale, HttpStatus.NOT_FOUND,
+                "species-not-found", "species.not-found.reason");
+    }
+
     /**
      * Handle Pokemon already exists exceptions.
      * Results in HTTP 409 Conflict.
@@ -121,6 +151,21 @@ public class LayerGlobalExceptionHandler {
                 "pokemon-already-exists", "pokemon.already-exists.reason");
     }
 
+    /**
+     * Handle optimistic locking failures of Pokemon updates.
+     * Results in HTTP 409 Conflict.
+     */
+    @ExceptionHandler(PokemonVersionConflictException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ProblemDetail handlePokemonVersionConflict(PokemonVersionConflictException ex,
+                                                      HttpServletRequest request,
+                                                      Locale locale) {
+
+        logDomainException(ex, request, false);
+        return buildDomainProblemDetail(ex, request, locale, HttpStatus.CONFLICT,
+                "pokemon-version-conflict", "pokemon.version-conflict.reason");
+    }
+
     /**
      * Handle Pokemon business validation exceptions.
      * Results in HTTP 422 Unprocessable Entity.
@@ -0,0 +1,20 @@
+package com.archetype.layer.exception;
+
+import java.util.UUID;
+
+/**
+ * Domain exception thrown when a Pokemon was modified after the version an update was made against.
+ * Results in HTTP 409 Conflict responses.
+ * <p>
+ * Follows ADR 0016 (Exception handling strategy).
+ */
+public class PokemonVersionConflictException extends LayerDomainException {
+
+    /**
+     * @param id      The Pokemon UUID
+     * @param version The version the update expected
+     */
+    public PokemonVersionConflictException(UUID id, long version) {
+        super("pokemon.version-conflict", id, version);
+    }
+}
@@ -0,0 +1,17 @@
+package com.archetype.layer.exception;
+
+/**
+ * Domain exception thrown when a species load job cannot be found.
+ * Results in HTTP 404 Not Found responses.
+ * <p>
+ * Follows ADR 0016 (Exception handling strategy).
+ */
+public class SpeciesLoadJobNotFoundException extends LayerDomainException {
+
+    /**
+     * @param jobId The job ID that was not found
+     */
+    public SpeciesLoadJobNotFoundException(String jobId) {
+        super("species.load-job.not-found", jobId);
+    }
+}
@@ -0,0 +1,17 @@
+package com.archetype.layer.exception;
+
+/**
+ * Domain exception thrown when no species has the requested national ID.
+ * Results in HTTP 404 Not Found responses.
+ * <p>
+ * Follows ADR 0016 (Exception handling strategy).
+ */
+public class SpeciesNotFoundException extends LayerDomainException {
+
+    /**
+     * @param nationalId The national ID no species was found for
+     */
+    public SpeciesNotFoundException(int nationalId) {
+        super("species.not-found", nationalId);
+    }
+}
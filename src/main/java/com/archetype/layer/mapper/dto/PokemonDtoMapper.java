@@ -20,6 +20,7 @@ public interface PokemonDtoMapper {
     @Mapping(target = "secret.specialIV", source = "pokemon.specialIV")
     @Mapping(target = "secret.speedIV", source = "pokemon.speedIV")
     @Mapping(target = "secret.hpIV", source = "pokemon.hpIV")
+    @Mapping(target = "id", source = "pokemon.id.uuid")
     @Mapping(target = "nationalId", source = "pokemon.species.nationalId")
     @Mapping(target = "moves", expression = "java(pokemon.getMoves())")
     @Mapping(target = "firstType", source = "pokemon.species.firstType.element")
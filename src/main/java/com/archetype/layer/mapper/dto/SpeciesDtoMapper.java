@@ -1,7 +1,9 @@
 package com.archetype.layer.mapper.dto;
 
 import com.archetype.layer.domain.dto.response.SpeciesResponse;
+import com.archetype.layer.domain.dto.response.SpeciesSummaryResponse;
 import com.archetype.layer.domain.model.Species;
+import com.archetype.layer.domain.model.SpeciesSummary;
 import org.mapstruct.Mapper;
 
 import java.util.List;
@@ -12,4 +14,6 @@ public interface SpeciesDtoMapper {
     SpeciesResponse toDto(Species species);
 
     List<SpeciesResponse> toDto(List<Species> species);
+
+    SpeciesSummaryResponse toDto(SpeciesSummary summary);
 }
@@ -0,0 +1,16 @@
+package com.archetype.layer.mapper.dto;
+
+import com.archetype.layer.domain.dto.response.SpeciesLoadJobResponse;
+import com.archetype.layer.domain.model.SpeciesLoadJob;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper
+public interface SpeciesLoadJobDtoMapper {
+
+    @Mapping(target = "jobId", source = "id")
+    @Mapping(target = "loaded", expression = "java(job.loaded())")
+    @Mapping(target = "total", expression = "java(job.total())")
+    @Mapping(target = "speciesPerSecond", expression = "java(job.speciesPerSecond())")
+    SpeciesLoadJobResponse toDto(SpeciesLoadJob job);
+}
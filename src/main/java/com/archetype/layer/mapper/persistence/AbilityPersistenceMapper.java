@@ -0,0 +1,24 @@
+package com.archetype.layer.mapper.persistence;
+
+import com.archetype.layer.domain.model.Ability;
+import com.archetype.layer.persistence.document.AbilityDocument;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * Persistence mapper for the ability catalog collection.
+ * Following ADR 0002 - centralized mapper organization in mapper.persistence package.
+ */
+@Mapper
+public interface AbilityPersistenceMapper {
+
+    @Mapping(target = "key", source = "key")
+    @Mapping(target = "abilityId", source = "ability.id")
+    @Mapping(target = "name", source = "ability.name")
+    @Mapping(target = "description", source = "ability.description")
+    AbilityDocument toDocument(String key, Ability ability);
+
+    @Mapping(target = "id", source = "abilityId")
+    @Mapping(target = "hidden", ignore = true)
+    Ability toDomain(AbilityDocument doc);
+}
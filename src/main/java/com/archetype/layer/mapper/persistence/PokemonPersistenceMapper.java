@@ -1,14 +1,15 @@
 package com.archetype.layer.mapper.persistence;
 
 import com.archetype.layer.domain.model.Ability;
+import com.archetype.layer.domain.model.IndividualValues;
 import com.archetype.layer.domain.model.Pokemon;
+import com.archetype.layer.domain.model.Species;
 import com.archetype.layer.persistence.document.AbilityEmbedded;
 import com.archetype.layer.persistence.document.PokemonDocument;
-import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
-import java.util.List;
+import java.util.SplittableRandom;
 
 @Mapper
 public interface PokemonPersistenceMapper {
@@ -17,16 +18,25 @@ public interface PokemonPersistenceMapper {
     @Mapping(target = "types", expression = "java(pokemon.getSpecies().typesAsString())")
     @Mapping(target = "speciesName", source = "pokemon.species.name")
     @Mapping(target = "nationalId", source = "pokemon.species.nationalId")
-    @Mapping(target = "id", expression = "java(new PokemonId())")
+    @Mapping(target = "id", source = "pokemon.id")
     @Mapping(target = "abilities", source = "pokemon.species.abilities")
+    @Mapping(target = "ivs", source = "pokemon.individualValues")
+    @Mapping(target = "version", ignore = true)
     PokemonDocument toDocument(Pokemon pokemon);
 
 
-    @BeanMapping(ignoreByDefault = true)
-    @Mapping(target = "species", ignore = true)
-    Pokemon toDomain(PokemonDocument doc);
-
-    List<Pokemon> toDomain(List<PokemonDocument> docs);
+    /**
+     * Rebuild a stored Pokemon with its id, DVs and version. The species is not embedded in the document and is resolved by
+     * the caller from {@code nationalId}. Documents stored before DVs were persisted get DVs derived from their id, so
+     * every read of them agrees.
+     */
+    default Pokemon toDomain(PokemonDocument doc, Species species) {
+        IndividualValues ivs = doc.ivs() != null ? doc.ivs()
+                : IndividualValues.roll(new SplittableRandom(doc.id().uuid().getMostSignificantBits() ^ doc.id().uuid().getLeastSignificantBits()));
+        Pokemon pokemon = new Pokemon(doc.id(), species, doc.name(), doc.level() != null ? doc.level() : 1, ivs);
+        pokemon.setVersion(doc.version() != null ? doc.version() : 0);
+        return pokemon;
+    }
 
     AbilityEmbedded toDocument(Ability ability);
 
@@ -0,0 +1,23 @@
+package com.archetype.layer.mapper.persistence;
+
+import com.archetype.layer.domain.model.SpeciesLoadJob;
+import com.archetype.layer.persistence.document.SpeciesLoadJobDocument;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+/**
+ * Persistence mapper for species load job checkpoints.
+ * Following ADR 0002 - centralized mapper organization in mapper.persistence package.
+ */
+@Mapper
+public interface SpeciesLoadJobPersistenceMapper {
+
+    SpeciesLoadJobDocument toDocument(SpeciesLoadJob job);
+
+    @Mapping(target = "completed", ignore = true)
+    SpeciesLoadJob toDomain(SpeciesLoadJobDocument doc);
+
+    List<SpeciesLoadJob> toDomain(List<SpeciesLoadJobDocument> docs);
+}
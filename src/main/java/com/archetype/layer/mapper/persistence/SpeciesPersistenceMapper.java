@@ -1,13 +1,24 @@
 package com.archetype.layer.mapper.persistence;
 
 import com.archetype.layer.domain.model.Ability;
+import com.archetype.layer.domain.model.Element;
+import com.archetype.layer.domain.model.Learnset;
+import com.archetype.layer.domain.model.MoveDictionary;
 import com.archetype.layer.domain.model.Species;
+import com.archetype.layer.domain.model.Type;
 import com.archetype.layer.persistence.document.SpeciesDocument;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Named;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -19,15 +30,24 @@ import java.util.Objects;
 public interface SpeciesPersistenceMapper {
 
     @Mapping(target = "abilities", source = "abilities", qualifiedByName = "idsToAbilities")
-    @Mapping(target = "moves", source = "doc.moves")
-    Species toDomain(SpeciesDocument doc);
+    @Mapping(target = "moves", source = "learnset", qualifiedByName = "learnsetToMoves")
+    Species toDomain(SpeciesDocument doc, @Context MoveDictionary moves);
 
     @Mapping(target = "abilities", source = "abilities", qualifiedByName = "abilitiesToIds")
-    @Mapping(target = "moves", source = "species.moves")
+    @Mapping(target = "learnset", source = "moves", qualifiedByName = "movesToLearnset")
+    @Mapping(target = "contentHash", source = "species", qualifiedByName = "contentHash")
     SpeciesDocument toDocument(Species species);
 
     // ---- helpers ----
 
+    default Type elementToType(Element element) {
+        return element != null ? Type.fromElement(element) : null;
+    }
+
+    default Element typeToElement(Type type) {
+        return type != null ? type.element() : null;
+    }
+
     @Named("idsToAbilities")
     default List<Ability> idsToAbilities(List<Integer> ids) {
         if (ids == null) return List.of();
@@ -46,8 +66,38 @@ public interface SpeciesPersistenceMapper {
                         .toList();
     }
 
+    @Named("learnsetToMoves")
+    default Map<Integer, String> learnsetToMoves(int[] learnset, @Context MoveDictionary moves) {
+        return moves.learnset(learnset);
+    }
+
+    @Named("movesToLearnset")
+    default int[] movesToLearnset(Map<Integer, String> moves) {
+        return Learnset.numbers(moves);
+    }
+
+    /**
+     * SHA-256 over a canonical rendering of the persisted fields: national ID, name, types, ability IDs in slot
+     * order, learnset move numbers, and stats.
+     */
+    @Named("contentHash")
+    default String contentHash(Species species) {
+        StringBuilder canonical = new StringBuilder(512)
+                .append(species.nationalId()).append('|')
+                .append(species.name()).append('|')
+                .append(species.firstType() != null ? species.firstType().element() : null).append('|')
+                .append(species.secondType() != null ? species.secondType().element() : null).append('|')
+                .append(abilitiesToIds(species.abilities())).append('|');
+        canonical.append(Arrays.toString(Learnset.numbers(species.moves()))).append('|').append(species.stats());
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
 
     List<SpeciesDocument> toDocuments(List<Species> species);
 
-    List<Species> toDomain(List<SpeciesDocument> speciesDocuments);
+    List<Species> toDomain(List<SpeciesDocument> speciesDocuments, @Context MoveDictionary moves);
 }
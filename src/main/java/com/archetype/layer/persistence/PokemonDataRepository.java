@@ -1,20 +1,32 @@
 package com.archetype.layer.persistence;
 
+import com.archetype.layer.domain.model.Ability;
+import com.archetype.layer.domain.model.KeysetPage;
 import com.archetype.layer.domain.model.Pokemon;
+import com.archetype.layer.domain.model.PokemonChanges;
 import com.archetype.layer.domain.model.Species;
+import com.archetype.layer.domain.model.SpeciesLoadJob;
+import com.archetype.layer.domain.model.SpeciesSyncResult;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface PokemonDataRepository {
 
 
-    List<Species> getAllSpecies();
+    /**
+     * Species ordered by national ID, starting after {@code afterId} (0 for the first page).
+     */
+    KeysetPage<Species> getSpeciesPage(int afterId, int size);
 
     Species getSpeciesById(int id);
 
@@ -26,19 +38,80 @@ public interface PokemonDataRepository {
 
     Pokemon getPokemonById(UUID id);
 
+    /**
+     * Apply changes to a stored Pokemon in a single conditional update, without reading it first.
+     *
+     * @param version version the changes were made against
+     * @return the new version
+     * @throws com.archetype.layer.exception.PokemonNotFoundException        when no Pokemon has this ID
+     * @throws com.archetype.layer.exception.PokemonVersionConflictException when the Pokemon is at another version
+     */
+    long updatePokemon(UUID id, long version, PokemonChanges changes);
+
+    /**
+     * Species with the given national IDs, keyed by national ID, read in a single {@code $in} query.
+     * IDs with no stored species are absent from the result.
+     */
+    Map<Integer, Species> getSpeciesByIds(Collection<Integer> nationalIds);
+
+    /**
+     * Insert Pokemon in a single unordered bulk write; a failing document does not stop the others.
+     *
+     * @return failure reason by position in {@code pokemon}, empty when every insert succeeded
+     */
+    Map<Integer, String> insertAll(List<Pokemon> pokemon);
+
     List<Pokemon> getPokemonByName(String name);
 
+    /**
+     * Upsert species by national ID in a single bulk write.
+     */
     void saveAll(List<Species> species);
 
+    /**
+     * Write only the species that are missing or whose content hash differs from the stored one, in a single
+     * unordered bulk write.
+     */
+    SpeciesSyncResult resync(List<Species> species);
+
+    long speciesCount();
+
+    /**
+     * Every species in national ID order, read lazily from a database cursor. Close the stream when done.
+     */
+    Stream<Species> streamSpecies();
+
+    /**
+     * Every owned Pokemon, read lazily from a database cursor. Close the stream when done.
+     */
+    Stream<Pokemon> streamPokemon();
+
     boolean speciesExistsById(int id);
 
     boolean pokemonExistsById(UUID id);
 
-    boolean existsByNationalId(@NotNull(message = "pokemon.national-id.required") @Min(value = 1, message = "pokemon.national-id.min") @Max(value = 151, message = "pokemon.national-id.max") int i);
+    boolean existsByNationalId(@NotNull(message = "pokemon.national-id.required") @Min(value = 1, message = "pokemon.national-id.min") @Max(value = 1025, message = "pokemon.national-id.max") int i);
 
     void deletePokemon(UUID id);
 
-    List<Pokemon> getAllPokemon();
+    /**
+     * Owned Pokemon ordered by ID, starting after the Pokemon with ID {@code afterKey}.
+     *
+     * @param nationalId only Pokemon of this species, or all when {@code null}
+     * @param afterKey   {@link KeysetPage#lastKey()} of the previous page, {@code null} for the first page
+     */
+    KeysetPage<Pokemon> getPokemonPage(Integer nationalId, String afterKey, int size);
+
+    /**
+     * Abilities persisted by previous species loads, keyed by their PokeAPI name.
+     */
+    Map<String, Ability> getAbilityCatalog();
+
+    void saveAbilities(Map<String, Ability> abilities);
+
+    SpeciesLoadJob save(SpeciesLoadJob job);
+
+    Optional<SpeciesLoadJob> getLoadJob(String id);
 
-    List<Pokemon> getAllPokemonOfNationalId(int nationalId);
+    List<SpeciesLoadJob> getLoadJobs(SpeciesLoadJob.Status status);
 }
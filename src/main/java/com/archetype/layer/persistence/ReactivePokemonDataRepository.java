@@ -0,0 +1,31 @@
+package com.archetype.layer.persistence;
+
+import com.archetype.layer.domain.model.KeysetPage;
+import com.archetype.layer.domain.model.Pokemon;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Non-blocking counterpart of the Pokemon reads and writes of {@link PokemonDataRepository}, on the reactive
+ * MongoDB driver. Same documents, queries and indexes; results are emitted when the database answers instead of
+ * holding the calling thread until then.
+ */
+@Repository
+public interface ReactivePokemonDataRepository {
+
+    /**
+     * @return the Pokemon, or an error with {@link com.archetype.layer.exception.PokemonNotFoundException}
+     */
+    Mono<Pokemon> getPokemonById(UUID id);
+
+    /**
+     * Owned Pokemon ordered by ID, starting after the Pokemon with ID {@code afterKey}.
+     *
+     * @param nationalId only Pokemon of this species, or all when {@code null}
+     */
+    Mono<KeysetPage<Pokemon>> getPokemonPage(Integer nationalId, String afterKey, int size);
+
+    Mono<Pokemon> save(Pokemon pokemon);
+}
@@ -0,0 +1,15 @@
+package com.archetype.layer.persistence.document;
+
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.MongoId;
+
+/**
+ * Ability catalog entry keyed by its PokeAPI name, so species loads can resolve abilities without calling PokeAPI.
+ */
+@Document(collection = "pokemon-abilities")
+public record AbilityDocument(@MongoId String key,
+                              int abilityId,
+                              String name,
+                              String description) {
+
+}
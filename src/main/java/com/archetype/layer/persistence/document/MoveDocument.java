@@ -0,0 +1,13 @@
+package com.archetype.layer.persistence.document;
+
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Entry of the shared move dictionary that species learnsets refer to by move number. The collection is also
+ * seeded by {@code mongo/init-pokemon-db.js}, whose extra fields are ignored here.
+ */
+@Document(collection = "moves")
+public record MoveDocument(@Indexed(unique = true) int number, String name) {
+
+}
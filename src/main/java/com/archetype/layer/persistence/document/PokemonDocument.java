@@ -1,14 +1,22 @@
 package com.archetype.layer.persistence.document;
 
+import com.archetype.layer.domain.model.IndividualValues;
 import com.archetype.layer.domain.model.PokemonId;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.MongoId;
 
 import java.util.List;
 
+/**
+ * Owned Pokemon. {@code version} is incremented by every write and guards partial updates; documents stored before
+ * it was introduced, or by bulk inserts, have none and count as version 0. {@code ivs} holds the rolled DVs; documents
+ * stored before they were persisted have none.
+ */
 @Document(collection = "pokemons")
-
+@CompoundIndex(name = PokemonDocument.NATIONAL_ID_INDEX, def = "{'nationalId': 1, '_id': 1}")
 public record PokemonDocument(
         @MongoId PokemonId id,
         @Indexed String name,
@@ -16,9 +24,16 @@ public record PokemonDocument(
         List<AbilityEmbedded> abilities,
         Integer level,
         Boolean shiny,
-        @Indexed Integer nationalId,
-        String speciesName
+        Integer nationalId,
+        @Indexed String speciesName,
+        IndividualValues ivs,
+        @Version Long version
 ) {
 
+    /**
+     * Serves lookups by species and keyset pages within a species; it also covers existence checks, which only
+     * read {@code _id}. Replaces the former single-field {@code nationalId} index, which is a prefix of it.
+     */
+    public static final String NATIONAL_ID_INDEX = "nationalId_id";
 
 }
@@ -1,21 +1,32 @@
 package com.archetype.layer.persistence.document;
 
+import com.archetype.layer.domain.model.Element;
 import com.archetype.layer.domain.model.Species;
-import com.archetype.layer.domain.model.Type;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.MongoId;
 
 import java.util.List;
-import java.util.Map;
 
+/**
+ * Species catalog entry. Types are stored as their {@link Element} only; the matchups are rebuilt from
+ * {@link com.archetype.layer.domain.model.Type#fromElement} on read. Moves are stored as a sorted array of move
+ * numbers referring to the shared {@link MoveDocument} dictionary. {@code contentHash} fingerprints every other
+ * field so a resync can skip unchanged species.
+ * <p>
+ * The {@code firstType_secondType} index serves lookups by first type and by both types; together with the
+ * {@code secondType} index it also serves lookups by either type.
+ */
 @Document(collection = "pokemon-species")
+@CompoundIndex(name = "firstType_secondType", def = "{'firstType': 1, 'secondType': 1}")
 public record SpeciesDocument(@MongoId int nationalId,
                               @Indexed(unique = true) String name,
-                              Type firstType,
-                              Type secondType,
+                              Element firstType,
+                              @Indexed Element secondType,
                               List<Integer> abilities,
-                              Map<Integer, String> moves,
-                              Species.PokemonStats stats) {
+                              int[] learnset,
+                              Species.PokemonStats stats,
+                              String contentHash) {
 
 }
@@ -0,0 +1,27 @@
+package com.archetype.layer.persistence.document;
+
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.MongoId;
+
+import java.time.Instant;
+
+/**
+ * Progress and checkpoint of a species load job.
+ */
+@Document(collection = "species-load-jobs")
+public record SpeciesLoadJobDocument(@MongoId String id,
+                                     @Indexed String status,
+                                     String source,
+                                     int firstId,
+                                     int lastId,
+                                     int lastCompletedId,
+                                     int inserted,
+                                     int updated,
+                                     int unchanged,
+                                     Instant startedAt,
+                                     Instant updatedAt,
+                                     Instant finishedAt,
+                                     String failure) {
+
+}
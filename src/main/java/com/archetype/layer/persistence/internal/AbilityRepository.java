@@ -0,0 +1,10 @@
+package com.archetype.layer.persistence.internal;
+
+import com.archetype.layer.persistence.document.AbilityDocument;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AbilityRepository extends MongoRepository<AbilityDocument, String> {
+
+}
@@ -0,0 +1,105 @@
+package com.archetype.layer.persistence.internal;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Checks on startup that every index declared on a mapped document exists in its collection.
+ * <p>
+ * Declared indexes that are missing are created, whether or not {@code auto-index-creation} is on. An existing index
+ * with the declared name but different keys fails startup, since the queries relying on it would silently fall back
+ * to collection scans. Indexes in a collection that a document does not declare are only logged. Collections shared by
+ * several documents are checked once per document, so their declarations must agree.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MongoIndexVerifier {
+
+    private static final String ID_INDEX = "_id_";
+
+    private final MongoTemplate mongoTemplate;
+
+    @EventListener(ApplicationStartedEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onApplicationStarted() {
+        verify();
+    }
+
+    /**
+     * @return number of indexes created
+     * @throws IllegalStateException when an existing index does not match its declaration
+     */
+    public int verify() {
+        MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext = mongoTemplate.getConverter().getMappingContext();
+        MongoPersistentEntityIndexResolver resolver = new MongoPersistentEntityIndexResolver(mappingContext);
+
+        List<String> mismatches = new ArrayList<>();
+        int created = 0;
+        for (MongoPersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
+            if (!entity.isAnnotationPresent(org.springframework.data.mongodb.core.mapping.Document.class)) continue;
+
+            List<Document> existing = mongoTemplate.getCollection(entity.getCollection()).listIndexes().into(new ArrayList<>());
+            Set<String> declared = new HashSet<>(Set.of(ID_INDEX));
+            for (IndexDefinition index : resolver.resolveIndexFor(entity.getType())) {
+                Document keys = index.getIndexKeys();
+                String name = index.getIndexOptions().getString("name");
+                // An index on the same keys under another name, e.g. one created by the init scripts, serves as well
+                Document match = existing.stream()
+                                         .filter(info -> info.getString("name").equals(name))
+                                         .findFirst()
+                                         .or(() -> existing.stream().filter(info -> sameKeys(keys, info.get("key", Document.class))).findFirst())
+                                         .orElse(null);
+                if (match == null) {
+                    log.info("Creating missing index {} {} on {}", name, keys.toJson(), entity.getCollection());
+                    mongoTemplate.indexOps(entity.getCollection()).createIndex(index);
+                    created++;
+                    continue;
+                }
+                declared.add(match.getString("name"));
+                if (!sameKeys(keys, match.get("key", Document.class))) {
+                    mismatches.add(entity.getCollection() + "." + match.getString("name") + " has keys " + match.get("key", Document.class).toJson()
+                            + " but " + entity.getType().getSimpleName() + " declares " + keys.toJson());
+                }
+            }
+            existing.stream()
+                    .map(info -> info.getString("name"))
+                    .filter(name -> !declared.contains(name))
+                    .forEach(name -> log.debug("Index {} on {} is not declared by {}", name, entity.getCollection(), entity.getType().getSimpleName()));
+        }
+
+        if (!mismatches.isEmpty()) {
+            throw new IllegalStateException("Mongo indexes do not match their declarations: " + String.join("; ", mismatches));
+        }
+        return created;
+    }
+
+    private static boolean sameKeys(Document declared, Document actual) {
+        if (actual == null || !List.copyOf(declared.keySet()).equals(List.copyOf(actual.keySet()))) return false;
+        return declared.keySet().stream().allMatch(key -> sameDirection(declared.get(key), actual.get(key)));
+    }
+
+    private static boolean sameDirection(Object declared, Object actual) {
+        // The server may report 1 as a double
+        if (declared instanceof Number d && actual instanceof Number a) return d.intValue() == a.intValue();
+        return Objects.equals(declared, actual);
+    }
+}
@@ -1,44 +1,93 @@
 package com.archetype.layer.persistence.internal;
 
 
+import com.archetype.layer.domain.model.Ability;
+import com.archetype.layer.domain.model.KeysetPage;
+import com.archetype.layer.domain.model.MoveDictionary;
 import com.archetype.layer.domain.model.Pokemon;
+import com.archetype.layer.domain.model.PokemonChanges;
+import com.archetype.layer.domain.model.PokemonId;
 import com.archetype.layer.domain.model.Species;
+import com.archetype.layer.domain.model.SpeciesLoadJob;
+import com.archetype.layer.domain.model.SpeciesSyncResult;
 import com.archetype.layer.exception.PokemonNotFoundException;
+import com.archetype.layer.exception.PokemonVersionConflictException;
+import com.archetype.layer.mapper.persistence.AbilityPersistenceMapper;
 import com.archetype.layer.mapper.persistence.PokemonPersistenceMapper;
+import com.archetype.layer.mapper.persistence.SpeciesLoadJobPersistenceMapper;
 import com.archetype.layer.mapper.persistence.SpeciesPersistenceMapper;
 import com.archetype.layer.persistence.PokemonDataRepository;
+import com.archetype.layer.persistence.document.AbilityDocument;
+import com.archetype.layer.persistence.document.MoveDocument;
+import com.archetype.layer.persistence.document.PokemonDocument;
+import com.archetype.layer.persistence.document.SpeciesDocument;
+import com.mongodb.bulk.BulkWriteError;
 import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
 @RequiredArgsConstructor
 public class PokemonMongoDataRepo implements PokemonDataRepository {
 
+    private static final String CONTENT_HASH = "contentHash";
+    private static final int STREAM_BATCH_SIZE = 500;
+
     private final PokemonRepository pokemonRepo;
     private final SpeciesRepository speciesRepo;
     private final SpeciesPersistenceMapper speciesMapper;
     private final PokemonPersistenceMapper pokemonMapper;
+    private final AbilityRepository abilityRepo;
+    private final AbilityPersistenceMapper abilityMapper;
+    private final SpeciesLoadJobRepository loadJobRepo;
+    private final SpeciesLoadJobPersistenceMapper loadJobMapper;
+    private final MongoTemplate mongoTemplate;
+
+    private final AtomicReference<MoveDictionary> moveDictionary = new AtomicReference<>();
 
     @Override
-    public List<Species> getAllSpecies() {
-        return speciesMapper.toDomain(speciesRepo.findAll());
+    public KeysetPage<Species> getSpeciesPage(int afterId, int size) {
+        Query query = Query.query(Criteria.where("_id").gt(afterId))
+                           .with(Sort.by(Sort.Direction.ASC, "_id"))
+                           .limit(size + 1);
+        List<SpeciesDocument> docs = mongoTemplate.find(query, SpeciesDocument.class);
+        boolean more = docs.size() > size;
+        List<SpeciesDocument> page = more ? docs.subList(0, size) : docs;
+        String lastKey = more ? String.valueOf(page.getLast().nationalId()) : null;
+        return new KeysetPage<>(speciesMapper.toDomain(page, moves()), lastKey);
     }
 
     @Override
     public Species getSpeciesById(int id) {
-        return speciesMapper.toDomain(speciesRepo.findById(id).orElseThrow());
+        return speciesMapper.toDomain(speciesRepo.findById(id).orElseThrow(), moves());
     }
 
     @Override
     public Species getSpeciesByName(String name) {
-        return speciesMapper.toDomain(speciesRepo.findByName(name).orElseThrow());
+        return speciesMapper.toDomain(speciesRepo.findByName(name).orElseThrow(), moves());
     }
 
     @Override
     public Species save(Species species) {
+        registerMoves(List.of(species));
         speciesRepo.save(speciesMapper.toDocument(species));
         return species;
     }
@@ -52,18 +101,120 @@ public class PokemonMongoDataRepo implements PokemonDataRepository {
     @Override
     public Pokemon getPokemonById(UUID id) {
         var doc = pokemonRepo.findById(id).orElseThrow(() -> new PokemonNotFoundException(id));
-        return pokemonMapper.toDomain(doc);
+        return toPokemon(List.of(doc)).getFirst();
+    }
+
+    @Override
+    public long updatePokemon(UUID id, long version, PokemonChanges changes) {
+        Criteria byId = Criteria.where("_id").is(new PokemonId(id));
+        // Documents without a version count as version 0; $in with null also matches a missing field
+        Criteria atVersion = version == 0 ? Criteria.where("version").in(0L, null) : Criteria.where("version").is(version);
+
+        Update update = new Update().inc("version", 1);
+        if (changes.name() != null) update.set("name", changes.name());
+        if (changes.level() != null) update.set("level", changes.level());
+
+        if (mongoTemplate.updateFirst(Query.query(byId.andOperator(atVersion)), update, PokemonDocument.class).getMatchedCount() == 1) {
+            return version + 1;
+        }
+        // Only a rejected update pays for a second round trip, to tell a stale version from a missing Pokemon
+        if (mongoTemplate.exists(Query.query(Criteria.where("_id").is(new PokemonId(id))), PokemonDocument.class)) {
+            throw new PokemonVersionConflictException(id, version);
+        }
+        throw new PokemonNotFoundException(id);
+    }
+
+    @Override
+    public Map<Integer, Species> getSpeciesByIds(Collection<Integer> nationalIds) {
+        if (nationalIds.isEmpty()) return Map.of();
+        return mongoTemplate.find(Query.query(Criteria.where("_id").in(nationalIds)), SpeciesDocument.class)
+                            .stream()
+                            .collect(Collectors.toMap(SpeciesDocument::nationalId, doc -> speciesMapper.toDomain(doc, moves())));
+    }
+
+    @Override
+    public Map<Integer, String> insertAll(List<Pokemon> pokemon) {
+        if (pokemon.isEmpty()) return Map.of();
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PokemonDocument.class);
+        bulk.insert(pokemon.stream().map(pokemonMapper::toDocument).toList());
+        try {
+            bulk.execute();
+            return Map.of();
+        } catch (BulkOperationException ex) {
+            return ex.getErrors()
+                     .stream()
+                     .collect(Collectors.toMap(BulkWriteError::getIndex, BulkWriteError::getMessage, (a, b) -> a));
+        }
     }
 
     @Override
     public List<Pokemon> getPokemonByName(String name) {
         var docs = pokemonRepo.findAllByName(name);
-        return pokemonMapper.toDomain(docs);
+        return toPokemon(docs);
     }
 
     @Override
     public void saveAll(List<Species> species) {
-        speciesRepo.saveAll(speciesMapper.toDocuments(species));
+        if (species.isEmpty()) return;
+        registerMoves(species);
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, SpeciesDocument.class);
+        for (SpeciesDocument doc : speciesMapper.toDocuments(species)) {
+            bulk.replaceOne(Query.query(Criteria.where("_id").is(doc.nationalId())), doc, FindAndReplaceOptions.options().upsert());
+        }
+        bulk.execute();
+    }
+
+    @Override
+    public SpeciesSyncResult resync(List<Species> species) {
+        if (species.isEmpty()) return SpeciesSyncResult.EMPTY;
+        registerMoves(species);
+        List<SpeciesDocument> docs = speciesMapper.toDocuments(species);
+
+        Query stored = Query.query(Criteria.where("_id").in(docs.stream().map(SpeciesDocument::nationalId).toList()));
+        stored.fields().include(CONTENT_HASH);
+        Map<Integer, String> storedHashes = new HashMap<>();
+        for (Document doc : mongoTemplate.find(stored, Document.class, mongoTemplate.getCollectionName(SpeciesDocument.class))) {
+            storedHashes.put(doc.getInteger("_id"), doc.getString(CONTENT_HASH));
+        }
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, SpeciesDocument.class);
+        int inserted = 0;
+        int updated = 0;
+        for (SpeciesDocument doc : docs) {
+            if (!storedHashes.containsKey(doc.nationalId())) {
+                inserted++;
+            } else if (!doc.contentHash().equals(storedHashes.get(doc.nationalId()))) {
+                updated++;
+            } else {
+                continue;
+            }
+            bulk.replaceOne(Query.query(Criteria.where("_id").is(doc.nationalId())), doc, FindAndReplaceOptions.options().upsert());
+        }
+        if (inserted + updated > 0) {
+            bulk.execute();
+        }
+        return new SpeciesSyncResult(inserted, updated, docs.size() - inserted - updated);
+    }
+
+    @Override
+    public long speciesCount() {
+        return speciesRepo.count();
+    }
+
+    @Override
+    public Stream<Species> streamSpecies() {
+        Query query = new Query().with(Sort.by(Sort.Direction.ASC, "_id")).cursorBatchSize(STREAM_BATCH_SIZE);
+        MoveDictionary moves = moves();
+        return mongoTemplate.stream(query, SpeciesDocument.class).map(doc -> speciesMapper.toDomain(doc, moves));
+    }
+
+    @Override
+    public Stream<Pokemon> streamPokemon() {
+        Query query = new Query().cursorBatchSize(STREAM_BATCH_SIZE);
+        // Species are read once each as the cursor reaches them, not once per Pokemon
+        Map<Integer, Species> species = new HashMap<>();
+        return mongoTemplate.stream(query, PokemonDocument.class)
+                            .map(doc -> pokemonMapper.toDomain(doc, species.computeIfAbsent(doc.nationalId(), id -> speciesOf(doc, getSpeciesByIds(List.of(id))))));
     }
 
     @Override
@@ -78,7 +229,9 @@ public class PokemonMongoDataRepo implements PokemonDataRepository {
 
     @Override
     public boolean existsByNationalId(int i) {
-        return false;
+        // Runs the query exactly as built (hint, projection, limit), which is what the query-plan test explains
+        return !mongoTemplate.find(pokemonOfNationalIdExists(i), Document.class, mongoTemplate.getCollectionName(PokemonDocument.class))
+                             .isEmpty();
     }
 
     @Override
@@ -87,15 +240,124 @@ public class PokemonMongoDataRepo implements PokemonDataRepository {
     }
 
     @Override
-    public List<Pokemon> getAllPokemon() {
-        return pokemonMapper.toDomain(pokemonRepo.findAll());
+    public KeysetPage<Pokemon> getPokemonPage(Integer nationalId, String afterKey, int size) {
+        Query query = pokemonPage(nationalId, size + 1);
+        if (afterKey != null) {
+            query.addCriteria(Criteria.where("_id").gt(new PokemonId(UUID.fromString(afterKey))));
+        }
+        List<PokemonDocument> docs = mongoTemplate.find(query, PokemonDocument.class);
+        boolean more = docs.size() > size;
+        List<PokemonDocument> page = more ? docs.subList(0, size) : docs;
+        String lastKey = more ? page.getLast().id().uuid().toString() : null;
+        return new KeysetPage<>(toPokemon(page), lastKey);
     }
 
     @Override
-    public List<Pokemon> getAllPokemonOfNationalId(int nationalId) {
-        var species = speciesRepo.getByNationalIdIs(nationalId);
-        return pokemonMapper.toDomain(pokemonRepo.getAllBySpeciesName(species.name()));
+    public Map<String, Ability> getAbilityCatalog() {
+        return abilityRepo.findAll()
+                          .stream()
+                          .collect(Collectors.toMap(AbilityDocument::key, abilityMapper::toDomain));
     }
 
+    @Override
+    public void saveAbilities(Map<String, Ability> abilities) {
+        if (abilities.isEmpty()) return;
+        abilityRepo.saveAll(abilities.entrySet()
+                                     .stream()
+                                     .map(e -> abilityMapper.toDocument(e.getKey(), e.getValue()))
+                                     .toList());
+    }
+
+    @Override
+    public SpeciesLoadJob save(SpeciesLoadJob job) {
+        loadJobRepo.save(loadJobMapper.toDocument(job));
+        return job;
+    }
+
+    @Override
+    public Optional<SpeciesLoadJob> getLoadJob(String id) {
+        return loadJobRepo.findById(id).map(loadJobMapper::toDomain);
+    }
+
+    @Override
+    public List<SpeciesLoadJob> getLoadJobs(SpeciesLoadJob.Status status) {
+        return loadJobMapper.toDomain(loadJobRepo.findAllByStatus(status.name()));
+    }
 
+    /**
+     * Existence of any Pokemon of a species: reads only {@code _id} from the (nationalId, _id) index, so the query
+     * is covered and never touches a document.
+     */
+    static Query pokemonOfNationalIdExists(int nationalId) {
+        Query query = Query.query(Criteria.where("nationalId").is(nationalId))
+                           .withHint(PokemonDocument.NATIONAL_ID_INDEX)
+                           .limit(1);
+        query.fields().include("_id");
+        return query;
+    }
+
+    /**
+     * First page of Pokemon in {@code _id} order: served by the {@code _id} index, or by the (nationalId, _id)
+     * index when filtering by species, which also yields the sort order.
+     */
+    static Query pokemonPage(Integer nationalId, int limit) {
+        Query query = new Query().with(Sort.by(Sort.Direction.ASC, "_id")).limit(limit);
+        if (nationalId != null) {
+            query.addCriteria(Criteria.where("nationalId").is(nationalId));
+        }
+        return query;
+    }
+
+    /**
+     * Rebuild stored Pokemon, reading the species of all of them with one query.
+     */
+    private List<Pokemon> toPokemon(List<PokemonDocument> docs) {
+        Map<Integer, Species> species = getSpeciesByIds(docs.stream().map(PokemonDocument::nationalId).collect(Collectors.toSet()));
+        return docs.stream().map(doc -> pokemonMapper.toDomain(doc, speciesOf(doc, species))).toList();
+    }
+
+    static Species speciesOf(PokemonDocument doc, Map<Integer, Species> species) {
+        Species found = species.get(doc.nationalId());
+        if (found == null) {
+            throw new IllegalStateException("Pokemon " + doc.id().uuid() + " refers to unknown species " + doc.nationalId());
+        }
+        return found;
+    }
+
+    /**
+     * The move dictionary, read from the {@code moves} collection on first use and then kept in process.
+     */
+    private MoveDictionary moves() {
+        MoveDictionary current = moveDictionary.get();
+        if (current != null) return current;
+        Map<Integer, String> names = mongoTemplate.findAll(MoveDocument.class)
+                                                  .stream()
+                                                  .filter(move -> move.name() != null)
+                                                  .collect(Collectors.toMap(MoveDocument::number, MoveDocument::name, (a, b) -> a));
+        moveDictionary.compareAndSet(null, MoveDictionary.of(names));
+        return moveDictionary.get();
+    }
+
+    /**
+     * Add moves learnt by {@code species} that the dictionary does not know yet, so their learnsets resolve.
+     * A name already stored for a move number is left as is; the dictionary normalizes it when read.
+     */
+    private void registerMoves(Collection<Species> species) {
+        MoveDictionary current = moves();
+        Map<Integer, String> missing = new HashMap<>();
+        for (Species s : species) {
+            if (s.moves() == null) continue;
+            s.moves().forEach((number, name) -> {
+                if (number != null && name != null && !current.contains(number)) {
+                    missing.putIfAbsent(number, name);
+                }
+            });
+        }
+        if (missing.isEmpty()) return;
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, MoveDocument.class);
+        missing.forEach((number, name) -> bulk.upsert(Query.query(Criteria.where("number").is(number)), new Update().setOnInsert("name", name)));
+        bulk.execute();
+        moveDictionary.updateAndGet(dictionary -> dictionary.with(missing));
+    }
 }
@@ -0,0 +1,117 @@
+package com.archetype.layer.persistence.internal;
+
+import com.archetype.layer.domain.model.KeysetPage;
+import com.archetype.layer.domain.model.MoveDictionary;
+import com.archetype.layer.domain.model.Pokemon;
+import com.archetype.layer.domain.model.PokemonId;
+import com.archetype.layer.exception.PokemonNotFoundException;
+import com.archetype.layer.mapper.persistence.PokemonPersistenceMapper;
+import com.archetype.layer.mapper.persistence.SpeciesPersistenceMapper;
+import com.archetype.layer.persistence.ReactivePokemonDataRepository;
+import com.archetype.layer.persistence.document.MoveDocument;
+import com.archetype.layer.persistence.document.PokemonDocument;
+import com.archetype.layer.persistence.document.SpeciesDocument;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * {@link ReactivePokemonDataRepository} on {@link ReactiveMongoTemplate}. Queries are the ones
+ * {@link PokemonMongoDataRepo} runs, so they are served by the same indexes.
+ */
+@Component
+@ConditionalOnProperty(name = "pokemon.reactive.enabled", havingValue = "true")
+public class ReactivePokemonMongoDataRepo implements ReactivePokemonDataRepository {
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final PokemonPersistenceMapper pokemonMapper;
+    private final SpeciesPersistenceMapper speciesMapper;
+    private final AtomicReference<MoveDictionary> moveDictionary = new AtomicReference<>();
+
+    public ReactivePokemonMongoDataRepo(ReactiveMongoTemplate mongoTemplate,
+                                        PokemonPersistenceMapper pokemonMapper,
+                                        SpeciesPersistenceMapper speciesMapper) {
+        this.mongoTemplate = mongoTemplate;
+        this.pokemonMapper = pokemonMapper;
+        this.speciesMapper = speciesMapper;
+    }
+
+    @Override
+    public Mono<Pokemon> getPokemonById(UUID id) {
+        return mongoTemplate.findById(new PokemonId(id), PokemonDocument.class)
+                            .switchIfEmpty(Mono.error(() -> new PokemonNotFoundException(id)))
+                            .flatMap(doc -> toPokemon(List.of(doc)))
+                            .map(List::getFirst);
+    }
+
+    @Override
+    public Mono<KeysetPage<Pokemon>> getPokemonPage(Integer nationalId, String afterKey, int size) {
+        Query query = PokemonMongoDataRepo.pokemonPage(nationalId, size + 1);
+        if (afterKey != null) {
+            query.addCriteria(Criteria.where("_id").gt(new PokemonId(UUID.fromString(afterKey))));
+        }
+        return mongoTemplate.find(query, PokemonDocument.class)
+                            .collectList()
+                            .flatMap(docs -> {
+                                boolean more = docs.size() > size;
+                                List<PokemonDocument> page = more ? docs.subList(0, size) : docs;
+                                String lastKey = more ? page.getLast().id().uuid().toString() : null;
+                                return toPokemon(page).map(pokemon -> new KeysetPage<>(pokemon, lastKey));
+                            });
+    }
+
+    @Override
+    public Mono<Pokemon> save(Pokemon pokemon) {
+        return mongoTemplate.save(pokemonMapper.toDocument(pokemon))
+                            .thenReturn(pokemon);
+    }
+
+    /**
+     * Rebuild stored Pokemon, reading the species of all of them with one query.
+     */
+    private Mono<List<Pokemon>> toPokemon(List<PokemonDocument> docs) {
+        if (docs.isEmpty()) return Mono.just(List.of());
+        Set<Integer> nationalIds = docs.stream().map(PokemonDocument::nationalId).collect(Collectors.toSet());
+        return mongoTemplate.find(Query.query(Criteria.where("_id").in(nationalIds)), SpeciesDocument.class)
+                            .collectList()
+                            .flatMap(found -> moves(found).map(dictionary -> found.stream()
+                                                                                  .collect(Collectors.toMap(SpeciesDocument::nationalId,
+                                                                                          doc -> speciesMapper.toDomain(doc, dictionary)))))
+                            .map(species -> docs.stream()
+                                                .map(doc -> pokemonMapper.toDomain(doc, PokemonMongoDataRepo.speciesOf(doc, species)))
+                                                .toList());
+    }
+
+    /**
+     * The move dictionary, read again when a learnset refers to a move it does not know yet, such as one
+     * registered by the blocking repository since it was read.
+     */
+    private Mono<MoveDictionary> moves(List<SpeciesDocument> species) {
+        MoveDictionary current = moveDictionary.get();
+        if (current != null && species.stream().allMatch(doc -> knowsLearnset(current, doc))) {
+            return Mono.just(current);
+        }
+        return mongoTemplate.findAll(MoveDocument.class)
+                            .filter(move -> move.name() != null)
+                            .collect(Collectors.toMap(MoveDocument::number, MoveDocument::name, (a, b) -> a))
+                            .map(MoveDictionary::of)
+                            .doOnNext(moveDictionary::set);
+    }
+
+    private static boolean knowsLearnset(MoveDictionary dictionary, SpeciesDocument doc) {
+        if (doc.learnset() == null) return true;
+        for (int number : doc.learnset()) {
+            if (!dictionary.contains(number)) return false;
+        }
+        return true;
+    }
+}
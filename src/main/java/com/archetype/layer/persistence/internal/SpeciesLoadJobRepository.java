@@ -0,0 +1,13 @@
+package com.archetype.layer.persistence.internal;
+
+import com.archetype.layer.persistence.document.SpeciesLoadJobDocument;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SpeciesLoadJobRepository extends MongoRepository<SpeciesLoadJobDocument, String> {
+
+    List<SpeciesLoadJobDocument> findAllByStatus(String status);
+}
@@ -1,6 +1,6 @@
 package com.archetype.layer.persistence.internal;
 
-import com.archetype.layer.domain.model.Type;
+import com.archetype.layer.domain.model.Element;
 import com.archetype.layer.persistence.document.SpeciesDocument;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
@@ -13,11 +13,11 @@ public interface SpeciesRepository extends MongoRepository<SpeciesDocument, Inte
 
     Optional<SpeciesDocument> findByName(String name);
 
-    List<SpeciesDocument> findAllByFirstType(Type firstType);
+    List<SpeciesDocument> findAllByFirstType(Element firstType);
 
-    List<SpeciesDocument> findAllByFirstTypeAndSecondType(Type firstType, Type lastType);
+    List<SpeciesDocument> findAllByFirstTypeAndSecondType(Element firstType, Element lastType);
 
-    List<SpeciesDocument> findAllByFirstTypeOrSecondType(Type firstType, Type secondType);
+    List<SpeciesDocument> findAllByFirstTypeOrSecondType(Element firstType, Element secondType);
 
     SpeciesDocument getByNationalIdIs(int nationalId);
 }
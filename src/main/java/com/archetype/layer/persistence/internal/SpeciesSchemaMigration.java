@@ -0,0 +1,133 @@
+package com.archetype.layer.persistence.internal;
+
+import com.archetype.layer.persistence.document.MoveDocument;
+import com.archetype.layer.persistence.document.SpeciesDocument;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.client.result.UpdateResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rewrites species documents into the compact schema, which stores only the element of each type and the learnset
+ * as a sorted array of move numbers.
+ * <p>
+ * Types are converted by a single server-side pipeline update. Moves maps are converted in unordered bulk writes
+ * of {@value #BATCH_SIZE} documents, after their move names have been added to the {@code moves} dictionary.
+ * Documents are converted in place while the collection stays readable, and only documents still in the old
+ * format are matched, so the migration is a no-op once the collection is converted. It runs on startup after the
+ * {@link MongoIndexVerifier} and ahead of the species catalog preload.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SpeciesSchemaMigration {
+
+    private static final List<String> TYPE_FIELDS = List.of("firstType", "secondType");
+    private static final int BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+
+    @EventListener(ApplicationStartedEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    public void onApplicationStarted() {
+        migrateTypes();
+        migrateMoves();
+    }
+
+    public long migrateTypes() {
+        List<Document> embedded = TYPE_FIELDS.stream()
+                                             .map(field -> new Document(field, new Document("$type", "object")))
+                                             .toList();
+        Document compact = new Document();
+        for (String field : TYPE_FIELDS) {
+            // {$cond: [{$eq: [{$type: "$field"}, "object"]}, "$field.element", "$field"]}
+            Document isEmbedded = new Document("$eq", List.of(new Document("$type", "$" + field), "object"));
+            compact.append(field, new Document("$cond", List.of(isEmbedded, "$" + field + ".element", "$" + field)));
+        }
+
+        UpdateResult result = mongoTemplate.getCollection(mongoTemplate.getCollectionName(SpeciesDocument.class))
+                                           .updateMany(new Document("$or", embedded), List.of(new Document("$set", compact)));
+        if (result.getModifiedCount() > 0) {
+            log.info("Migrated {} species documents to element-only types", result.getModifiedCount());
+        }
+        return result.getModifiedCount();
+    }
+
+    public long migrateMoves() {
+        MongoCollection<Document> species = mongoTemplate.getCollection(mongoTemplate.getCollectionName(SpeciesDocument.class));
+        MongoCollection<Document> moves = mongoTemplate.getCollection(mongoTemplate.getCollectionName(MoveDocument.class));
+        Document legacy = new Document("moves", new Document("$type", "object"));
+
+        long migrated = 0;
+        List<WriteModel<Document>> updates = new ArrayList<>(BATCH_SIZE);
+        Map<Integer, String> names = new HashMap<>();
+        try (MongoCursor<Document> cursor = species.find(legacy).projection(new Document("moves", 1)).batchSize(BATCH_SIZE).iterator()) {
+            while (cursor.hasNext()) {
+                Document doc = cursor.next();
+                Document legacyMoves = doc.get("moves", Document.class);
+                int[] learnset = new int[legacyMoves.size()];
+                int i = 0;
+                for (Map.Entry<String, Object> move : legacyMoves.entrySet()) {
+                    int number = Integer.parseInt(move.getKey());
+                    learnset[i++] = number;
+                    if (move.getValue() instanceof String name) {
+                        names.putIfAbsent(number, name);
+                    }
+                }
+                Arrays.sort(learnset);
+                updates.add(new UpdateOneModel<>(new Document("_id", doc.get("_id")),
+                        new Document("$set", new Document("learnset", Arrays.stream(learnset).boxed().toList()))
+                                .append("$unset", new Document("moves", ""))));
+                if (updates.size() >= BATCH_SIZE) {
+                    migrated += flush(species, moves, updates, names);
+                }
+            }
+        }
+        if (!updates.isEmpty()) {
+            migrated += flush(species, moves, updates, names);
+        }
+        if (migrated > 0) {
+            log.info("Migrated {} species documents to learnset arrays", migrated);
+        }
+        return migrated;
+    }
+
+    private static long flush(MongoCollection<Document> species,
+                              MongoCollection<Document> moves,
+                              List<WriteModel<Document>> updates,
+                              Map<Integer, String> names) {
+        // Dictionary first, so every learnset written resolves to names
+        if (!names.isEmpty()) {
+            List<WriteModel<Document>> upserts = names.entrySet()
+                                                      .stream()
+                                                      .<WriteModel<Document>>map(e -> new UpdateOneModel<>(
+                                                              new Document("number", e.getKey()),
+                                                              new Document("$setOnInsert", new Document("name", e.getValue())),
+                                                              new UpdateOptions().upsert(true)))
+                                                      .toList();
+            moves.bulkWrite(upserts, new BulkWriteOptions().ordered(false));
+            names.clear();
+        }
+        long modified = species.bulkWrite(updates, new BulkWriteOptions().ordered(false)).getModifiedCount();
+        updates.clear();
+        return modified;
+    }
+}
@@ -0,0 +1,185 @@
+package com.archetype.layer.service;
+
+import com.archetype.layer.config.NdjsonWriter;
+import com.archetype.layer.domain.dto.response.BattleSimulationResponse;
+import com.archetype.layer.domain.model.BattleOutcome;
+import com.archetype.layer.domain.model.BattleSimulator;
+import com.archetype.layer.domain.model.Combatant;
+import com.archetype.layer.domain.model.Species;
+import com.archetype.layer.exception.PokemonValidationException;
+import com.archetype.layer.persistence.PokemonDataRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+/**
+ * Monte-Carlo battle simulations between species or owned Pokemon, run by {@link BattleSimulator}.
+ * <p>
+ * Simulations run on a dedicated fork/join pool of {@code pokemon.battle.parallelism} workers, one per core by
+ * default, so large batches do not starve the common pool. A request simulates at most
+ * {@code pokemon.battle.max-battles} battles per matchup, {@code pokemon.battle.default-battles} when it names no
+ * count. The matchup stream runs one matchup per species, so it is held to {@code pokemon.battle.stream.max-battles}
+ * per matchup and {@code pokemon.battle.stream.max-total-battles} over the whole stream. Every response carries the
+ * seed it used, and repeating a request with that seed reproduces it.
+ * {@code pokemon.battle.simulated} counts simulated battles, and {@code pokemon.battle.simulation} times each
+ * matchup.
+ */
+@Service
+@Slf4j
+public class BattleSimulationService {
+
+    static final String SIMULATED_COUNTER = "pokemon.battle.simulated";
+    static final String SIMULATION_TIMER = "pokemon.battle.simulation";
+
+    private static final int MIN_LEVEL = 1;
+    private static final int MAX_LEVEL = 100;
+    private static final int DEFAULT_LEVEL = 50;
+
+    private final SpeciesCatalogService speciesCatalog;
+    private final PokemonDataRepository repository;
+    private final ObjectMapper objectMapper;
+    private final long defaultBattles;
+    private final long maxBattles;
+    private final long streamMaxBattles;
+    private final long streamMaxTotalBattles;
+    private final ForkJoinPool pool;
+    private final Counter simulated;
+    private final Timer simulations;
+
+    public BattleSimulationService(SpeciesCatalogService speciesCatalog,
+                                   PokemonDataRepository repository,
+                                   ObjectMapper objectMapper,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${pokemon.battle.default-battles:10000}") long defaultBattles,
+                                   @Value("${pokemon.battle.max-battles:10000000}") long maxBattles,
+                                   @Value("${pokemon.battle.stream.max-battles:10000}") long streamMaxBattles,
+                                   @Value("${pokemon.battle.stream.max-total-battles:10000000}") long streamMaxTotalBattles,
+                                   @Value("${pokemon.battle.parallelism:0}") int parallelism) {
+        this.speciesCatalog = speciesCatalog;
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.defaultBattles = defaultBattles;
+        this.maxBattles = maxBattles;
+        this.streamMaxBattles = streamMaxBattles;
+        this.streamMaxTotalBattles = streamMaxTotalBattles;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.simulated = meterRegistry.counter(SIMULATED_COUNTER);
+        this.simulations = Timer.builder(SIMULATION_TIMER)
+                                .publishPercentileHistogram()
+                                .register(meterRegistry);
+    }
+
+    /**
+     * Battles between two species at the same level, both with perfect DVs.
+     *
+     * @param level   1 to 100, 50 when absent
+     * @param battles battles to simulate, the configured default when absent
+     * @param seed    seed of a previous response to reproduce it, random when absent
+     */
+    public BattleSimulationResponse simulateSpecies(int attackerId, int defenderId, Integer level, Long battles, Long seed) {
+        int lvl = level(level);
+        return simulate(new BattleSimulator(Combatant.of(species(attackerId), lvl), Combatant.of(species(defenderId), lvl)),
+                battles(battles, maxBattles), seed(seed));
+    }
+
+    /**
+     * Battles between two owned Pokemon, each at its own level and with its stored DVs, so a seed reproduces the
+     * outcome as long as neither Pokemon changes.
+     */
+    public BattleSimulationResponse simulatePokemon(UUID attackerId, UUID defenderId, Long battles, Long seed) {
+        return simulate(new BattleSimulator(Combatant.of(repository.getPokemonById(attackerId)), Combatant.of(repository.getPokemonById(defenderId))),
+                battles(battles, maxBattles), seed(seed));
+    }
+
+    /**
+     * Simulate a species against every species in the catalog, in national ID order. The returned writer writes each
+     * matchup's outcome as a line of newline-delimited JSON as soon as it is known. Each matchup is seeded from
+     * {@code seed} and its position, so a seed reproduces the whole stream. Arguments, including the total number of
+     * battles over all matchups, are checked before anything is written.
+     */
+    public Consumer<OutputStream> matchups(int attackerId, Integer level, Long battles, Long seed) {
+        int lvl = level(level);
+        List<Species> opponents = speciesCatalog.all();
+        // The total cap is spread over the matchups, so it becomes a tighter per-matchup limit for a large catalog
+        long count = battles(battles, Math.min(streamMaxBattles, streamMaxTotalBattles / Math.max(1, opponents.size())));
+        long first = seed(seed);
+        Combatant attacker = Combatant.of(species(attackerId), lvl);
+        return out -> writeMatchups(attacker, opponents, count, first, out);
+    }
+
+    private void writeMatchups(Combatant attacker, List<Species> opponents, long battles, long seed, OutputStream out) {
+        SplittableRandom seeds = new SplittableRandom(seed);
+        int written = 0;
+        try (NdjsonWriter lines = new NdjsonWriter(objectMapper, out)) {
+            for (Species opponent : opponents) {
+                BattleSimulationResponse matchup = simulate(new BattleSimulator(attacker, Combatant.of(opponent, attacker.level())), battles,
+                        seeds.nextLong());
+                // Each matchup takes a while to simulate, so it is sent as soon as it is known
+                lines.write(matchup);
+                lines.flush();
+                written++;
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Matchups of " + attacker.name() + " aborted after " + written + " of " + opponents.size(), ex);
+        }
+        log.debug("Streamed {} matchups of {} at {} battles each", written, attacker.name(), battles);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private BattleSimulationResponse simulate(BattleSimulator simulator, long battles, long seed) {
+        BattleOutcome outcome = simulations.record(() -> simulator.simulate(battles, seed, pool));
+        simulated.increment(outcome.battles());
+        Combatant attacker = simulator.attacker();
+        Combatant defender = simulator.defender();
+        return new BattleSimulationResponse(attacker.name(), attacker.nationalId(), attacker.level(),
+                defender.name(), defender.nationalId(), defender.level(),
+                outcome.battles(), outcome.wins(), outcome.losses(), outcome.draws(),
+                outcome.winRate(), outcome.averageTurns(), seed);
+    }
+
+    private Species species(int nationalId) {
+        return speciesCatalog.require(nationalId);
+    }
+
+    /**
+     * @param max battles allowed per matchup; also caps the default
+     */
+    private long battles(Long battles, long max) {
+        if (battles == null) return Math.min(defaultBattles, max);
+        if (battles < 1 || battles > max) {
+            throw PokemonValidationException.of("battles", battles, "must be between 1 and " + max);
+        }
+        return battles;
+    }
+
+    private static int level(Integer level) {
+        if (level == null) return DEFAULT_LEVEL;
+        if (level < MIN_LEVEL || level > MAX_LEVEL) {
+            throw PokemonValidationException.of("level", level, "must be between " + MIN_LEVEL + " and " + MAX_LEVEL);
+        }
+        return level;
+    }
+
+    private static long seed(Long seed) {
+        return seed != null ? seed : ThreadLocalRandom.current().nextLong();
+    }
+}
@@ -0,0 +1,54 @@
+package com.archetype.layer.service;
+
+import com.archetype.layer.domain.model.IndividualValues;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Rolls the DVs of new Pokemon.
+ * <p>
+ * Unseeded rolls draw from a {@link SplittableRandom} owned by the calling thread. Concurrent creates share no
+ * generator, so they do not contend on a shared atomic seed. Seeded rolls start a fresh generator from the seed, so
+ * a request or batch that names a seed always gets the same DVs, in the same order. Bulk rolls take four Pokemon from
+ * each random {@code long}.
+ */
+@Service
+public class IndividualValuesService {
+
+    private static final int POKEMON_PER_LONG = Long.SIZE / 16;
+
+    private final ThreadLocal<SplittableRandom> generators =
+            ThreadLocal.withInitial(() -> new SplittableRandom(ThreadLocalRandom.current().nextLong()));
+
+    public IndividualValues roll() {
+        return IndividualValues.roll(generators.get());
+    }
+
+    /**
+     * @param seed {@code null} for an unseeded roll
+     */
+    public IndividualValues roll(Long seed) {
+        return seed == null ? roll() : IndividualValues.roll(new SplittableRandom(seed));
+    }
+
+    /**
+     * DVs for {@code count} Pokemon, in order.
+     *
+     * @param seed {@code null} for unseeded rolls
+     */
+    public List<IndividualValues> rollAll(int count, Long seed) {
+        SplittableRandom random = seed == null ? generators.get() : new SplittableRandom(seed);
+        List<IndividualValues> block = new ArrayList<>(count);
+        while (block.size() < count) {
+            long bits = random.nextLong();
+            for (int i = 0; i < POKEMON_PER_LONG && block.size() < count; i++, bits >>>= 16) {
+                block.add(IndividualValues.ofBits((int) bits));
+            }
+        }
+        return block;
+    }
+}
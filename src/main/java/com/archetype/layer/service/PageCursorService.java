@@ -0,0 +1,76 @@
+package com.archetype.layer.service;
+
+import com.archetype.layer.domain.dto.response.PageResponse;
+import com.archetype.layer.domain.model.KeysetPage;
+import com.archetype.layer.exception.PokemonValidationException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Page sizes and continuation tokens of the keyset-paginated listings, shared by the blocking and reactive services.
+ * <p>
+ * Continuation tokens are the URL-safe Base64 of {@code <scope>:<last sort key>}, so clients cannot rely on
+ * the key format and a token from one listing is rejected by another.
+ */
+@Service
+@RequiredArgsConstructor
+public class PageCursorService {
+
+    public static final String POKEMON = "pokemon";
+    public static final String SPECIES = "species";
+
+    @Value("${pokemon.page.default-size:50}")
+    private final int defaultPageSize;
+
+    @Value("${pokemon.page.max-size:200}")
+    private final int maxPageSize;
+
+    /**
+     * The requested page size, or the default when none was requested, capped at {@code pokemon.page.max-size}.
+     */
+    public int pageSize(Integer size) {
+        if (size == null) return defaultPageSize;
+        if (size < 1) {
+            throw PokemonValidationException.of("size", size, "must be at least 1");
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    /**
+     * The page of {@code page}'s items, with the continuation token of its last key.
+     */
+    public <S, T> PageResponse<T> response(String scope, KeysetPage<S> page, int size, Function<S, T> toDto) {
+        return new PageResponse<>(page.items().stream().map(toDto).toList(), size, encode(scope, page.lastKey()));
+    }
+
+    public String encode(String scope, String lastKey) {
+        if (lastKey == null) return null;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString((scope + ":" + lastKey).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * The last sort key of a continuation token of {@code scope}, or {@code null} for the first page.
+     */
+    public String decode(String scope, String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (decoded.startsWith(scope + ":")) {
+                String key = decoded.substring(scope.length() + 1);
+                if (POKEMON.equals(scope)) {
+                    UUID.fromString(key);
+                }
+                return key;
+            }
+        } catch (IllegalArgumentException ex) {
+            // Malformed Base64 or key, rejected below
+        }
+        throw PokemonValidationException.of("cursor", cursor, "is not a valid continuation token");
+    }
+}
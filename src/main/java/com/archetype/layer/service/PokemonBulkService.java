@@ -0,0 +1,177 @@
+package com.archetype.layer.service;
+
+import com.archetype.layer.domain.dto.request.PokemonCreate;
+import com.archetype.layer.domain.dto.response.PokemonBulkCreateItem;
+import com.archetype.layer.domain.dto.response.PokemonBulkCreateResponse;
+import com.archetype.layer.domain.model.IndividualValues;
+import com.archetype.layer.domain.model.Pokemon;
+import com.archetype.layer.domain.model.Species;
+import com.archetype.layer.exception.PokemonValidationException;
+import com.archetype.layer.persistence.PokemonDataRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Bulk Pokemon creation for seeding and migrations.
+ * <p>
+ * Entries are validated one by one, so an invalid entry fails alone instead of rejecting the request. The species
+ * of all valid entries are resolved together, from the species catalog and then a single repository query for any
+ * species not in it, and the Pokemon are inserted with unordered bulk writes of {@code pokemon.bulk.chunk-size}
+ * documents. {@code pokemon.bulk.items} counts entries by result.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PokemonBulkService {
+
+    static final String ITEMS_COUNTER = "pokemon.bulk.items";
+
+    private static final String CREATED = "CREATED";
+    private static final String FAILED = "FAILED";
+    private static final String SPECIES_NOT_FOUND = "species.not-found";
+    private static final String WRITE_FAILED = "pokemon.bulk.write-failed";
+
+    private final PokemonDataRepository repository;
+    private final SpeciesCatalogService speciesCatalog;
+    private final Validator validator;
+    private final MessageSource messageSource;
+    private final MeterRegistry meterRegistry;
+    private final IndividualValuesService individualValues;
+
+    @Value("${pokemon.bulk.chunk-size:500}")
+    private final int chunkSize;
+
+    @Value("${pokemon.bulk.max-items:10000}")
+    private final int maxItems;
+
+    /**
+     * @param seed seeds the DVs of the batch, so entry {@code i} gets the same DVs on every run; random when
+     *             {@code null}
+     */
+    public PokemonBulkCreateResponse createAll(List<PokemonCreate> requests, Long seed) {
+        if (requests == null || requests.isEmpty()) {
+            throw PokemonValidationException.of("items", 0, "at least one entry is required");
+        }
+        if (requests.size() > maxItems) {
+            throw PokemonValidationException.of("items", requests.size(), "at most " + maxItems + " entries per request");
+        }
+        log.debug("Bulk creating {} Pokemon", requests.size());
+        Locale locale = LocaleContextHolder.getLocale();
+        PokemonBulkCreateItem[] results = new PokemonBulkCreateItem[requests.size()];
+
+        Set<Integer> nationalIds = new TreeSet<>();
+        for (int i = 0; i < requests.size(); i++) {
+            PokemonCreate request = requests.get(i);
+            Set<ConstraintViolation<PokemonCreate>> violations = request != null ? validator.validate(request) : Set.of();
+            if (request == null) {
+                results[i] = failed(i, 0, "pokemon.national-id.required", null, locale);
+            } else if (!violations.isEmpty()) {
+                ConstraintViolation<PokemonCreate> violation = violations.iterator().next();
+                results[i] = failed(i, request.nationalId(), violation.getMessageTemplate(), new Object[]{bound(violation)}, locale);
+            } else {
+                nationalIds.add(request.nationalId());
+            }
+        }
+
+        Map<Integer, Species> species = resolveSpecies(nationalIds);
+        // One DV block for every entry, so an entry's DVs do not depend on which others failed
+        List<IndividualValues> ivs = individualValues.rollAll(requests.size(), seed);
+
+        List<Integer> pending = new ArrayList<>(chunkSize);
+        List<Pokemon> chunk = new ArrayList<>(chunkSize);
+        for (int i = 0; i < requests.size(); i++) {
+            if (results[i] != null) continue;
+            PokemonCreate request = requests.get(i);
+            Species s = species.get(request.nationalId());
+            if (s == null) {
+                results[i] = failed(i, request.nationalId(), SPECIES_NOT_FOUND, new Object[]{request.nationalId()}, locale);
+                continue;
+            }
+            pending.add(i);
+            chunk.add(new Pokemon(s, request.name(), 1, ivs.get(i)));
+            if (chunk.size() >= chunkSize) {
+                insert(pending, chunk, requests, results, locale);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            insert(pending, chunk, requests, results, locale);
+        }
+
+        int created = 0;
+        for (PokemonBulkCreateItem item : results) {
+            if (CREATED.equals(item.status())) created++;
+        }
+        int failed = results.length - created;
+        meterRegistry.counter(ITEMS_COUNTER, "result", "created").increment(created);
+        meterRegistry.counter(ITEMS_COUNTER, "result", "failed").increment(failed);
+        log.info("Bulk created {} Pokemon, {} failed", created, failed);
+        return new PokemonBulkCreateResponse(created, failed, List.of(results));
+    }
+
+    private Map<Integer, Species> resolveSpecies(Set<Integer> nationalIds) {
+        Map<Integer, Species> species = new HashMap<>(nationalIds.size() * 2);
+        List<Integer> missing = new ArrayList<>();
+        for (int nationalId : nationalIds) {
+            speciesCatalog.byNationalId(nationalId)
+                          .ifPresentOrElse(s -> species.put(nationalId, s), () -> missing.add(nationalId));
+        }
+        if (!missing.isEmpty()) {
+            species.putAll(repository.getSpeciesByIds(missing));
+        }
+        return species;
+    }
+
+    private void insert(List<Integer> indexes,
+                        List<Pokemon> chunk,
+                        List<PokemonCreate> requests,
+                        PokemonBulkCreateItem[] results,
+                        Locale locale) {
+        Map<Integer, String> failures = repository.insertAll(chunk);
+        for (int j = 0; j < chunk.size(); j++) {
+            int index = indexes.get(j);
+            int nationalId = requests.get(index).nationalId();
+            String failure = failures.get(j);
+            results[index] = failure == null
+                    ? new PokemonBulkCreateItem(index, nationalId, CREATED, chunk.get(j).getId().uuid().toString(), null, null)
+                    : failed(index, nationalId, WRITE_FAILED, new Object[]{failure}, locale);
+        }
+        indexes.clear();
+        chunk.clear();
+    }
+
+    /**
+     * The limit a violated constraint names in its message, e.g. the 50 of {@code pokemon.name.max-length}. Formatted
+     * here, since MessageFormat would group the digits of a number.
+     */
+    private static String bound(ConstraintViolation<?> violation) {
+        return switch (violation.getConstraintDescriptor().getAnnotation()) {
+            case Min min -> String.valueOf(min.value());
+            case Max max -> String.valueOf(max.value());
+            case Size size -> String.valueOf(size.max());
+            default -> null;
+        };
+    }
+
+    private PokemonBulkCreateItem failed(int index, int nationalId, String errorCode, Object[] args, Locale locale) {
+        String key = errorCode.startsWith("{") && errorCode.endsWith("}") ? errorCode.substring(1, errorCode.length() - 1) : errorCode;
+        return new PokemonBulkCreateItem(index, nationalId, FAILED, null, key, messageSource.getMessage(key, args, locale));
+    }
+}
@@ -0,0 +1,111 @@
+package com.archetype.layer.service;
+
+import com.archetype.layer.config.NdjsonWriter;
+import com.archetype.layer.domain.model.Pokemon;
+import com.archetype.layer.domain.model.Species;
+import com.archetype.layer.mapper.dto.PokemonDtoMapper;
+import com.archetype.layer.mapper.dto.SpeciesDtoMapper;
+import com.archetype.layer.persistence.PokemonDataRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Full exports of owned Pokemon and species as newline-delimited JSON.
+ * <p>
+ * Documents are read from a Mongo cursor, mapped and written one at a time straight to the response stream, so
+ * memory use does not depend on the size of the collection. {@code pokemon.export.items} counts exported
+ * documents per dataset.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PokemonExportService {
+
+    static final String EXPORT_COUNTER = "pokemon.export.items";
+
+    private static final int FLUSH_EVERY = 256;
+
+    private final PokemonDataRepository repository;
+    private final PokemonDtoMapper pokemonMapper;
+    private final SpeciesDtoMapper speciesMapper;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    public void exportPokemon(OutputStream out, boolean gzip) {
+        try (Stream<Pokemon> pokemon = repository.streamPokemon()) {
+            write("pokemon", pokemon, pokemonMapper::toDto, out, gzip);
+        }
+    }
+
+    public void exportSpecies(OutputStream out, boolean gzip) {
+        try (Stream<Species> species = repository.streamSpecies()) {
+            write("species", species, speciesMapper::toDto, out, gzip);
+        }
+    }
+
+    /**
+     * Whether an {@code Accept-Encoding} header admits gzip: listed as {@code gzip} (or {@code x-gzip}) with a
+     * non-zero q-value, or covered by a non-zero {@code *} when gzip is not listed itself.
+     */
+    public boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzip = null;
+        Double wildcard = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            double q = 1;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.regionMatches(true, 0, "q=", 0, 2)) {
+                    try {
+                        q = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException ex) {
+                        q = 0;
+                    }
+                }
+            }
+            if (name.equals("gzip") || name.equals("x-gzip")) {
+                gzip = Math.max(gzip != null ? gzip : 0, q);
+            } else if (name.equals("*")) {
+                wildcard = q;
+            }
+        }
+        return gzip != null ? gzip > 0 : wildcard != null && wildcard > 0;
+    }
+
+    private <T> void write(String dataset, Stream<T> items, Function<T, ?> toDto, OutputStream out, boolean gzip) {
+        long count = 0;
+        try {
+            OutputStream target = gzip ? new GZIPOutputStream(out, 8192, true) : out;
+            try (NdjsonWriter lines = new NdjsonWriter(objectMapper, target)) {
+                for (Iterator<T> it = items.iterator(); it.hasNext(); ) {
+                    lines.write(toDto.apply(it.next()));
+                    if (++count % FLUSH_EVERY == 0) {
+                        lines.flush();
+                    }
+                }
+            }
+        } catch (IOException ex) {
+            // The cursor is closed by the caller
+            throw new UncheckedIOException("Export of " + dataset + " aborted after " + count + " items", ex);
+        } finally {
+            meterRegistry.counter(EXPORT_COUNTER, "dataset", dataset).increment(count);
+        }
+        log.debug("Exported {} {} documents", count, dataset);
+    }
+}
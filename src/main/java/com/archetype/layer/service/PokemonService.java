@@ -1,14 +1,21 @@
 package com.archetype.layer.service;
 
-import com.archetype.layer.client.pokeapi.PokeApiAdapter;
 import com.archetype.layer.domain.dto.request.PokemonCreate;
+import com.archetype.layer.domain.dto.request.PokemonUpdate;
+import com.archetype.layer.domain.dto.response.PageResponse;
 import com.archetype.layer.domain.dto.response.PokemonDetails;
 import com.archetype.layer.domain.dto.response.SpeciesResponse;
+import com.archetype.layer.domain.dto.response.SpeciesSummaryResponse;
+import com.archetype.layer.domain.model.KeysetPage;
 import com.archetype.layer.domain.model.Pokemon;
+import com.archetype.layer.domain.model.PokemonChanges;
 import com.archetype.layer.domain.model.Species;
-import com.archetype.layer.exception.PokemonAlreadyExistsException;
+import com.archetype.layer.domain.model.SpeciesSummary;
 import com.archetype.layer.exception.PokemonNotFoundException;
 import com.archetype.layer.exception.PokemonServiceException;
+import com.archetype.layer.exception.PokemonValidationException;
+import com.archetype.layer.exception.PokemonVersionConflictException;
+import com.archetype.layer.exception.SpeciesNotFoundException;
 import com.archetype.layer.mapper.dto.PokemonDtoMapper;
 import com.archetype.layer.mapper.dto.SpeciesDtoMapper;
 import com.archetype.layer.persistence.PokemonDataRepository;
@@ -18,6 +25,7 @@ import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletionException;
 
 /**
  * Service layer working with domain models.
@@ -33,27 +41,34 @@ public class PokemonService {
 
     private final PokemonDataRepository repository;
     private final SpeciesDtoMapper speciesMapper;
-    private final PokeApiAdapter pokeApiAdapter;
     private final PokemonDtoMapper dtoMapper;
+    private final SpeciesCatalogService speciesCatalog;
+    private final PokemonWriteBehindService writeBehind;
+    private final IndividualValuesService individualValues;
+    private final PageCursorService pages;
 
-        public PokemonDetails createPokemon(PokemonCreate pokemonCreate) {
+    /**
+     * @param seed seeds the DVs of the new Pokemon, random when {@code null}
+     */
+    public PokemonDetails createPokemon(PokemonCreate pokemonCreate, Long seed) {
         log.debug("Creating Pokemon with national ID: {}, name: {}", pokemonCreate.nationalId(), pokemonCreate.name());
 
-        // Check if Pokemon already exists by national ID
-        if (repository.existsByNationalId(pokemonCreate.nationalId())) {
-            throw new PokemonAlreadyExistsException(pokemonCreate.nationalId());
-        }
-
         try {
 
-            Species species = repository.getSpeciesById(pokemonCreate.nationalId());
-            Pokemon pokemon = new Pokemon(species, pokemonCreate.name(), 1);
-            return dtoMapper.toDto(repository.save(pokemon));
+            Species species = speciesCatalog.require(pokemonCreate.nationalId());
+            Pokemon pokemon = new Pokemon(species, pokemonCreate.name(), 1, individualValues.roll(seed));
+            return dtoMapper.toDto(writeBehind.isEnabled() ? writeBehind.submit(pokemon).join() : repository.save(pokemon));
 
-        } catch (Exception ex) {
-            if (ex instanceof PokemonAlreadyExistsException) {
-                throw ex; // Re-throw domain exceptions
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof PokemonServiceException serviceException) {
+                throw serviceException;
             }
+            throw new PokemonServiceException("create", pokemonCreate.nationalId(), ex.getCause());
+
+        } catch (SpeciesNotFoundException ex) {
+            throw ex;
+
+        } catch (Exception ex) {
             throw new PokemonServiceException("create", pokemonCreate.nationalId(), ex);
         }
     }
@@ -63,18 +78,27 @@ public class PokemonService {
         return dtoMapper.toDto(repository.getPokemonById(id));
     }
 
-    public Pokemon updatePokemon(UUID id, PokemonCreate pokemonCreate) {
-        log.debug("Updating Pokemon with ID: {}, new name: {}", id, pokemonCreate.name());
+    /**
+     * Apply the fields present in {@code pokemonUpdate} to a stored Pokemon, as one conditional write.
+     *
+     * @return the new version of the Pokemon
+     */
+    public long updatePokemon(UUID id, PokemonUpdate pokemonUpdate) {
+        log.debug("Updating Pokemon with ID: {} at version {}", id, pokemonUpdate.version());
 
-        Pokemon existing = repository.getPokemonById(id);
+        PokemonChanges changes = new PokemonChanges(pokemonUpdate.name(), pokemonUpdate.level());
+        if (changes.isEmpty()) {
+            throw PokemonValidationException.of("body", "{}", "at least one of name or level is required");
+        }
+        if (changes.name() != null && changes.name().isBlank()) {
+            throw PokemonValidationException.of("name", changes.name(), "must not be blank");
+        }
 
         try {
-            existing.setName(pokemonCreate.name());
-            // Add other update logic as needed
-            return repository.save(existing);
+            return repository.updatePokemon(id, pokemonUpdate.version(), changes);
 
         } catch (Exception ex) {
-            if (ex instanceof PokemonNotFoundException) {
+            if (ex instanceof PokemonNotFoundException || ex instanceof PokemonVersionConflictException) {
                 throw ex;
             }
             throw new PokemonServiceException("update", id, ex);
@@ -97,28 +121,49 @@ public class PokemonService {
         }
     }
 
-    public List<Pokemon> getAllPokemons() {
-        return repository.getAllPokemon();
+    /**
+     * Page through owned Pokemon, optionally of a single species.
+     *
+     * @param cursor {@code next} of the previous page, or {@code null} for the first page
+     * @param size   page size, capped at {@code pokemon.page.max-size}
+     */
+    public PageResponse<PokemonDetails> listPokemon(Integer nationalId, String cursor, Integer size) {
+        log.debug("Listing Pokemon of national ID {} after cursor {}", nationalId, cursor);
+        int pageSize = pages.pageSize(size);
+        KeysetPage<Pokemon> page = repository.getPokemonPage(nationalId, pages.decode(PageCursorService.POKEMON, cursor), pageSize);
+        return pages.response(PageCursorService.POKEMON, page, pageSize, dtoMapper::toDto);
     }
 
     /**
-     * Find Pokemon by national ID.
+     * Page through the species catalog in national ID order.
      */
-    public List<Pokemon> findByNationalId(int nationalId) {
-        log.debug("Finding Pokemon by national ID: {}", nationalId);
-
-        return repository.getAllPokemonOfNationalId(nationalId);
+    public PageResponse<SpeciesResponse> listSpecies(String cursor, Integer size) {
+        int pageSize = pages.pageSize(size);
+        return pages.response(PageCursorService.SPECIES, catalogPage(cursor, pageSize), pageSize, speciesMapper::toDto);
     }
 
-    public List<SpeciesResponse> loadSpecies() {
-        List<Species> species = pokeApiAdapter.getFirstGenerationSpecies();
-        repository.saveAll(species);
-        return speciesMapper.toDto(species);
+    /**
+     * Page through species summaries, from the same catalog snapshot and with the same cursors as {@link #listSpecies}.
+     */
+    public PageResponse<SpeciesSummaryResponse> listSpeciesSummaries(String cursor, Integer size) {
+        int pageSize = pages.pageSize(size);
+        return pages.response(PageCursorService.SPECIES, catalogPage(cursor, pageSize), pageSize,
+                species -> speciesMapper.toDto(SpeciesSummary.of(species)));
     }
 
-    public List<SpeciesResponse> listAllSpecies() {
-        return speciesMapper.toDto(repository.getAllSpecies());
+    private KeysetPage<Species> catalogPage(String cursor, int pageSize) {
+        List<Species> page = speciesCatalog.page(speciesAfterId(cursor), pageSize + 1);
+        boolean more = page.size() > pageSize;
+        List<Species> items = more ? page.subList(0, pageSize) : page;
+        return new KeysetPage<>(items, more ? String.valueOf(items.getLast().nationalId()) : null);
     }
 
-
+    private int speciesAfterId(String cursor) {
+        String after = pages.decode(PageCursorService.SPECIES, cursor);
+        try {
+            return after != null ? Integer.parseInt(after) : 0;
+        } catch (NumberFormatException ex) {
+            throw PokemonValidationException.of("cursor", cursor, "is not a valid continuation token");
+        }
+    }
 }
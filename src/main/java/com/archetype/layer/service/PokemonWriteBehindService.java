@@ -0,0 +1,175 @@
+package com.archetype.layer.service;
+
+import com.archetype.layer.domain.model.Pokemon;
+import com.archetype.layer.exception.PokemonServiceException;
+import com.archetype.layer.persistence.PokemonDataRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Group commit for Pokemon creation.
+ * <p>
+ * When {@code pokemon.write-behind.enabled} is on, Pokemon submitted by concurrent requests are collected into
+ * micro-batches and stored with one unordered bulk insert per batch. A batch is flushed once it holds
+ * {@code max-batch-size} Pokemon or {@code max-delay} after its first Pokemon arrived, whichever comes first, so a
+ * lone create waits at most that delay. Each caller's future completes once the bulk insert holding its Pokemon
+ * is acknowledged, with the same write concern as a single insert; a Pokemon rejected by the bulk insert fails only
+ * its own future. At most {@code queue-capacity} Pokemon wait for a flush; further submitters block. Pokemon
+ * submitted while shutting down are either stored or their futures fail; none is left pending.
+ * <p>
+ * {@code pokemon.write-behind.batch.size} records the Pokemon per flush and {@code pokemon.write-behind.flush} the
+ * duration of each bulk insert, both with percentile histograms.
+ */
+@Service
+@Slf4j
+public class PokemonWriteBehindService {
+
+    static final String BATCH_SIZE_SUMMARY = "pokemon.write-behind.batch.size";
+    static final String FLUSH_TIMER = "pokemon.write-behind.flush";
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final PokemonDataRepository repository;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final BlockingQueue<Pending> queue;
+    private final DistributionSummary batchSizes;
+    private final Timer flushes;
+    private final Thread flusher;
+
+    private volatile boolean running = true;
+
+    public PokemonWriteBehindService(PokemonDataRepository repository,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${pokemon.write-behind.enabled:false}") boolean enabled,
+                                     @Value("${pokemon.write-behind.max-batch-size:100}") int maxBatchSize,
+                                     @Value("${pokemon.write-behind.max-delay:5ms}") Duration maxDelay,
+                                     @Value("${pokemon.write-behind.queue-capacity:10000}") int queueCapacity) {
+        this.repository = repository;
+        this.enabled = enabled;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.queue = new ArrayBlockingQueue<>(Math.max(this.maxBatchSize, queueCapacity));
+        this.batchSizes = DistributionSummary.builder(BATCH_SIZE_SUMMARY)
+                                             .baseUnit("pokemon")
+                                             .publishPercentileHistogram()
+                                             .register(meterRegistry);
+        this.flushes = Timer.builder(FLUSH_TIMER)
+                            .publishPercentileHistogram()
+                            .register(meterRegistry);
+        this.flusher = enabled ? Thread.ofVirtual().name("pokemon-write-behind").start(this::flushLoop) : null;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queue a Pokemon for the next batch.
+     *
+     * @return completes with the Pokemon once stored, or exceptionally with a {@link PokemonServiceException}
+     */
+    public CompletableFuture<Pokemon> submit(Pokemon pokemon) {
+        if (!enabled || !running) {
+            throw new IllegalStateException("Pokemon write-behind is not accepting writes");
+        }
+        Pending pending = new Pending(pokemon, new CompletableFuture<>());
+        try {
+            while (!queue.offer(pending, IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (!running) throw new IllegalStateException("Pokemon write-behind is not accepting writes");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new PokemonServiceException("create", pokemon.getSpecies().nationalId(), ex);
+        }
+        // Shutdown began while queueing: the flusher may already have drained the queue for the last time.
+        // Whoever takes the Pokemon off the queue completes its future, the flusher or this fallback.
+        if (!running && queue.remove(pending)) {
+            pending.future().completeExceptionally(new IllegalStateException("Pokemon write-behind stopped"));
+        }
+        return pending.future();
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        running = false;
+        if (flusher != null) {
+            // The flusher drains what is already queued before it stops
+            flusher.join(TimeUnit.SECONDS.toMillis(30));
+        }
+    }
+
+    private void flushLoop() {
+        List<Pending> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+
+                long deadline = System.nanoTime() + maxDelayNanos;
+                while (batch.size() < maxBatchSize) {
+                    queue.drainTo(batch, maxBatchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= maxBatchSize || remaining <= 0) break;
+                    Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                batch.forEach(pending -> pending.future().completeExceptionally(ex));
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+        // Submitted while shutting down, after the last drain
+        List<Pending> late = new ArrayList<>();
+        queue.drainTo(late);
+        late.forEach(pending -> pending.future().completeExceptionally(new IllegalStateException("Pokemon write-behind stopped")));
+    }
+
+    private void flush(List<Pending> batch) {
+        List<Pokemon> pokemon = batch.stream().map(Pending::pokemon).toList();
+        batchSizes.record(pokemon.size());
+        Map<Integer, String> failures;
+        try {
+            failures = flushes.recordCallable(() -> repository.insertAll(pokemon));
+        } catch (Exception ex) {
+            log.warn("Write-behind flush of {} Pokemon failed", pokemon.size(), ex);
+            batch.forEach(pending -> pending.future().completeExceptionally(
+                    new PokemonServiceException("create", pending.pokemon().getSpecies().nationalId(), ex)));
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            Pending pending = batch.get(i);
+            String failure = failures.get(i);
+            if (failure == null) {
+                pending.future().complete(pending.pokemon());
+            } else {
+                pending.future().completeExceptionally(new PokemonServiceException("create", pending.pokemon().getSpecies().nationalId(),
+                        new IllegalStateException(failure)));
+            }
+        }
+    }
+
+    private record Pending(Pokemon pokemon, CompletableFuture<Pokemon> future) {
+    }
+}
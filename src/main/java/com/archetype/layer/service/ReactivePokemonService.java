@@ -0,0 +1,65 @@
+package com.archetype.layer.service;
+
+import com.archetype.layer.domain.dto.request.PokemonCreate;
+import com.archetype.layer.domain.dto.response.PageResponse;
+import com.archetype.layer.domain.dto.response.PokemonDetails;
+import com.archetype.layer.domain.model.Pokemon;
+import com.archetype.layer.domain.model.Species;
+import com.archetype.layer.exception.LayerDomainException;
+import com.archetype.layer.exception.PokemonServiceException;
+import com.archetype.layer.mapper.dto.PokemonDtoMapper;
+import com.archetype.layer.persistence.ReactivePokemonDataRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.UUID;
+
+/**
+ * Non-blocking variant of the get, list and create operations of {@link PokemonService}, enabled with
+ * {@code pokemon.reactive.enabled}. Same validation, cursors and responses; no thread waits on the database.
+ */
+@Service
+@ConditionalOnProperty(name = "pokemon.reactive.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactivePokemonService {
+
+    private final ReactivePokemonDataRepository repository;
+    private final SpeciesCatalogService speciesCatalog;
+    private final PokemonDtoMapper dtoMapper;
+    private final IndividualValuesService individualValues;
+    private final PageCursorService pages;
+
+    public Mono<PokemonDetails> getPokemon(UUID id) {
+        log.debug("Retrieving Pokemon with ID: {}", id);
+        return repository.getPokemonById(id).map(dtoMapper::toDto);
+    }
+
+    public Mono<PageResponse<PokemonDetails>> listPokemon(Integer nationalId, String cursor, Integer size) {
+        log.debug("Listing Pokemon of national ID {} after cursor {}", nationalId, cursor);
+        // Deferred, so an invalid cursor or size fails the subscription; the first page has no cursor key
+        return Mono.defer(() -> {
+            String afterKey = pages.decode(PageCursorService.POKEMON, cursor);
+            int pageSize = pages.pageSize(size);
+            return repository.getPokemonPage(nationalId, afterKey, pageSize)
+                             .map(page -> pages.response(PageCursorService.POKEMON, page, pageSize, dtoMapper::toDto));
+        });
+    }
+
+    public Mono<PokemonDetails> createPokemon(PokemonCreate pokemonCreate, Long seed) {
+        log.debug("Creating Pokemon with national ID: {}, name: {}", pokemonCreate.nationalId(), pokemonCreate.name());
+        int nationalId = pokemonCreate.nationalId();
+
+        // Same lookup as the blocking create; a catalog miss reads the repository, so it runs off the calling thread
+        Mono<Species> species = Mono.fromCallable(() -> speciesCatalog.require(nationalId))
+                                    .subscribeOn(Schedulers.boundedElastic());
+
+        return species.flatMap(found -> repository.save(new Pokemon(found, pokemonCreate.name(), 1, individualValues.roll(seed))))
+                      .map(dtoMapper::toDto)
+                      .onErrorMap(ex -> !(ex instanceof LayerDomainException), ex -> new PokemonServiceException("create", nationalId, ex));
+    }
+}
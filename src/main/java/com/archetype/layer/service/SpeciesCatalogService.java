@@ -0,0 +1,207 @@
+package com.archetype.layer.service;
+
+import com.archetype.layer.domain.model.KeysetPage;
+import com.archetype.layer.domain.model.Species;
+import com.archetype.layer.exception.SpeciesNotFoundException;
+import com.archetype.layer.persistence.PokemonDataRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-process, read-only view of the species collection.
+ * <p>
+ * The catalog is an immutable snapshot indexed by national ID and by name. It is built once the context has started,
+ * before the application reports readiness, and rebuilt and swapped in atomically whenever a species load completes,
+ * so lookups never touch Mongo and never lock. If the species collection cannot be read on startup, the application
+ * still starts and the preload is retried in the background with growing delays; {@link #isLoaded()} stays
+ * {@code false}, and with it the {@code speciesCatalog} readiness check, until a snapshot has been built.
+ * <p>
+ * Publishes {@code species.catalog.size}, the rebuild time {@code species.catalog.build} and
+ * {@code species.catalog.lookups} tagged by key ({@code id}, {@code name}) and result ({@code hit}, {@code miss}).
+ */
+@Service
+@Slf4j
+public class SpeciesCatalogService {
+
+    static final String SIZE_GAUGE = "species.catalog.size";
+    static final String BUILD_TIMER = "species.catalog.build";
+    static final String LOOKUP_COUNTER = "species.catalog.lookups";
+
+    private static final int LOAD_PAGE_SIZE = 500;
+    private static final long FIRST_RETRY_DELAY_MS = 1_000;
+    private static final long MAX_RETRY_DELAY_MS = 60_000;
+
+    private final PokemonDataRepository repository;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.EMPTY);
+    private final ScheduledExecutorService retries = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("species-catalog-", 0).factory());
+
+    private volatile boolean loaded;
+
+    private final Timer buildTimer;
+    private final Counter idHits;
+    private final Counter idMisses;
+    private final Counter nameHits;
+    private final Counter nameMisses;
+
+    public SpeciesCatalogService(PokemonDataRepository repository, MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.buildTimer = meterRegistry.timer(BUILD_TIMER);
+        this.idHits = meterRegistry.counter(LOOKUP_COUNTER, "key", "id", "result", "hit");
+        this.idMisses = meterRegistry.counter(LOOKUP_COUNTER, "key", "id", "result", "miss");
+        this.nameHits = meterRegistry.counter(LOOKUP_COUNTER, "key", "name", "result", "hit");
+        this.nameMisses = meterRegistry.counter(LOOKUP_COUNTER, "key", "name", "result", "miss");
+        Gauge.builder(SIZE_GAUGE, snapshot, s -> s.get().all().size()).register(meterRegistry);
+    }
+
+    /**
+     * Preload the catalog; {@link ApplicationStartedEvent} is published before the readiness state changes to
+     * accepting traffic. Runs after the index verification and the species schema migration.
+     */
+    @EventListener(ApplicationStartedEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE + 2)
+    public void onApplicationStarted() {
+        preload(FIRST_RETRY_DELAY_MS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        retries.shutdownNow();
+    }
+
+    /**
+     * Rebuild the snapshot from the species collection and swap it in.
+     */
+    public void refresh() {
+        Snapshot next = buildTimer.record(() -> Snapshot.of(loadAll()));
+        snapshot.set(next);
+        loaded = true;
+        log.info("Species catalog holds {} species", next.all().size());
+    }
+
+    /**
+     * @return whether a snapshot has been built since startup
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * The species with this national ID. Species stored since the last refresh are still found in the repository.
+     *
+     * @throws SpeciesNotFoundException when no species has this national ID
+     */
+    public Species require(int nationalId) {
+        return byNationalId(nationalId).orElseGet(() -> {
+            try {
+                return repository.getSpeciesById(nationalId);
+            } catch (NoSuchElementException ex) {
+                throw new SpeciesNotFoundException(nationalId);
+            }
+        });
+    }
+
+    public Optional<Species> byNationalId(int nationalId) {
+        Species species = snapshot.get().byId().get(nationalId);
+        (species != null ? idHits : idMisses).increment();
+        return Optional.ofNullable(species);
+    }
+
+    public Optional<Species> byName(String name) {
+        Species species = name != null ? snapshot.get().byName().get(name.toLowerCase(Locale.ROOT)) : null;
+        (species != null ? nameHits : nameMisses).increment();
+        return Optional.ofNullable(species);
+    }
+
+    /**
+     * Every species, ordered by national ID.
+     */
+    public List<Species> all() {
+        return snapshot.get().all();
+    }
+
+    /**
+     * Species after {@code afterId}, in national ID order.
+     */
+    public List<Species> page(int afterId, int size) {
+        List<Species> all = snapshot.get().all();
+        int from = firstAfter(all, afterId);
+        return all.subList(from, Math.min(all.size(), from + size));
+    }
+
+    private void preload(long retryDelayMs) {
+        if (loaded) return;
+        try {
+            refresh();
+        } catch (RuntimeException ex) {
+            log.warn("Species catalog could not be loaded, retrying in {} ms", retryDelayMs, ex);
+            retries.schedule(() -> preload(Math.min(retryDelayMs * 2, MAX_RETRY_DELAY_MS)), retryDelayMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private List<Species> loadAll() {
+        List<Species> species = new ArrayList<>();
+        KeysetPage<Species> page = repository.getSpeciesPage(0, LOAD_PAGE_SIZE);
+        species.addAll(page.items());
+        while (page.hasNext()) {
+            page = repository.getSpeciesPage(Integer.parseInt(page.lastKey()), LOAD_PAGE_SIZE);
+            species.addAll(page.items());
+        }
+        return species;
+    }
+
+    private static int firstAfter(List<Species> ordered, int afterId) {
+        int low = 0;
+        int high = ordered.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ordered.get(mid).nationalId() <= afterId) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private record Snapshot(Map<Integer, Species> byId, Map<String, Species> byName, List<Species> all) {
+
+        static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of(), List.of());
+
+        static Snapshot of(List<Species> species) {
+            Map<Integer, Species> byId = new HashMap<>(species.size() * 2);
+            Map<String, Species> byName = new HashMap<>(species.size() * 2);
+            for (Species s : species) {
+                byId.put(s.nationalId(), s);
+                if (s.name() != null) {
+                    byName.put(s.name().toLowerCase(Locale.ROOT), s);
+                }
+            }
+            List<Species> ordered = byId.values()
+                                        .stream()
+                                        .sorted((a, b) -> Integer.compare(a.nationalId(), b.nationalId()))
+                                        .toList();
+            return new Snapshot(Map.copyOf(byId), Map.copyOf(byName), ordered);
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.archetype.layer.service;
+
+import com.archetype.layer.client.pokeapi.PokeApiAdapter;
+import com.archetype.layer.client.pokeapi.SpeciesBatchSink;
+import com.archetype.layer.domain.dto.response.SpeciesLoadJobResponse;
+import com.archetype.layer.domain.model.Generation;
+import com.archetype.layer.domain.model.SpeciesLoadJob;
+import com.archetype.layer.domain.model.SpeciesSyncResult;
+import com.archetype.layer.exception.PokemonValidationException;
+import com.archetype.layer.exception.SpeciesLoadJobNotFoundException;
+import com.archetype.layer.mapper.dto.SpeciesLoadJobDtoMapper;
+import com.archetype.layer.persistence.PokemonDataRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs species loads from PokeAPI as background jobs.
+ * <p>
+ * A job streams its national-ID range through the PokeAPI ingestion pipeline, which hands species over in batches of
+ * {@code pokemon.load.batch-size}. After each batch the species that are new or whose content hash changed, and any
+ * newly fetched abilities, are saved, then the job checkpoint is advanced to the highest national ID below which
+ * everything is persisted, so a job interrupted by a restart resumes from there. Re-running a load over a populated
+ * collection therefore only writes what PokeAPI changed. When a job completes having written any species, the
+ * {@link SpeciesCatalogService} snapshot is rebuilt. Only one job runs at a time; starting a load while one is running
+ * returns the running job.
+ * <p>
+ * Jobs read either PokeAPI or a local PokeAPI data dump. With {@code pokemon.load.bootstrap-from-dump} enabled,
+ * an empty species collection is filled from the dump at startup, without network access.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SpeciesLoadService {
+
+    static final String LOADED_COUNTER = "species.load.persisted";
+
+    private final PokemonDataRepository repository;
+    private final PokeApiAdapter pokeApiAdapter;
+    private final SpeciesLoadJobDtoMapper jobMapper;
+    private final SpeciesCatalogService speciesCatalog;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${pokemon.load.batch-size:25}")
+    private final int batchSize;
+
+    @Value("${pokemon.load.bootstrap-from-dump:false}")
+    private final boolean bootstrapFromDump;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(Thread.ofVirtual().name("species-load-", 0).factory());
+
+    private volatile boolean stopping;
+
+    /**
+     * Start loading a generation, or an explicit national-ID range, or return the job that is already running.
+     * Without arguments the first generation is loaded from PokeAPI.
+     *
+     * @param generation generation number, 1 to 9; takes precedence over the range
+     * @param firstId    first national ID of the range
+     * @param lastId     last national ID of the range
+     * @param source     {@code api} (default) or {@code dump} to read the local PokeAPI data dump
+     */
+    public synchronized SpeciesLoadJobResponse start(Integer generation, Integer firstId, Integer lastId, String source) {
+        int[] range = resolveRange(generation, firstId, lastId);
+        SpeciesLoadJob.Source from = resolveSource(source);
+        if (from == SpeciesLoadJob.Source.DUMP) {
+            int available = pokeApiAdapter.lastIdInDump(range[1]);
+            if (available < range[1]) {
+                throw PokemonValidationException.of("source", source,
+                        available == 0 ? "no PokeAPI dump is configured" : "the dump only holds national IDs up to " + available);
+            }
+        }
+        return jobMapper.toDto(startJob(from, range[0], range[1]));
+    }
+
+    public SpeciesLoadJobResponse getJob(String jobId) {
+        return repository.getLoadJob(jobId)
+                         .map(jobMapper::toDto)
+                         .orElseThrow(() -> new SpeciesLoadJobNotFoundException(jobId));
+    }
+
+    /**
+     * Pick up jobs that were still running when the application last stopped, then, when enabled, import the
+     * local PokeAPI dump into an empty species collection.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void onApplicationReady() {
+        for (SpeciesLoadJob job : repository.getLoadJobs(SpeciesLoadJob.Status.RUNNING)) {
+            log.info("Resuming species load job {} after national ID {}", job.id(), job.lastCompletedId());
+            executor.execute(() -> run(job));
+        }
+
+        if (bootstrapFromDump && repository.speciesCount() == 0) {
+            int lastId = pokeApiAdapter.lastIdInDump(Generation.LAST_NATIONAL_ID);
+            if (lastId == 0) {
+                log.warn("Species bootstrap from dump is enabled but no PokeAPI dump was found");
+                return;
+            }
+            startJob(SpeciesLoadJob.Source.DUMP, Generation.FIRST_NATIONAL_ID, lastId);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        stopping = true;
+        executor.shutdownNow();
+    }
+
+    private SpeciesLoadJob startJob(SpeciesLoadJob.Source source, int firstId, int lastId) {
+        List<SpeciesLoadJob> running = repository.getLoadJobs(SpeciesLoadJob.Status.RUNNING);
+        if (!running.isEmpty()) {
+            log.debug("Species load job {} is already running", running.getFirst().id());
+            return running.getFirst();
+        }
+        SpeciesLoadJob job = repository.save(SpeciesLoadJob.start(source, firstId, lastId, Instant.now()));
+        log.info("Starting species load job {} from {} for national IDs {}-{}", job.id(), source, job.firstId(), job.lastId());
+        executor.execute(() -> run(job));
+        return job;
+    }
+
+    private void run(SpeciesLoadJob job) {
+        AtomicReference<SpeciesLoadJob> current = new AtomicReference<>(job);
+        try {
+            pokeApiAdapter.primeAbilities(repository.getAbilityCatalog());
+            int from = job.lastCompletedId() + 1;
+            SpeciesBatchSink sink = (batch, completedThrough) -> {
+                SpeciesSyncResult sync = repository.resync(batch);
+                repository.saveAbilities(pokeApiAdapter.takeFetchedAbilities());
+                current.set(repository.save(current.get().checkpoint(completedThrough, sync, Instant.now())));
+                meterRegistry.counter(LOADED_COUNTER, "result", "inserted").increment(sync.inserted());
+                meterRegistry.counter(LOADED_COUNTER, "result", "updated").increment(sync.updated());
+                meterRegistry.counter(LOADED_COUNTER, "result", "unchanged").increment(sync.unchanged());
+            };
+            if (from <= job.lastId()) {
+                if (job.isFromDump()) {
+                    pokeApiAdapter.ingestFromDump(from, job.lastId(), batchSize, sink);
+                } else {
+                    pokeApiAdapter.ingest(from, job.lastId(), batchSize, sink);
+                }
+            }
+            SpeciesLoadJob completed = repository.save(current.get().completed(Instant.now()));
+            if (completed.inserted() + completed.updated() > 0) {
+                speciesCatalog.refresh();
+            }
+            log.info("Species load job {} completed {} species at {} species/s ({} inserted, {} updated, {} unchanged)",
+                    completed.id(), completed.loaded(), String.format("%.1f", completed.speciesPerSecond()),
+                    completed.inserted(), completed.updated(), completed.unchanged());
+
+        } catch (Throwable ex) {
+            SpeciesLoadJob failed = current.get();
+            if (stopping && ex instanceof RuntimeException) {
+                // Leave the job RUNNING so it resumes from its checkpoint on the next start
+                log.info("Species load job {} interrupted by shutdown after national ID {}", failed.id(), failed.lastCompletedId());
+                return;
+            }
+            log.error("Species load job {} failed after national ID {}", failed.id(), failed.lastCompletedId(), ex);
+            repository.save(failed.failed(Objects.toString(ex.getMessage(), ex.getClass().getName()), Instant.now()));
+            if (ex instanceof Error error) {
+                throw error;
+            }
+        }
+    }
+
+    private static SpeciesLoadJob.Source resolveSource(String source) {
+        if (source == null || source.isBlank()) {
+            return SpeciesLoadJob.Source.API;
+        }
+        try {
+            return SpeciesLoadJob.Source.valueOf(source.trim().toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            throw PokemonValidationException.of("source", source, "must be api or dump");
+        }
+    }
+
+    private static int[] resolveRange(Integer generation, Integer firstId, Integer lastId) {
+        if (generation != null) {
+            Generation gen = Generation.of(generation)
+                                       .orElseThrow(() -> PokemonValidationException.of("generation", generation, "no such generation"));
+            return new int[]{gen.firstId(), gen.lastId()};
+        }
+        if (firstId == null && lastId == null) {
+            return new int[]{Generation.GEN_I.firstId(), Generation.GEN_I.lastId()};
+        }
+        int from = firstId != null ? firstId : Generation.FIRST_NATIONAL_ID;
+        int to = lastId != null ? lastId : Generation.LAST_NATIONAL_ID;
+        if (from < Generation.FIRST_NATIONAL_ID || to > Generation.LAST_NATIONAL_ID || from > to) {
+            throw PokemonValidationException.of("range", from + "-" + to,
+                    "must be within " + Generation.FIRST_NATIONAL_ID + "-" + Generation.LAST_NATIONAL_ID);
+        }
+        return new int[]{from, to};
+    }
+}
@@ -0,0 +1,53 @@
+package com.archetype.layer.service;
+
+import com.archetype.layer.domain.dto.response.TypeEffectivenessResponse;
+import com.archetype.layer.domain.model.Element;
+import com.archetype.layer.domain.model.Species;
+import com.archetype.layer.domain.model.TypeChart;
+import com.archetype.layer.exception.PokemonValidationException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Type effectiveness lookups on the precomputed {@link TypeChart}.
+ */
+@Service
+@RequiredArgsConstructor
+public class TypeChartService {
+
+    private final SpeciesCatalogService speciesCatalog;
+
+    /**
+     * @param defending one or two defending types
+     */
+    public TypeEffectivenessResponse effectiveness(String attacking, List<String> defending) {
+        if (defending == null || defending.isEmpty() || defending.size() > 2) {
+            throw PokemonValidationException.of("defending", defending, "one or two types are required");
+        }
+        Element attacker = element("attacking", attacking);
+        Element first = element("defending", defending.getFirst());
+        Element second = defending.size() > 1 ? element("defending", defending.get(1)) : null;
+        return response(attacker, first, second);
+    }
+
+    public TypeEffectivenessResponse effectivenessAgainstSpecies(String attacking, int nationalId) {
+        Element attacker = element("attacking", attacking);
+        Species species = speciesCatalog.require(nationalId);
+        return response(attacker, species.firstType().element(), species.secondType() != null ? species.secondType().element() : null);
+    }
+
+    private static TypeEffectivenessResponse response(Element attacking, Element first, Element second) {
+        return new TypeEffectivenessResponse(attacking.name(), first.name(), second != null ? second.name() : null,
+                TypeChart.effectiveness(attacking, first, second));
+    }
+
+    private static Element element(String field, String value) {
+        try {
+            return Element.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException | NullPointerException ex) {
+            throw PokemonValidationException.of(field, value, "is not a type");
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.archetype.mvc.model;
+
+/**
+ * The fields of a species shown in the pokedex list; the second type is {@code null} for single-typed species.
+ */
+public record SpeciesSummary(int nationalId, String name, Element firstType, Element secondType) {
+}
@@ -2,6 +2,7 @@ package com.archetype.mvc.persistence;
 
 
 import com.archetype.mvc.model.Species;
+import com.archetype.mvc.model.SpeciesSummary;
 
 import java.util.List;
 
@@ -11,6 +12,11 @@ public interface PokemonMvcDataRepository {
 
     List<Species> getAllSpecies();
 
+    /**
+     * Every species, reading only the fields of a {@link SpeciesSummary}.
+     */
+    List<SpeciesSummary> getAllSpeciesSummaries();
+
     Species getSpeciesById(int id);
 
     Species getSpeciesByName(String name);
@@ -1,21 +1,23 @@
 package com.archetype.mvc.persistence.document;
 
+import com.archetype.mvc.model.Element;
 import com.archetype.mvc.model.Species;
-import com.archetype.mvc.model.Type;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.MongoId;
 
 import java.util.List;
-import java.util.Map;
 
+/**
+ * Read/write view of the {@code pokemon-species} collection, whose schema and indexes are owned by the layer module.
+ */
 @Document(collection = "pokemon-species")
 public record SpeciesDocument(@MongoId int nationalId,
                               @Indexed(unique = true) String name,
-                              Type firstType,
-                              Type secondType,
+                              Element firstType,
+                              Element secondType,
                               List<Integer> abilities,
-                              Map<Integer, String> moves,
+                              int[] learnset,
                               Species.PokemonStats stats) {
 
 }
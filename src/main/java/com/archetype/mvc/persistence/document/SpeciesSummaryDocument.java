@@ -0,0 +1,15 @@
+package com.archetype.mvc.persistence.document;
+
+import com.archetype.mvc.model.Element;
+import org.springframework.data.mongodb.core.mapping.MongoId;
+
+/**
+ * Projection of a {@code pokemon-species} document onto the fields the pokedex list renders.
+ */
+public record SpeciesSummaryDocument(@MongoId int nationalId,
+                                     String name,
+                                     Element firstType,
+                                     Element secondType) {
+
+    public static final String FIELDS = "{ 'name': 1, 'firstType': 1, 'secondType': 1 }";
+}
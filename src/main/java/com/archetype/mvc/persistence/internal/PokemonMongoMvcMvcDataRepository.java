@@ -2,6 +2,7 @@ package com.archetype.mvc.persistence.internal;
 
 
 import com.archetype.mvc.model.Species;
+import com.archetype.mvc.model.SpeciesSummary;
 import com.archetype.mvc.persistence.PokemonMvcDataRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
@@ -21,6 +22,11 @@ public class PokemonMongoMvcMvcDataRepository implements PokemonMvcDataRepositor
         return mapper.toDomain(speciesRepo.findAll());
     }
 
+    @Override
+    public List<SpeciesSummary> getAllSpeciesSummaries() {
+        return mapper.toSummaries(speciesRepo.findAllSummaries());
+    }
+
     @Override
     public Species getSpeciesById(int id) {
         return mapper.toDomain(speciesRepo.findById(id).orElseThrow());
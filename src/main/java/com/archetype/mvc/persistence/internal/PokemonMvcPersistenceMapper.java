@@ -1,13 +1,18 @@
 package com.archetype.mvc.persistence.internal;
 
 import com.archetype.mvc.model.Ability;
+import com.archetype.mvc.model.Element;
 import com.archetype.mvc.model.Species;
+import com.archetype.mvc.model.SpeciesSummary;
+import com.archetype.mvc.model.Type;
 import com.archetype.mvc.persistence.document.SpeciesDocument;
+import com.archetype.mvc.persistence.document.SpeciesSummaryDocument;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Named;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -19,15 +24,34 @@ import java.util.Objects;
 public interface PokemonMvcPersistenceMapper {
 
     @Mapping(target = "abilities", source = "abilities", qualifiedByName = "idsToAbilities")
-    @Mapping(target = "moves", source = "doc.moves")
+    // Move names live in the layer module's move dictionary; pokedex views do not render moves
+    @Mapping(target = "moves", expression = "java(java.util.Map.of())")
     Species toDomain(SpeciesDocument doc);
 
     @Mapping(target = "abilities", source = "abilities", qualifiedByName = "abilitiesToIds")
-    @Mapping(target = "moves", source = "species.moves")
+    @Mapping(target = "learnset", source = "moves", qualifiedByName = "movesToLearnset")
     SpeciesDocument toDocument(Species species);
 
+    SpeciesSummary toSummary(SpeciesSummaryDocument doc);
+
+    List<SpeciesSummary> toSummaries(List<SpeciesSummaryDocument> docs);
+
     // ---- helpers ----
 
+    @Named("movesToLearnset")
+    default int[] movesToLearnset(Map<Integer, String> moves) {
+        if (moves == null) return new int[0];
+        return moves.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+    }
+
+    default Type elementToType(Element element) {
+        return element != null ? Type.fromElement(element) : null;
+    }
+
+    default Element typeToElement(Type type) {
+        return type != null ? type.element() : null;
+    }
+
     @Named("idsToAbilities")
     default List<Ability> idsToAbilities(List<Integer> ids) {
         if (ids == null) return List.of();
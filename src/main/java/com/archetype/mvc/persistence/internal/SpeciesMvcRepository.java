@@ -1,8 +1,10 @@
 package com.archetype.mvc.persistence.internal;
 
-import com.archetype.mvc.model.Type;
+import com.archetype.mvc.model.Element;
 import com.archetype.mvc.persistence.document.SpeciesDocument;
+import com.archetype.mvc.persistence.document.SpeciesSummaryDocument;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,9 +15,12 @@ public interface SpeciesMvcRepository extends MongoRepository<SpeciesDocument, I
 
     Optional<SpeciesDocument> findByName(String name);
 
-    List<SpeciesDocument> findAllByFirstType(Type firstType);
+    List<SpeciesDocument> findAllByFirstType(Element firstType);
 
-    List<SpeciesDocument> findAllByFirstTypeAndSecondType(Type firstType, Type lastType);
+    List<SpeciesDocument> findAllByFirstTypeAndSecondType(Element firstType, Element lastType);
 
-    List<SpeciesDocument> findAllByFirstTypeOrSecondType(Type firstType, Type secondType);
+    List<SpeciesDocument> findAllByFirstTypeOrSecondType(Element firstType, Element secondType);
+
+    @Query(value = "{}", fields = SpeciesSummaryDocument.FIELDS, sort = "{ '_id': 1 }")
+    List<SpeciesSummaryDocument> findAllSummaries();
 }
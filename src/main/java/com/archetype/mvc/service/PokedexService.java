@@ -2,6 +2,7 @@ package com.archetype.mvc.service;
 
 import com.archetype.mvc.model.Species;
 import com.archetype.mvc.model.SpeciesOverview;
+import com.archetype.mvc.model.SpeciesSummary;
 import com.archetype.mvc.persistence.PokemonMvcDataRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -21,8 +22,11 @@ public class PokedexService {
     private final PokemonMvcDataRepository repository;
 
 
+    /**
+     * Overviews of every species. Reads summaries only, so moves and type matchups are never loaded.
+     */
     public List<SpeciesOverview> findAllSpecies() {
-        return repository.getAllSpecies()
+        return repository.getAllSpeciesSummaries()
                          .stream()
                          .map(this::toOverview)
                          .collect(Collectors.toList());
@@ -32,6 +36,13 @@ public class PokedexService {
         return toOverview(repository.getSpeciesById(id));
     }
 
+    private SpeciesOverview toOverview(SpeciesSummary summary) {
+        var list = new ArrayList<String>();
+        list.add(summary.firstType().toString());
+        list.add(summary.secondType() != null ? summary.secondType().toString() : "none");
+        return new SpeciesOverview(summary.nationalId(), summary.name(), list);
+    }
+
     private SpeciesOverview toOverview(Species doc) {
         var firstType = doc.firstType().toString();
         var secondType = doc.secondType() != null ? doc.secondType().toString() : "none";
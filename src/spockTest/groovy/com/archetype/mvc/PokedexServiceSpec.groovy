@@ -1,8 +1,8 @@
 package com.archetype.mvc
 
 import com.archetype.mvc.exception.PokemonNotFoundException
-import com.archetype.mvc.model.Species
-import com.archetype.mvc.model.Type
+import com.archetype.mvc.model.Element
+import com.archetype.mvc.model.SpeciesSummary
 import com.archetype.mvc.persistence.PokemonMvcDataRepository
 import com.archetype.mvc.persistence.document.SpeciesDocument
 import com.archetype.mvc.service.PokedexService
@@ -15,15 +15,9 @@ class PokedexServiceSpec extends Specification {
 
     def "findAllSpecies returns mapped overviews"() {
         given:
-        Species doc = new Species(1,
-                "Bulbasaur",
-                Type.grass,
-                Type.poison,
-                Collections.emptyList(),
-                Map.of(),
-                new Species.PokemonStats(0,0,0,0,0,0) );
-
-        repository.getAllSpecies() >> [doc]
+        SpeciesSummary summary = new SpeciesSummary(1, "Bulbasaur", Element.GRASS, Element.POISON)
+
+        repository.getAllSpeciesSummaries() >> [summary]
 
         when:
         def result = service.findAllSpecies()
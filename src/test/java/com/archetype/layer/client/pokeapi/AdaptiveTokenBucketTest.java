@@ -0,0 +1,58 @@
+package com.archetype.layer.client.pokeapi;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for AdaptiveTokenBucket driven by a manual clock.
+ */
+class AdaptiveTokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong now = new AtomicLong(0);
+
+    @Test
+    @DisplayName("Tokens are handed out without waiting up to the burst size, then paced at the current rate")
+    void reserve_pacesAfterBurst() {
+        AdaptiveTokenBucket bucket = new AdaptiveTokenBucket(10, 1, 20, 2, 1, now::get);
+
+        assertEquals(0, bucket.reserve());
+        assertEquals(0, bucket.reserve());
+        assertEquals(SECOND / 10, bucket.reserve());
+        assertEquals(2 * SECOND / 10, bucket.reserve());
+    }
+
+    @Test
+    @DisplayName("A throttled call halves the rate once per second and pauses callers for the requested delay")
+    void onThrottled_shrinksRateAndPauses() {
+        AdaptiveTokenBucket bucket = new AdaptiveTokenBucket(16, 1, 20, 5, 1, now::get);
+
+        bucket.onThrottled(3 * SECOND);
+        bucket.onThrottled(3 * SECOND);
+
+        assertEquals(8, bucket.rate());
+        long wait = bucket.reserve();
+        assertTrue(wait >= 3 * SECOND, "caller should wait at least the Retry-After delay, waited " + wait);
+    }
+
+    @Test
+    @DisplayName("Successful calls grow the rate back up to the configured maximum")
+    void onSuccess_growsRateToMax() {
+        AdaptiveTokenBucket bucket = new AdaptiveTokenBucket(4, 1, 6, 5, 1, now::get);
+
+        bucket.onThrottled(0);
+        assertEquals(2, bucket.rate());
+
+        for (int i = 0; i < 10; i++) {
+            bucket.onSuccess();
+        }
+        assertEquals(6, bucket.rate());
+    }
+}
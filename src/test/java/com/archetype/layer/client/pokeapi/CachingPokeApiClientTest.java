@@ -0,0 +1,226 @@
+package com.archetype.layer.client.pokeapi;
+
+import com.sun.net.httpserver.HttpServer;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for CachingPokeApiClient against a local stand-in for PokeAPI.
+ */
+class CachingPokeApiClientTest {
+
+    private static final String ETAG = "\"bulbasaur-v1\"";
+    private static final String BODY = "{\"id\":1,\"name\":\"bulbasaur\"}";
+
+    @TempDir
+    Path cacheDir;
+
+    private HttpServer server;
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger notModified = new AtomicInteger();
+    private final AtomicReference<String> cacheControl = new AtomicReference<>("public, max-age=60");
+    private final AtomicReference<String> contentEncoding = new AtomicReference<>();
+    private final AtomicReference<Instant> now = new AtomicReference<>(Instant.parse("2025-01-01T00:00:00Z"));
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/v2/pokemon/", exchange -> {
+            requests.incrementAndGet();
+            if (ETAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                notModified.incrementAndGet();
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+            if (contentEncoding.get() != null) {
+                body = gzip(body);
+                exchange.getResponseHeaders().add("Content-Encoding", contentEncoding.get());
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.getResponseHeaders().add("ETag", ETAG);
+            exchange.getResponseHeaders().add("Cache-Control", cacheControl.get());
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("A fresh cached response is served from disk without calling the server")
+    void freshEntry_isServedFromDisk() throws IOException {
+        Client client = cachingClient(1024 * 1024);
+
+        assertEquals(BODY, get(client, "/api/v2/pokemon/1"));
+        assertEquals(BODY, get(client, "/api/v2/pokemon/1"));
+
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    @DisplayName("A stale cached response is revalidated with If-None-Match and served after a 304")
+    void staleEntry_isRevalidated() throws IOException {
+        Client client = cachingClient(1024 * 1024);
+
+        get(client, "/api/v2/pokemon/1");
+        now.set(now.get().plusSeconds(120));
+
+        assertEquals(BODY, get(client, "/api/v2/pokemon/1"));
+        assertEquals(2, requests.get());
+        assertEquals(1, notModified.get());
+
+        // The 304 extended the freshness, so the next call does not reach the server
+        assertEquals(BODY, get(client, "/api/v2/pokemon/1"));
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    @DisplayName("Responses marked no-store are passed through without being cached and counted as bypasses")
+    void noStore_isNotCached() throws IOException {
+        cacheControl.set("no-store");
+        Client client = cachingClient(1024 * 1024);
+
+        get(client, "/api/v2/pokemon/1");
+        get(client, "/api/v2/pokemon/1");
+
+        assertEquals(2, requests.get());
+        assertEquals(2, meterRegistry.get(CachingPokeApiClient.CACHE_COUNTER).tag("result", "bypass").counter().count());
+        assertNull(meterRegistry.find(CachingPokeApiClient.CACHE_COUNTER).tag("result", "miss").counter());
+    }
+
+    @Test
+    @DisplayName("A gzip-encoded body is passed through without being stored, since cached bodies carry no Content-Encoding")
+    void encodedBody_isNotCached() throws IOException {
+        contentEncoding.set("gzip");
+        PokeApiResponseCache cache = new PokeApiResponseCache(cacheDir, 1024 * 1024, clock());
+        Client client = new CachingPokeApiClient(new Client.Default(null, null), cache, Duration.ofHours(1), clock(), meterRegistry);
+
+        get(client, "/api/v2/pokemon/1");
+        get(client, "/api/v2/pokemon/1");
+
+        assertEquals(2, requests.get());
+        assertEquals(0, cache.size());
+        assertEquals(2, meterRegistry.get(CachingPokeApiClient.CACHE_COUNTER).tag("result", "bypass").counter().count());
+    }
+
+    @Test
+    @DisplayName("Identical bodies are stored once and the cache stays within its maximum size")
+    void bodies_areContentAddressedAndBounded() throws IOException {
+        PokeApiResponseCache cache = new PokeApiResponseCache(cacheDir, BODY.length(), clock());
+        Client client = new CachingPokeApiClient(new Client.Default(null, null), cache, Duration.ofHours(1), clock(), new SimpleMeterRegistry());
+
+        get(client, "/api/v2/pokemon/1");
+        get(client, "/api/v2/pokemon/2");
+
+        assertEquals(BODY.length(), cache.size());
+
+        now.set(now.get().plusSeconds(1));
+        cache.put("http://example/other", "{\"id\":3}".getBytes(StandardCharsets.UTF_8), null, null, null, now.get().plusSeconds(60));
+
+        assertTrue(cache.size() <= BODY.length());
+    }
+
+    @Test
+    @DisplayName("Eviction removes the least recently used entries and a shared body only with its last entry")
+    void eviction_followsLastAccessAndBodyReferences() {
+        byte[] shared = "{\"shared\":true}".getBytes(StandardCharsets.UTF_8);
+        byte[] other = "{\"other\":true}".getBytes(StandardCharsets.UTF_8);
+        PokeApiResponseCache cache = new PokeApiResponseCache(cacheDir, shared.length + other.length, clock());
+        cache.put("http://example/a", shared, null, null, null, null);
+        now.set(now.get().plusSeconds(1));
+        cache.put("http://example/b", shared, null, null, null, null);
+        now.set(now.get().plusSeconds(1));
+        cache.put("http://example/c", other, null, null, null, null);
+        assertEquals(shared.length + other.length, cache.size());
+
+        // Evicting "a" frees nothing while "b" still refers to its body, so "b" goes too
+        now.set(now.get().plusSeconds(1));
+        cache.put("http://example/d", "{\"d\":1}".getBytes(StandardCharsets.UTF_8), null, null, null, null);
+
+        assertTrue(cache.get("http://example/a").isEmpty());
+        assertTrue(cache.get("http://example/b").isEmpty());
+        assertTrue(cache.get("http://example/c").isPresent());
+        assertTrue(cache.get("http://example/d").isPresent());
+        assertEquals(other.length + "{\"d\":1}".length(), cache.size());
+        assertEquals(cache.size(), new PokeApiResponseCache(cacheDir, Long.MAX_VALUE, clock()).size());
+    }
+
+    private Client cachingClient(long maxSize) {
+        PokeApiResponseCache cache = new PokeApiResponseCache(cacheDir, maxSize, clock());
+        return new CachingPokeApiClient(new Client.Default(null, null), cache, Duration.ofHours(1), clock(), meterRegistry);
+    }
+
+    private Clock clock() {
+        return new Clock() {
+            @Override
+            public ZoneOffset getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(java.time.ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return now.get();
+            }
+        };
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(body);
+        }
+        return bytes.toByteArray();
+    }
+
+    private String get(Client client, String path) throws IOException {
+        String url = "http://localhost:" + server.getAddress().getPort() + path;
+        Request request = Request.create(Request.HttpMethod.GET, url, Map.of(), null, StandardCharsets.UTF_8, null);
+        Request.Options options = new Request.Options(1, TimeUnit.SECONDS, 1, TimeUnit.SECONDS, true);
+        try (Response response = client.execute(request, options); InputStream in = response.body().asInputStream()) {
+            assertEquals(200, response.status());
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
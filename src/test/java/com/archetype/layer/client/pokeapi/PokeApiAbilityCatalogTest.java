@@ -0,0 +1,137 @@
+package com.archetype.layer.client.pokeapi;
+
+import com.archetype.layer.domain.model.Ability;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PokeApiAbilityCatalog with counting loaders.
+ */
+class PokeApiAbilityCatalogTest {
+
+    private static final Ability OVERGROW = new Ability(65, "overgrow", "Powers up Grass-type moves in a pinch.", null);
+    private static final int CALLERS = 8;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PokeApiAbilityCatalog unit = new PokeApiAbilityCatalog(meterRegistry);
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Concurrent callers for the same name share a single load")
+    void resolve_sharesOneLoad() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        Function<String, Ability> loader = name -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return OVERGROW;
+        };
+
+        Future<Ability> first = executor.submit(() -> unit.resolve("overgrow", loader));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        List<Future<Ability>> waiters = new ArrayList<>();
+        for (int i = 1; i < CALLERS; i++) {
+            waiters.add(executor.submit(() -> unit.resolve("overgrow", loader)));
+        }
+        release.countDown();
+
+        assertSame(OVERGROW, first.get(5, TimeUnit.SECONDS));
+        for (Future<Ability> waiter : waiters) {
+            assertSame(OVERGROW, waiter.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(CALLERS - 1, lookups("hit"));
+        assertEquals(1, lookups("miss"));
+    }
+
+    @Test
+    @DisplayName("A failed load, exception or error, is not cached and the next lookup loads again")
+    void resolve_retriesAfterFailure() {
+        Function<String, Ability> failing = name -> {
+            throw new IllegalStateException("connection reset");
+        };
+        Function<String, Ability> crashing = name -> {
+            throw new StackOverflowError();
+        };
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThrows(IllegalStateException.class, () -> unit.resolve("overgrow", failing));
+        assertThrows(StackOverflowError.class, () -> unit.resolve("overgrow", crashing));
+        Ability ability = unit.resolve("overgrow", name -> {
+            loads.incrementAndGet();
+            return OVERGROW;
+        });
+
+        assertSame(OVERGROW, ability);
+        assertEquals(1, loads.get());
+        assertEquals(3, lookups("miss"));
+    }
+
+    @Test
+    @DisplayName("A caller waiting on a load that fails gets the failure instead of blocking")
+    void resolve_propagatesFailureToWaiters() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Function<String, Ability> loader = name -> {
+            loading.countDown();
+            await(release);
+            throw new StackOverflowError();
+        };
+
+        Future<Ability> first = executor.submit(() -> unit.resolve("overgrow", loader));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        Future<Ability> waiter = executor.submit(() -> unit.resolve("overgrow", loader));
+        release.countDown();
+
+        assertInstanceOf(StackOverflowError.class, assertThrows(Exception.class, () -> first.get(5, TimeUnit.SECONDS)).getCause());
+        assertInstanceOf(StackOverflowError.class, assertThrows(Exception.class, () -> waiter.get(5, TimeUnit.SECONDS)).getCause());
+    }
+
+    @Test
+    @DisplayName("Fetched abilities are drained once, and preloaded ones are never reported as fetched")
+    void drainFetched_returnsNewAbilitiesOnce() {
+        Ability blaze = new Ability(66, "blaze", "Powers up Fire-type moves in a pinch.", null);
+        unit.preload(Map.of("overgrow", OVERGROW));
+
+        assertSame(OVERGROW, unit.resolve("overgrow", name -> fail("preloaded abilities are not loaded")));
+        unit.resolve("blaze", name -> blaze);
+
+        assertEquals(Map.of("blaze", blaze), unit.drainFetched());
+        assertEquals(Map.of(), unit.drainFetched());
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get(PokeApiAbilityCatalog.LOOKUP_COUNTER).tag("result", result).counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.archetype.layer.client.pokeapi;
+
+import com.sun.net.httpserver.HttpServer;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit tests for the OkHttp transport built by PokeApiClientConfiguration, against a local stand-in for PokeAPI.
+ */
+class PokeApiClientConfigurationTest {
+
+    private static final String BODY = "{\"id\":1,\"name\":\"bulbasaur\"}";
+
+    private HttpServer server;
+    private final List<String> acceptEncodings = new CopyOnWriteArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/v2/pokemon/", exchange -> {
+            acceptEncodings.add(String.valueOf(exchange.getRequestHeaders().getFirst("Accept-Encoding")));
+            byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("With compression off every request asks for an identity-encoded body")
+    void compressionOff_requestsIdentity() throws IOException {
+        Client client = transport(false);
+
+        assertEquals(BODY, get(client, "/api/v2/pokemon/1"));
+
+        assertEquals(List.of("identity"), acceptEncodings);
+    }
+
+    @Test
+    @DisplayName("With compression on OkHttp asks for gzip itself")
+    void compressionOn_requestsGzip() throws IOException {
+        Client client = transport(true);
+
+        assertEquals(BODY, get(client, "/api/v2/pokemon/1"));
+
+        assertEquals(List.of("gzip"), acceptEncodings);
+    }
+
+    @Test
+    @DisplayName("A second call reuses the pooled connection and is tagged as reused")
+    void secondCall_reusesPooledConnection() throws IOException {
+        Client client = transport(true);
+
+        get(client, "/api/v2/pokemon/1");
+        get(client, "/api/v2/pokemon/2");
+
+        assertEquals(1, acquired("false"));
+        assertEquals(1, acquired("true"));
+        assertEquals(1, meterRegistry.get(PokeApiConnectionEventListener.SETUP_TIMER).timer().count());
+    }
+
+    private Client transport(boolean compression) {
+        PokeApiClientConfiguration configuration = new PokeApiClientConfiguration();
+        ReflectionTestUtils.setField(configuration, "transport", "okhttp");
+        ReflectionTestUtils.setField(configuration, "connectTimeout", 1000);
+        ReflectionTestUtils.setField(configuration, "readTimeout", 1000);
+        ReflectionTestUtils.setField(configuration, "poolMaxIdle", 4);
+        ReflectionTestUtils.setField(configuration, "poolKeepAlive", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(configuration, "http2", true);
+        ReflectionTestUtils.setField(configuration, "compression", compression);
+        return configuration.transport(meterRegistry);
+    }
+
+    private long acquired(String reused) {
+        return meterRegistry.get(PokeApiConnectionEventListener.ACQUIRE_TIMER).tag("reused", reused).timer().count();
+    }
+
+    private String get(Client client, String path) throws IOException {
+        String url = "http://localhost:" + server.getAddress().getPort() + path;
+        Request request = Request.create(Request.HttpMethod.GET, url, Map.of(), null, StandardCharsets.UTF_8, null);
+        Request.Options options = new Request.Options(1, TimeUnit.SECONDS, 1, TimeUnit.SECONDS, true);
+        try (Response response = client.execute(request, options); InputStream in = response.body().asInputStream()) {
+            assertEquals(200, response.status());
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.archetype.layer.client.pokeapi;
+
+import com.archetype.layer.client.pokeapi.dto.PokeApiAbility;
+import com.archetype.layer.client.pokeapi.dto.PokeApiPokemon;
+import com.archetype.layer.client.pokeapi.dto.PokeApiPokemon.PokeApiAbility.PokeApiAbilityInfo;
+import com.archetype.layer.exception.PokemonServiceException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PokeApiDumpReader on a dump laid out in a temporary directory.
+ */
+class PokeApiDumpReaderTest {
+
+    @TempDir
+    Path dump;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Pokemon and abilities are read from a checkout's data/api/v2 tree")
+    void read_fromCheckoutLayout() throws IOException {
+        Path api = dump.resolve("data/api/v2");
+        writePokemon(api, 25);
+        write(api.resolve("ability/9/index.json"), """
+                {"id": 9, "name": "static", "generation": {"name": "generation-iii"},
+                 "effect_entries": [{"effect": "Has a 30% chance of paralyzing attacking Pokemon on contact.", "language": {"name": "en"}}]}
+                """);
+        PokeApiDumpReader unit = new PokeApiDumpReader(dump.toString(), objectMapper);
+
+        PokeApiPokemon pikachu = unit.pokemon(25);
+        PokeApiAbility ability = unit.ability(pikachu.abilities().getFirst().ability());
+
+        assertEquals("pikachu", pikachu.name());
+        assertEquals(2, pikachu.moves().size());
+        assertEquals("static", ability.name());
+        assertEquals("en", ability.effects().getFirst().language().name());
+    }
+
+    @Test
+    @DisplayName("The dump extends up to the first missing national ID")
+    void lastContiguousPokemonId_stopsAtGap() throws IOException {
+        Path api = dump.resolve("api/v2");
+        for (int id : new int[]{1, 2, 3, 5}) {
+            writePokemon(api, id);
+        }
+        PokeApiDumpReader unit = new PokeApiDumpReader(dump.toString(), objectMapper);
+
+        assertEquals(3, unit.lastContiguousPokemonId(151));
+        assertEquals(2, unit.lastContiguousPokemonId(2));
+        assertThrows(PokemonServiceException.class, () -> unit.pokemon(4));
+    }
+
+    @Test
+    @DisplayName("Without a dump directory no pokemon are available and reads fail as an external service failure")
+    void unconfigured() {
+        PokeApiDumpReader unit = new PokeApiDumpReader(dump.resolve("missing").toString(), objectMapper);
+
+        assertEquals(0, unit.lastContiguousPokemonId(151));
+        assertThrows(PokemonServiceException.class, () -> unit.pokemon(1));
+        assertEquals(0, new PokeApiDumpReader("", objectMapper).lastContiguousPokemonId(151));
+    }
+
+    @Test
+    @DisplayName("An ability link without an ID in its URL is rejected")
+    void ability_requiresIdInUrl() throws IOException {
+        writePokemon(dump.resolve("api/v2"), 1);
+        PokeApiDumpReader unit = new PokeApiDumpReader(dump.toString(), objectMapper);
+
+        assertThrows(PokemonServiceException.class, () -> unit.ability(new PokeApiAbilityInfo("static", "https://pokeapi.co/api/v2/ability/")));
+    }
+
+    private void writePokemon(Path api, int nationalId) throws IOException {
+        try (InputStream fixture = getClass().getResourceAsStream("/fixtures/pokeapi/pokemon-25-trimmed.json")) {
+            Path file = api.resolve("pokemon/" + nationalId + "/index.json");
+            Files.createDirectories(file.getParent());
+            Files.copy(fixture, file);
+        }
+    }
+
+    private static void write(Path file, String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+}
@@ -0,0 +1,95 @@
+package com.archetype.layer.client.pokeapi;
+
+import com.archetype.layer.client.pokeapi.dto.PokeApiPokemon;
+import com.archetype.layer.client.pokeapi.dto.PokeApiPokemon.PokeApiMove;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PokeApiPokemonReader on a trimmed PokeAPI {@code /pokemon/25} payload and hand-written edge cases.
+ */
+class PokeApiPokemonReaderTest {
+
+    private final PokeApiPokemonReader reader = new PokeApiPokemonReader();
+
+    @Test
+    @DisplayName("A PokeAPI payload is read into its id, types, abilities and stats, skipping unknown nested fields")
+    void read_pokeApiPayload() throws IOException {
+        PokeApiPokemon pikachu = readFixture();
+
+        assertEquals(25, pikachu.id());
+        assertEquals("pikachu", pikachu.name());
+        assertEquals(4, pikachu.height());
+        assertEquals(60, pikachu.weight());
+        assertEquals(112, pikachu.baseExperience());
+        assertEquals(1, pikachu.types().size());
+        assertEquals(1, pikachu.types().getFirst().slot());
+        assertEquals("electric", pikachu.types().getFirst().type().name());
+        assertEquals(List.of("static", "lightning-rod"), pikachu.abilities().stream().map(a -> a.ability().name()).toList());
+        assertEquals("https://pokeapi.co/api/v2/ability/31/", pikachu.abilities().getLast().ability().url());
+        assertTrue(pikachu.abilities().getLast().isHidden());
+        assertEquals(6, pikachu.stats().size());
+        assertEquals(35, pikachu.stat("hp"));
+        assertEquals(90, pikachu.stat("speed"));
+        assertEquals(2, pikachu.stats().getLast().effort());
+    }
+
+    @Test
+    @DisplayName("Only moves and move details of the Gen I and II games are kept")
+    void read_keepsGenIAndIIMoves() throws IOException {
+        PokeApiPokemon pikachu = readFixture();
+
+        assertEquals(List.of("mega-punch", "thunder-shock"), pikachu.moves().stream().map(m -> m.move().name()).toList());
+        assertTrue(pikachu.moves().stream().allMatch(PokeApiMove::isValid));
+
+        PokeApiMove thunderShock = pikachu.moves().getLast();
+        assertEquals(84, thunderShock.move().number());
+        assertEquals(List.of("red-blue", "yellow", "gold-silver"), thunderShock.details().stream().map(d -> d.version().name()).toList());
+        assertEquals(1, thunderShock.details().getFirst().levelLearn());
+        assertEquals(List.of("red-blue", "yellow"), pikachu.moves().getFirst().details().stream().map(d -> d.version().name()).toList());
+    }
+
+    @Test
+    @DisplayName("Null and missing fields read as empty or null instead of failing")
+    void read_nullsAndMissingFields() throws IOException {
+        PokeApiPokemon pokemon = read("""
+                {"id": 10001, "name": "deoxys-attack", "base_experience": null, "sprites": null,
+                 "abilities": [{"ability": null, "is_hidden": false}], "moves": null, "types": [],
+                 "extra": {"nested": [[1, 2], {"deep": null}]}}
+                """);
+
+        assertEquals(10001, pokemon.id());
+        assertNull(pokemon.baseExperience());
+        assertEquals(0, pokemon.height());
+        assertNull(pokemon.abilities().getFirst().ability().name());
+        assertEquals(List.of(), pokemon.moves());
+        assertEquals(List.of(), pokemon.types());
+        assertEquals(List.of(), pokemon.stats());
+        assertEquals(0, pokemon.stat("hp"));
+    }
+
+    @Test
+    @DisplayName("A payload that is not an object, or an array of scalars where objects belong, is rejected")
+    void read_rejectsMalformedPayloads() {
+        assertThrows(IOException.class, () -> read("[]"));
+        assertThrows(IOException.class, () -> read("{\"id\": 1, \"types\": [\"electric\"]}"));
+    }
+
+    private PokeApiPokemon readFixture() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/fixtures/pokeapi/pokemon-25-trimmed.json")) {
+            return reader.read(in);
+        }
+    }
+
+    private PokeApiPokemon read(String json) throws IOException {
+        return reader.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,116 @@
+package com.archetype.layer.client.pokeapi;
+
+import com.archetype.layer.client.pokeapi.dto.PokeApiPokemon;
+import com.archetype.layer.domain.model.Species;
+import com.archetype.layer.domain.model.Type;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SpeciesIngestionPipeline with in-memory stages.
+ */
+@Timeout(10)
+class SpeciesIngestionPipelineTest {
+
+    private static final IntFunction<PokeApiPokemon> FETCHER =
+            id -> new PokeApiPokemon(id, "pokemon-" + id, 1, 1, null, List.of(), List.of(), List.of(), List.of());
+    private static final Function<PokeApiPokemon, Species> MAPPER =
+            pokemon -> new Species(pokemon.id(), pokemon.name(), Type.normal, null, List.of(), Map.of(),
+                    new Species.PokemonStats(1, 1, 1, 1, 1, 1));
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SpeciesIngestionPipeline unit = new SpeciesIngestionPipeline(meterRegistry, 4, 3);
+
+    @Test
+    @DisplayName("Every national ID of the range is handed to the sink once, with a checkpoint that only covers persisted IDs")
+    void run_persistsWholeRange() {
+        RecordingSink sink = new RecordingSink(1, Integer.MAX_VALUE);
+
+        int persisted = unit.run(1, 100, 8, 7, FETCHER, MAPPER, sink);
+
+        assertEquals(100, persisted);
+        assertEquals(100, sink.persisted.cardinality());
+        assertEquals(100, sink.persisted.nextClearBit(1) - 1);
+        assertEquals(100, sink.lastCheckpoint);
+        assertTrue(sink.batchSizes.stream().allMatch(size -> size <= 7));
+        assertEquals(100, meterRegistry.get(SpeciesIngestionPipeline.STAGE_COUNTER).tag("stage", "upsert").counter().count());
+    }
+
+    @Test
+    @DisplayName("A failure in the map stage stops the run and is rethrown to the caller")
+    void run_stopsOnMapFailure() {
+        RecordingSink sink = new RecordingSink(1, Integer.MAX_VALUE);
+        IllegalStateException failure = new IllegalStateException("unmappable species 40");
+        Function<PokeApiPokemon, Species> mapper = pokemon -> {
+            if (pokemon.id() == 40) throw failure;
+            return MAPPER.apply(pokemon);
+        };
+
+        RuntimeException thrown = assertThrows(RuntimeException.class, () -> unit.run(1, 100, 2, 5, FETCHER, mapper, sink));
+
+        assertSame(failure, thrown);
+        assertFalse(sink.persisted.get(40));
+        assertTrue(sink.lastCheckpoint < 40);
+    }
+
+    @Test
+    @DisplayName("A run resumed after its checkpoint persists the rest of the range")
+    void run_resumesFromCheckpoint() {
+        RecordingSink interrupted = new RecordingSink(1, 3);
+        assertThrows(IllegalStateException.class, () -> unit.run(1, 60, 4, 5, FETCHER, MAPPER, interrupted));
+        int checkpoint = interrupted.lastCheckpoint;
+        assertTrue(checkpoint < 60);
+
+        RecordingSink resumed = new RecordingSink(checkpoint + 1, Integer.MAX_VALUE);
+        int persisted = unit.run(checkpoint + 1, 60, 4, 5, FETCHER, MAPPER, resumed);
+
+        assertEquals(60 - checkpoint, persisted);
+        BitSet all = (BitSet) interrupted.persisted.clone();
+        all.or(resumed.persisted);
+        assertEquals(60, all.nextClearBit(1) - 1);
+        assertEquals(60, resumed.lastCheckpoint);
+    }
+
+    /**
+     * Records what it is handed and checks each checkpoint against it; fails every batch after the first
+     * {@code acceptedBatches}.
+     */
+    private static final class RecordingSink implements SpeciesBatchSink {
+
+        private final int firstId;
+        private final int acceptedBatches;
+        private final BitSet persisted = new BitSet();
+        private final List<Integer> batchSizes = new ArrayList<>();
+        private int lastCheckpoint;
+
+        private RecordingSink(int firstId, int acceptedBatches) {
+            this.firstId = firstId;
+            this.acceptedBatches = acceptedBatches;
+            this.lastCheckpoint = firstId - 1;
+        }
+
+        @Override
+        public synchronized void accept(List<Species> batch, int completedThrough) {
+            if (batchSizes.size() == acceptedBatches) {
+                throw new IllegalStateException("sink unavailable");
+            }
+            batchSizes.add(batch.size());
+            batch.forEach(species -> assertFalse(persisted.get(species.nationalId()), "persisted twice: " + species.nationalId()));
+            batch.forEach(species -> persisted.set(species.nationalId()));
+            assertTrue(completedThrough >= lastCheckpoint);
+            assertTrue(persisted.nextClearBit(firstId) > completedThrough, "checkpoint " + completedThrough + " ahead of persisted IDs");
+            lastCheckpoint = completedThrough;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.archetype.layer.client.pokeapi;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ThrottlingPokeApiClient over a scripted delegate client.
+ */
+class ThrottlingPokeApiClientTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+    private static final Duration BACKOFF_BASE = Duration.ofMillis(1);
+    private static final Duration BACKOFF_MAX = Duration.ofSeconds(2);
+    private static final Request.Options OPTIONS = new Request.Options();
+
+    private final ScriptedClient delegate = new ScriptedClient();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AdaptiveTokenBucket bucket;
+
+    private ThrottlingPokeApiClient unit;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        // Tokens are handed out immediately; the pause each throttled answer asks for is captured instead of slept
+        bucket = spy(new AdaptiveTokenBucket(10, 1, 20, 5, 1));
+        doReturn(0L).when(bucket).acquire();
+        unit = new ThrottlingPokeApiClient(delegate, bucket, 3, BACKOFF_BASE, BACKOFF_MAX, Clock.fixed(NOW, ZoneOffset.UTC), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("A 429 with delta-seconds pauses for that many seconds, capped at the maximum backoff, and is retried")
+    void tooManyRequests_pausesForRetryAfterSeconds() throws IOException {
+        delegate.respond(429, "1").respond(429, "3600").respond(200, null);
+
+        Response response = unit.execute(get(), OPTIONS);
+
+        assertEquals(200, response.status());
+        assertEquals(3, delegate.calls);
+        List<Long> pauses = pauses(2);
+        assertBetween(TimeUnit.SECONDS.toNanos(1), TimeUnit.SECONDS.toNanos(1) + BACKOFF_BASE.toNanos(), pauses.getFirst());
+        assertEquals(BACKOFF_MAX.toNanos(), pauses.getLast());
+        assertEquals(2, meterRegistry.get(ThrottlingPokeApiClient.RETRY_COUNTER).tag("reason", "429").counter().count());
+    }
+
+    @Test
+    @DisplayName("A 503 with an HTTP date pauses until that date, capped at the maximum backoff")
+    void serviceUnavailable_pausesUntilRetryAfterDate() throws IOException {
+        delegate.respond(503, httpDate(NOW.plusSeconds(1)))
+                .respond(503, httpDate(NOW.plus(Duration.ofMinutes(10))))
+                .respond(200, null);
+
+        assertEquals(200, unit.execute(get(), OPTIONS).status());
+
+        List<Long> pauses = pauses(2);
+        assertBetween(TimeUnit.SECONDS.toNanos(1), TimeUnit.SECONDS.toNanos(1) + BACKOFF_BASE.toNanos(), pauses.getFirst());
+        assertEquals(BACKOFF_MAX.toNanos(), pauses.getLast());
+        assertEquals(2, meterRegistry.get(ThrottlingPokeApiClient.THROTTLED_COUNTER).tag("status", "503").counter().count());
+    }
+
+    @Test
+    @DisplayName("A 503 without Retry-After pauses for a jittered backoff")
+    void serviceUnavailable_withoutRetryAfter_backsOff() throws IOException {
+        delegate.respond(503, null).respond(200, null);
+
+        assertEquals(200, unit.execute(get(), OPTIONS).status());
+
+        assertBetween(0, BACKOFF_BASE.toNanos(), pauses(1).getFirst());
+    }
+
+    @Test
+    @DisplayName("I/O failures of a GET are retried without shrinking the limiter")
+    void ioFailure_isRetried() throws IOException {
+        delegate.fail().fail().respond(200, null);
+
+        assertEquals(200, unit.execute(get(), OPTIONS).status());
+
+        assertEquals(3, delegate.calls);
+        verify(bucket, never()).onThrottled(anyLong());
+        assertEquals(2, meterRegistry.get(ThrottlingPokeApiClient.RETRY_COUNTER).tag("reason", "io").counter().count());
+    }
+
+    @Test
+    @DisplayName("A request other than GET is neither retried on throttling nor on I/O failure")
+    void nonGet_isNotRetried() throws IOException {
+        delegate.respond(429, "1").fail();
+
+        assertEquals(429, unit.execute(post(), OPTIONS).status());
+        assertThrows(IOException.class, () -> unit.execute(post(), OPTIONS));
+
+        assertEquals(2, delegate.calls);
+        verify(bucket).onThrottled(anyLong());
+    }
+
+    @Test
+    @DisplayName("When attempts run out the last throttled response is returned")
+    void attemptsExhausted_returnsLastResponse() throws IOException {
+        delegate.respond(429, "1").respond(429, "1").respond(429, "2");
+
+        Response response = unit.execute(get(), OPTIONS);
+
+        assertEquals(429, response.status());
+        assertEquals(List.of("2"), List.copyOf(response.headers().get("Retry-After")));
+        assertEquals(3, delegate.calls);
+        assertEquals(2, meterRegistry.get(ThrottlingPokeApiClient.RETRY_COUNTER).tag("reason", "429").counter().count());
+        assertEquals(3, meterRegistry.get(ThrottlingPokeApiClient.THROTTLED_COUNTER).tag("status", "429").counter().count());
+    }
+
+    private List<Long> pauses(int count) {
+        ArgumentCaptor<Long> pauses = ArgumentCaptor.forClass(Long.class);
+        verify(bucket, times(count)).onThrottled(pauses.capture());
+        return pauses.getAllValues();
+    }
+
+    private static void assertBetween(long min, long max, long actual) {
+        assertTrue(actual >= min && actual <= max, () -> actual + " ns is not within " + min + "-" + max + " ns");
+    }
+
+    private static String httpDate(Instant instant) {
+        return DateTimeFormatter.RFC_1123_DATE_TIME.format(instant.atOffset(ZoneOffset.UTC));
+    }
+
+    private static Request get() {
+        return request(Request.HttpMethod.GET);
+    }
+
+    private static Request post() {
+        return request(Request.HttpMethod.POST);
+    }
+
+    private static Request request(Request.HttpMethod method) {
+        return Request.create(method, "https://pokeapi.co/api/v2/pokemon/25", Map.of(), null, StandardCharsets.UTF_8, null);
+    }
+
+    /**
+     * Answers each call with the next scripted response or I/O failure.
+     */
+    private static final class ScriptedClient implements Client {
+
+        private final Deque<Step> script = new ArrayDeque<>();
+        private int calls;
+
+        ScriptedClient respond(int status, String retryAfter) {
+            script.add(new Step(status, retryAfter, null));
+            return this;
+        }
+
+        ScriptedClient fail() {
+            script.add(new Step(0, null, new SocketTimeoutException("Read timed out")));
+            return this;
+        }
+
+        @Override
+        public Response execute(Request request, Request.Options options) throws IOException {
+            calls++;
+            Step step = script.remove();
+            if (step.failure() != null) {
+                throw step.failure();
+            }
+            Map<String, Collection<String>> headers = step.retryAfter() != null ? Map.of("Retry-After", List.of(step.retryAfter())) : Map.of();
+            return Response.builder()
+                           .status(step.status())
+                           .reason(step.status() == 200 ? "OK" : "Throttled")
+                           .request(request)
+                           .headers(headers)
+                           .body(new byte[0])
+                           .build();
+        }
+
+        private record Step(int status, String retryAfter, IOException failure) {
+
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.archetype.layer.config;
+
+import com.mongodb.reactivestreams.client.MongoClient;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.mongo.MongoAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.env.Environment;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Context test for ReactiveMongoConfig with the reactive flag on, under the auto-configuration excludes of
+ * {@code application.yaml}. No connection is opened, so no MongoDB is needed.
+ */
+@SpringBootTest(classes = ReactiveMongoConfigTest.MongoOnly.class,
+        properties = {"pokemon.reactive.enabled=true", "spring.data.mongodb.uri=mongodb://localhost:27017/pokemon"})
+class ReactiveMongoConfigTest {
+
+    @Test
+    @DisplayName("With the flag on the reactive client and template exist although their auto-configurations are excluded")
+    void reactiveFlag_providesTemplate(@Autowired ApplicationContext context, @Autowired Environment environment) {
+        assertTrue(environment.getProperty("spring.autoconfigure.exclude[0]", "").endsWith("MongoReactiveAutoConfiguration"));
+
+        ReactiveMongoTemplate template = context.getBean(ReactiveMongoTemplate.class);
+
+        assertNotNull(context.getBean(MongoClient.class));
+        assertEquals("pokemon", template.getMongoDatabase().block().getName());
+    }
+
+    @Configuration
+    @ImportAutoConfiguration(MongoAutoConfiguration.class)
+    @Import(ReactiveMongoConfig.class)
+    static class MongoOnly {
+    }
+}
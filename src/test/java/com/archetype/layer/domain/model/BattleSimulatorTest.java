@@ -0,0 +1,94 @@
+package com.archetype.layer.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BattleSimulator and the Gen II stats of Combatant.
+ */
+class BattleSimulatorTest {
+
+    private static final Species PIKACHU = species(25, "pikachu", Type.electric, null, new Species.PokemonStats(55, 40, 50, 50, 90, 35));
+    private static final Species GYARADOS = species(130, "gyarados", Type.water, Type.flying, new Species.PokemonStats(125, 79, 60, 100, 81, 95));
+    private static final Species DIGLETT = species(50, "diglett", Type.ground, null, new Species.PokemonStats(55, 25, 35, 45, 95, 10));
+    private static final Species RATTATA = species(19, "rattata", Type.normal, null, new Species.PokemonStats(56, 35, 25, 35, 72, 30));
+    private static final Species GASTLY = species(92, "gastly", Type.ghost, Type.poison, new Species.PokemonStats(35, 30, 100, 35, 80, 30));
+
+    @Test
+    @DisplayName("Combatant stats follow the Gen II formula with perfect DVs")
+    void combatant_hasGenIIStats() {
+        Combatant pikachu = Combatant.of(PIKACHU, 50);
+
+        assertEquals(110, pikachu.hp());
+        assertEquals(75, pikachu.attack());
+        assertEquals(60, pikachu.defense());
+        assertEquals(70, pikachu.specialAttack());
+        assertEquals(110, pikachu.speed());
+    }
+
+    @Test
+    @DisplayName("The same seed gives the same outcome whatever the parallelism")
+    void simulate_isReproducibleAcrossParallelism() {
+        BattleSimulator simulator = new BattleSimulator(Combatant.of(PIKACHU, 50), Combatant.of(GYARADOS, 50));
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool many = new ForkJoinPool(4);
+        try {
+            BattleOutcome first = simulator.simulate(100_000, 7L, single);
+            BattleOutcome second = simulator.simulate(100_000, 7L, many);
+
+            assertEquals(first, second);
+            assertEquals(100_000, first.wins() + first.losses() + first.draws());
+        } finally {
+            single.shutdown();
+            many.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("A side that cannot hurt its opponent wins no battle")
+    void simulate_immuneDefenderNeverLoses() {
+        BattleOutcome diglettVsPikachu = new BattleSimulator(Combatant.of(DIGLETT, 50), Combatant.of(PIKACHU, 50))
+                .simulate(10_000, new SplittableRandom(1));
+        BattleOutcome rattataVsGastly = new BattleSimulator(Combatant.of(RATTATA, 50), Combatant.of(GASTLY, 50))
+                .simulate(10_000, new SplittableRandom(1));
+
+        assertEquals(10_000, diglettVsPikachu.wins());
+        assertEquals(0, rattataVsGastly.wins());
+        assertEquals(10_000, rattataVsGastly.losses());
+    }
+
+    @Test
+    @DisplayName("Swapping attacker and defender swaps the win rates")
+    void simulate_isSymmetric() {
+        BattleOutcome forward = new BattleSimulator(Combatant.of(PIKACHU, 50), Combatant.of(GYARADOS, 50))
+                .simulate(100_000, new SplittableRandom(3));
+        BattleOutcome backward = new BattleSimulator(Combatant.of(GYARADOS, 50), Combatant.of(PIKACHU, 50))
+                .simulate(100_000, new SplittableRandom(5));
+
+        assertEquals(1.0, forward.winRate() + backward.winRate(), 0.02);
+    }
+
+    @Test
+    @DisplayName("Damage uses the attacker's better type and is zero against an immune defender")
+    void bestDamage_usesBetterType() {
+        Combatant gyarados = Combatant.of(GYARADOS, 50);
+        Combatant diglett = Combatant.of(DIGLETT, 50);
+
+        int water = BattleSimulator.damage(gyarados, diglett, Element.WATER);
+        int flying = BattleSimulator.damage(gyarados, diglett, Element.FLYING);
+
+        assertEquals(Math.max(water, flying), BattleSimulator.bestDamage(gyarados, diglett));
+        assertEquals(0, BattleSimulator.bestDamage(Combatant.of(PIKACHU, 50), diglett));
+    }
+
+    private static Species species(int nationalId, String name, Type firstType, Type secondType, Species.PokemonStats stats) {
+        return new Species(nationalId, name, firstType, secondType, List.of(), Map.of(), stats);
+    }
+}
@@ -0,0 +1,53 @@
+package com.archetype.layer.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MoveDictionary and the Learnset maps it backs.
+ */
+class MoveDictionaryTest {
+
+    @Test
+    @DisplayName("A learnset resolves names from the dictionary and iterates in move number order")
+    void learnset_resolvesNamesInOrder() {
+        MoveDictionary dictionary = MoveDictionary.of(Map.of(33, "tackle", 22, "vine-whip", 45, "growl"));
+
+        Learnset learnset = dictionary.learnset(new int[]{45, 22, 33});
+
+        assertEquals(3, learnset.size());
+        assertEquals("vine-whip", learnset.get(22));
+        assertNull(learnset.get(1));
+        assertEquals(List.of(22, 33, 45), List.copyOf(learnset.keySet()));
+        assertEquals(Map.of(33, "tackle", 22, "vine-whip", 45, "growl"), learnset);
+    }
+
+    @Test
+    @DisplayName("Adding entries keeps existing names and shares one instance per name")
+    void with_keepsExistingAndInterns() {
+        MoveDictionary dictionary = MoveDictionary.of(Map.of(1, "pound"))
+                                                  .with(Map.of(1, "other", 2, new String("karate-chop")));
+
+        assertEquals("pound", dictionary.name(1));
+        assertSame("karate-chop", dictionary.name(2));
+        assertArrayEquals(new int[]{1, 2}, Learnset.numbers(Map.of(2, "karate-chop", 1, "pound")));
+    }
+
+    @Test
+    @DisplayName("Display names from the seed script and PokeAPI names resolve to the same PokeAPI form")
+    void with_normalizesNames() {
+        MoveDictionary dictionary = MoveDictionary.of(Map.of(2, "Karate Chop", 38, "Double-Edge", 226, "Baton Pass"))
+                                                  .with(Map.of(33, "tackle"));
+
+        assertEquals("karate-chop", dictionary.name(2));
+        assertEquals("double-edge", dictionary.name(38));
+        assertEquals("baton-pass", dictionary.name(226));
+        assertEquals("tackle", dictionary.name(33));
+        assertEquals("kings-shield", MoveDictionary.normalize("King's Shield"));
+    }
+}
@@ -0,0 +1,51 @@
+package com.archetype.layer.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TypeChart against canonical matchups of the type chart.
+ */
+class TypeChartTest {
+
+    @Test
+    @DisplayName("Single-type cells follow the canonical type chart")
+    void effectiveness_matchesCanonicalChart() {
+        assertEquals(2, TypeChart.effectiveness(Element.WATER, Element.FIRE));
+        assertEquals(0.5, TypeChart.effectiveness(Element.FIRE, Element.WATER));
+        assertEquals(0.5, TypeChart.effectiveness(Element.STEEL, Element.STEEL));
+        assertEquals(1, TypeChart.effectiveness(Element.NORMAL, Element.FIRE));
+        assertEquals(0, TypeChart.effectiveness(Element.NORMAL, Element.GHOST));
+        assertEquals(0, TypeChart.effectiveness(Element.GROUND, Element.FLYING));
+        assertEquals(0, TypeChart.effectiveness(Element.DRAGON, Element.FAIRY));
+        assertEquals(2, TypeChart.effectiveness(Element.FIGHTING, Element.DARK));
+        assertEquals(0.5, TypeChart.effectiveness(Element.BUG, Element.FAIRY));
+    }
+
+    @Test
+    @DisplayName("Multipliers against two types are multiplied, and an immunity cancels a weakness")
+    void effectiveness_combinesDualTypes() {
+        assertEquals(4, TypeChart.effectiveness(Element.ELECTRIC, Element.WATER, Element.FLYING));
+        assertEquals(0.25, TypeChart.effectiveness(Element.GRASS, Element.FIRE, Element.FLYING));
+        assertEquals(1, TypeChart.effectiveness(Element.FIRE, Element.WATER, Element.GRASS));
+        assertEquals(0, TypeChart.effectiveness(Element.ELECTRIC, Element.GROUND, Element.FLYING));
+        assertEquals(2, TypeChart.effectiveness(Element.ELECTRIC, Element.FLYING, Element.FLYING));
+        assertEquals(0.5, TypeChart.effectiveness(Element.FIRE, Element.WATER, null));
+        assertEquals(0, Type.ghost.effectivenessAgainst(Element.NORMAL));
+    }
+
+    @Test
+    @DisplayName("Species are looked up by their first and second type")
+    void effectiveness_againstSpecies() {
+        Species gyarados = new Species(130, "gyarados", Type.water, Type.flying, List.of(), Map.of(), null);
+        Species pikachu = new Species(25, "pikachu", Type.electric, null, List.of(), Map.of(), null);
+
+        assertEquals(4, TypeChart.effectiveness(Element.ELECTRIC, gyarados));
+        assertEquals(TypeChart.effectiveness(Element.GROUND, Element.ELECTRIC), TypeChart.effectiveness(Element.GROUND, pikachu));
+    }
+}
@@ -0,0 +1,94 @@
+package com.archetype.layer.service;
+
+import com.archetype.layer.domain.dto.response.BattleSimulationResponse;
+import com.archetype.layer.domain.model.IndividualValues;
+import com.archetype.layer.domain.model.Pokemon;
+import com.archetype.layer.domain.model.PokemonId;
+import com.archetype.layer.domain.model.Species;
+import com.archetype.layer.domain.model.Type;
+import com.archetype.layer.exception.PokemonValidationException;
+import com.archetype.layer.persistence.PokemonDataRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static com.archetype.layer.service.SpeciesFixtures.species;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BattleSimulationService with a mocked repository and species catalog.
+ */
+class BattleSimulationServiceTest {
+
+    private static final Species PIKACHU = species(25, "pikachu", Type.electric);
+    private static final Species SQUIRTLE = species(7, "squirtle", Type.water);
+
+    private final PokemonDataRepository repository = mock(PokemonDataRepository.class);
+    private final SpeciesCatalogService speciesCatalog = mock(SpeciesCatalogService.class);
+
+    private final BattleSimulationService unit = new BattleSimulationService(speciesCatalog, repository, new ObjectMapper(),
+            new SimpleMeterRegistry(), 1000, 100_000, 500, 10_000, 2);
+
+    @AfterEach
+    void tearDown() {
+        unit.shutdown();
+    }
+
+    @Test
+    @DisplayName("Battles between owned Pokemon use their stored DVs, so a seed reproduces the outcome")
+    void simulatePokemon_isReproducible() {
+        UUID sparky = UUID.randomUUID();
+        UUID splash = UUID.randomUUID();
+        when(repository.getPokemonById(sparky)).thenAnswer(call -> stored(sparky, PIKACHU, new IndividualValues(15, 3, 9, 12)));
+        when(repository.getPokemonById(splash)).thenAnswer(call -> stored(splash, SQUIRTLE, new IndividualValues(2, 14, 6, 1)));
+
+        BattleSimulationResponse first = unit.simulatePokemon(sparky, splash, 20_000L, 99L);
+        BattleSimulationResponse second = unit.simulatePokemon(sparky, splash, 20_000L, 99L);
+
+        assertEquals(first, second);
+        assertEquals(20_000, first.battles());
+        assertEquals(99L, first.seed());
+    }
+
+    @Test
+    @DisplayName("The matchup stream caps battles per matchup and spreads the total cap over the catalog")
+    void matchups_areCapped() {
+        when(speciesCatalog.require(25)).thenReturn(PIKACHU);
+        when(speciesCatalog.all()).thenReturn(IntStream.rangeClosed(1, 40).mapToObj(id -> species(id, "species-" + id, Type.normal)).toList());
+
+        // 500 per matchup, and 10000 over 40 species leaves 250
+        assertThrows(PokemonValidationException.class, () -> unit.matchups(25, 50, 251L, 1L));
+        assertDoesNotThrow(() -> unit.matchups(25, 50, 250L, 1L));
+
+        when(speciesCatalog.all()).thenReturn(List.of(SQUIRTLE));
+        assertThrows(PokemonValidationException.class, () -> unit.matchups(25, 50, 501L, 1L));
+    }
+
+    @Test
+    @DisplayName("The matchup stream writes one line per catalog species")
+    void matchups_streamOneLinePerSpecies() {
+        when(speciesCatalog.require(25)).thenReturn(PIKACHU);
+        when(speciesCatalog.all()).thenReturn(List.of(PIKACHU, SQUIRTLE));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        unit.matchups(25, 50, null, 1L).accept(out);
+
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(2, lines.size());
+        assertTrue(lines.stream().allMatch(line -> line.startsWith("{") && line.endsWith("}")), lines::toString);
+        assertTrue(lines.get(1).contains("\"defender\":\"squirtle\""), lines.get(1));
+    }
+
+    private static Pokemon stored(UUID id, Species species, IndividualValues ivs) {
+        return new Pokemon(new PokemonId(id), species, species.name(), 30, ivs);
+    }
+}
@@ -0,0 +1,68 @@
+package com.archetype.layer.service;
+
+import com.archetype.layer.domain.model.IndividualValues;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for IndividualValuesService.
+ */
+class IndividualValuesServiceTest {
+
+    private final IndividualValuesService unit = new IndividualValuesService();
+
+    @Test
+    @DisplayName("A seed always rolls the same DVs")
+    void roll_isReproducibleWithSeed() {
+        assertEquals(unit.roll(42L), unit.roll(42L));
+        assertEquals(new IndividualValuesService().rollAll(1000, 42L), unit.rollAll(1000, 42L));
+    }
+
+    @Test
+    @DisplayName("A bulk roll returns the requested number of DVs, all within range and not all alike")
+    void rollAll_fillsBlock() {
+        List<IndividualValues> block = unit.rollAll(1001, null);
+
+        assertEquals(1001, block.size());
+        assertTrue(block.stream().allMatch(ivs -> ivs.attack() <= IndividualValues.MAX && ivs.defense() <= IndividualValues.MAX
+                && ivs.speed() <= IndividualValues.MAX && ivs.special() <= IndividualValues.MAX));
+        assertTrue(new HashSet<>(block).size() > 100);
+    }
+
+    @Test
+    @DisplayName("Concurrent unseeded rolls all succeed and cover the DV range")
+    void roll_fromManyThreads() throws Exception {
+        Set<Integer> attackDVs = ConcurrentHashMap.newKeySet();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<?>> rolls = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                rolls.add(executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++) attackDVs.add(unit.roll().attack());
+                }));
+            }
+            for (Future<?> roll : rolls) roll.get();
+        }
+
+        assertEquals(16, attackDVs.size());
+    }
+
+    @Test
+    @DisplayName("The HP DV is built from the lowest bit of the other four")
+    void individualValues_deriveHp() {
+        assertEquals(15, new IndividualValues(1, 3, 5, 7).hp());
+        assertEquals(0, new IndividualValues(0, 2, 4, 14).hp());
+        assertEquals(8, new IndividualValues(15, 10, 10, 10).hp());
+        assertThrows(IllegalArgumentException.class, () -> new IndividualValues(16, 0, 0, 0));
+    }
+}
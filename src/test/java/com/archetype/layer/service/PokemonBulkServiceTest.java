@@ -0,0 +1,143 @@
+package com.archetype.layer.service;
+
+import com.archetype.layer.domain.dto.request.PokemonCreate;
+import com.archetype.layer.domain.dto.response.PokemonBulkCreateItem;
+import com.archetype.layer.domain.dto.response.PokemonBulkCreateResponse;
+import com.archetype.layer.domain.model.Pokemon;
+import com.archetype.layer.domain.model.Species;
+import com.archetype.layer.domain.model.Type;
+import com.archetype.layer.exception.PokemonValidationException;
+import com.archetype.layer.persistence.PokemonDataRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.hibernate.validator.messageinterpolation.ParameterMessageInterpolator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.ResourceBundleMessageSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.archetype.layer.service.SpeciesFixtures.species;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PokemonBulkService with a mocked repository and species catalog.
+ */
+class PokemonBulkServiceTest {
+
+    private static final int CHUNK_SIZE = 2;
+    private static final int MAX_ITEMS = 10;
+    private static final Species PIKACHU = species(25, "pikachu", Type.electric);
+    private static final Species SQUIRTLE = species(7, "squirtle", Type.water);
+
+    private final PokemonDataRepository repository = mock(PokemonDataRepository.class);
+    private final SpeciesCatalogService speciesCatalog = mock(SpeciesCatalogService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<List<Pokemon>> insertedChunks = new ArrayList<>();
+
+    private PokemonBulkService unit;
+
+    @BeforeEach
+    void setUp() {
+        Validator validator = Validation.byDefaultProvider()
+                                        .configure()
+                                        .messageInterpolator(new ParameterMessageInterpolator())
+                                        .buildValidatorFactory()
+                                        .getValidator();
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename("messages");
+        unit = new PokemonBulkService(repository, speciesCatalog, validator, messageSource, meterRegistry,
+                new IndividualValuesService(), CHUNK_SIZE, MAX_ITEMS);
+
+        when(speciesCatalog.byNationalId(anyInt())).thenReturn(Optional.empty());
+        when(speciesCatalog.byNationalId(25)).thenReturn(Optional.of(PIKACHU));
+        when(repository.getSpeciesByIds(anyCollection())).thenReturn(Map.of(7, SQUIRTLE));
+    }
+
+    @Test
+    @DisplayName("Invalid entries and unknown species fail alone while the rest are inserted in chunks")
+    void createAll_failsEntriesIndividually() {
+        recordInserts(Map.of(), Map.of());
+
+        PokemonBulkCreateResponse response = unit.createAll(List.of(
+                new PokemonCreate(25, "sparky"),
+                new PokemonCreate(0, null),
+                new PokemonCreate(1026, null),
+                new PokemonCreate(7, "x".repeat(51)),
+                new PokemonCreate(999, null),
+                new PokemonCreate(7, null),
+                new PokemonCreate(25, null)), null);
+
+        assertEquals(3, response.created());
+        assertEquals(4, response.failed());
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6), response.items().stream().map(PokemonBulkCreateItem::index).toList());
+        assertFailed(response.items().get(1), "pokemon.national-id.min", "National ID must be at least 1");
+        assertFailed(response.items().get(2), "pokemon.national-id.max", "National ID cannot exceed 1025");
+        assertFailed(response.items().get(3), "pokemon.name.max-length", "Pokemon name cannot exceed 50 characters");
+        assertFailed(response.items().get(4), "species.not-found", "Species with national ID 999 was not found");
+        verify(repository).getSpeciesByIds(List.of(7, 999));
+
+        assertEquals(List.of(2, 1), insertedChunks.stream().map(List::size).toList());
+        assertEquals("sparky", insertedChunks.getFirst().getFirst().getName());
+        assertEquals(insertedChunks.getFirst().getFirst().getId().uuid().toString(), response.items().getFirst().id());
+        assertEquals(3, meterRegistry.get(PokemonBulkService.ITEMS_COUNTER).tag("result", "created").counter().count());
+        assertEquals(4, meterRegistry.get(PokemonBulkService.ITEMS_COUNTER).tag("result", "failed").counter().count());
+    }
+
+    @Test
+    @DisplayName("Write failures reported by position within a chunk are mapped back to the request index")
+    void createAll_mapsChunkFailuresToRequestIndexes() {
+        recordInserts(Map.of(1, "E11000 duplicate key"), Map.of(0, "document too large"));
+
+        PokemonBulkCreateResponse response = unit.createAll(List.of(
+                new PokemonCreate(25, null),
+                new PokemonCreate(999, null),
+                new PokemonCreate(7, null),
+                new PokemonCreate(25, null),
+                new PokemonCreate(7, null)), 42L);
+
+        List<String> statuses = response.items().stream().map(PokemonBulkCreateItem::status).toList();
+        assertEquals(List.of("CREATED", "FAILED", "FAILED", "FAILED", "CREATED"), statuses);
+        assertFailed(response.items().get(2), "pokemon.bulk.write-failed", "Pokemon could not be stored: E11000 duplicate key");
+        assertFailed(response.items().get(3), "pokemon.bulk.write-failed", "Pokemon could not be stored: document too large");
+        assertEquals(7, response.items().get(4).nationalId());
+        assertEquals(2, response.created());
+    }
+
+    @Test
+    @DisplayName("Empty requests and requests over the item limit are rejected before anything is written")
+    void createAll_rejectsEmptyAndOversizedRequests() {
+        List<PokemonCreate> oversized = Collections.nCopies(MAX_ITEMS + 1, new PokemonCreate(25, null));
+
+        assertThrows(PokemonValidationException.class, () -> unit.createAll(List.of(), null));
+        assertThrows(PokemonValidationException.class, () -> unit.createAll(oversized, null));
+        assertEquals(MAX_ITEMS, unit.createAll(Collections.nCopies(MAX_ITEMS, new PokemonCreate(25, null)), null).created());
+    }
+
+    /**
+     * Answers successive {@code insertAll} calls with the given failures, keyed by position within the chunk.
+     */
+    @SafeVarargs
+    private void recordInserts(Map<Integer, String>... failuresPerChunk) {
+        when(repository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<Pokemon> chunk = invocation.getArgument(0);
+            insertedChunks.add(List.copyOf(chunk));
+            int call = insertedChunks.size() - 1;
+            return call < failuresPerChunk.length ? failuresPerChunk[call] : Map.of();
+        });
+    }
+
+    private static void assertFailed(PokemonBulkCreateItem item, String errorCode, String message) {
+        assertEquals("FAILED", item.status());
+        assertNull(item.id());
+        assertEquals(errorCode, item.errorCode());
+        assertEquals(message, item.message());
+    }
+}
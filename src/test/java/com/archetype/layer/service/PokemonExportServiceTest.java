@@ -0,0 +1,118 @@
+package com.archetype.layer.service;
+
+import com.archetype.layer.domain.model.IndividualValues;
+import com.archetype.layer.domain.model.Pokemon;
+import com.archetype.layer.domain.model.Species;
+import com.archetype.layer.domain.model.Type;
+import com.archetype.layer.mapper.dto.PokemonDtoMapperImpl;
+import com.archetype.layer.mapper.dto.SpeciesDtoMapperImpl;
+import com.archetype.layer.persistence.PokemonDataRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PokemonExportService with a mocked repository.
+ */
+class PokemonExportServiceTest {
+
+    private static final Species PIKACHU = new Species(25, "pikachu", Type.electric, null, List.of(), Map.of(84, "thunder-shock"),
+            new Species.PokemonStats(55, 40, 50, 50, 90, 35));
+
+    private final PokemonDataRepository repository = mock(PokemonDataRepository.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final PokemonExportService unit = new PokemonExportService(repository, new PokemonDtoMapperImpl(), new SpeciesDtoMapperImpl(),
+            objectMapper, meterRegistry);
+
+    @Test
+    @DisplayName("Each exported Pokemon is one JSON object on its own line")
+    void exportPokemon_writesOneObjectPerLine() throws IOException {
+        List<Pokemon> pokemon = IntStream.range(0, 300)
+                                         .mapToObj(i -> new Pokemon(PIKACHU, "sparky-" + i, 5, new IndividualValues(1, 2, 3, 4)))
+                                         .toList();
+        when(repository.streamPokemon()).thenReturn(pokemon.stream());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        unit.exportPokemon(out, false);
+
+        List<JsonNode> lines = lines(out.toString(StandardCharsets.UTF_8));
+        assertEquals(300, lines.size());
+        assertEquals("sparky-0", lines.getFirst().get("name").asText());
+        assertEquals(pokemon.getLast().getId().uuid().toString(), lines.getLast().get("id").asText());
+        assertEquals(300, meterRegistry.get(PokemonExportService.EXPORT_COUNTER).tag("dataset", "pokemon").counter().count());
+    }
+
+    @Test
+    @DisplayName("A gzip export decompresses to the same newline-delimited species")
+    void exportSpecies_gzipRoundTrip() throws IOException {
+        Species raichu = new Species(26, "raichu", Type.electric, null, List.of(), Map.of(), PIKACHU.stats());
+        when(repository.streamSpecies()).thenReturn(Stream.of(PIKACHU, raichu));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        unit.exportSpecies(out, true);
+
+        String ndjson;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            ndjson = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        List<JsonNode> lines = lines(ndjson);
+        assertEquals(List.of("pikachu", "raichu"), lines.stream().map(line -> line.get("name").asText()).toList());
+        assertEquals("thunder-shock", lines.getFirst().get("moves").get("84").asText());
+        assertEquals(2, meterRegistry.get(PokemonExportService.EXPORT_COUNTER).tag("dataset", "species").counter().count());
+    }
+
+    @ParameterizedTest(name = "[{index}] ''{0}'' -> {1}")
+    @DisplayName("gzip is used only when Accept-Encoding admits it with a non-zero q-value")
+    @CsvSource(delimiter = '|', nullValues = "null", value = {
+            "null                    | false",
+            "identity                | false",
+            "gzip                    | true",
+            "GZip, deflate, br       | true",
+            "br;q=1.0, gzip;q=0.8    | true",
+            "x-gzip                  | true",
+            "gzip;q=0                | false",
+            "gzip; q=0.000           | false",
+            "*                       | true",
+            "*;q=0                   | false",
+            "gzip;q=0, *             | false",
+            "*;q=0, gzip;q=0.5       | true",
+            "gzipped                 | false",
+            "gzip;q=high             | false"
+    })
+    void acceptsGzip(String acceptEncoding, boolean expected) {
+        assertEquals(expected, unit.acceptsGzip(acceptEncoding));
+    }
+
+    /**
+     * Parses newline-delimited JSON, requiring every line to start and end with its object's braces.
+     */
+    private List<JsonNode> lines(String ndjson) throws IOException {
+        assertTrue(ndjson.endsWith("\n"));
+        List<JsonNode> nodes = new ArrayList<>();
+        for (String line : ndjson.split("\n")) {
+            assertTrue(line.startsWith("{") && line.endsWith("}"), () -> "not a single JSON object: '" + line + "'");
+            nodes.add(objectMapper.readTree(line));
+        }
+        return nodes;
+    }
+}
@@ -0,0 +1,127 @@
+package com.archetype.layer.service;
+
+import com.archetype.layer.domain.model.Pokemon;
+import com.archetype.layer.domain.model.Species;
+import com.archetype.layer.domain.model.Type;
+import com.archetype.layer.exception.PokemonServiceException;
+import com.archetype.layer.persistence.PokemonDataRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PokemonWriteBehindService with a mocked repository.
+ */
+class PokemonWriteBehindServiceTest {
+
+    private static final Species PIKACHU = new Species(25, "pikachu", Type.electric, null, List.of(), Map.of(),
+            new Species.PokemonStats(55, 40, 50, 50, 90, 35));
+
+    private final PokemonDataRepository repository = mock(PokemonDataRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private PokemonWriteBehindService unit;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        unit.shutdown();
+    }
+
+    @Test
+    @DisplayName("Concurrent creates are stored in bulk inserts of at most the batch size")
+    void submit_groupsIntoBatches() {
+        when(repository.insertAll(anyList())).thenReturn(Map.of());
+        unit = new PokemonWriteBehindService(repository, meterRegistry, true, 4, Duration.ofMillis(200), 100);
+
+        List<CompletableFuture<Pokemon>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(unit.submit(new Pokemon(PIKACHU, "pika-" + i, 1)));
+        }
+
+        assertEquals(List.of("pika-0", "pika-9"), List.of(futures.getFirst().join().getName(), futures.getLast().join().getName()));
+        verify(repository, atLeast(3)).insertAll(argThat(batch -> batch.size() <= 4));
+        assertEquals(10, meterRegistry.get(PokemonWriteBehindService.BATCH_SIZE_SUMMARY).summary().totalAmount());
+        assertEquals(meterRegistry.get(PokemonWriteBehindService.BATCH_SIZE_SUMMARY).summary().count(),
+                meterRegistry.get(PokemonWriteBehindService.FLUSH_TIMER).timer().count());
+    }
+
+    @Test
+    @DisplayName("A lone create is flushed once the delay has passed")
+    void submit_flushesAfterDelay() {
+        when(repository.insertAll(anyList())).thenReturn(Map.of());
+        unit = new PokemonWriteBehindService(repository, meterRegistry, true, 100, Duration.ofMillis(5), 100);
+
+        Pokemon stored = unit.submit(new Pokemon(PIKACHU, "sparky", 1)).join();
+
+        assertEquals("sparky", stored.getName());
+        verify(repository).insertAll(List.of(stored));
+    }
+
+    @Test
+    @DisplayName("A Pokemon rejected by the bulk insert fails only its own caller")
+    void submit_failsRejectedPokemonOnly() {
+        when(repository.insertAll(anyList())).thenReturn(Map.of(1, "duplicate key"));
+        unit = new PokemonWriteBehindService(repository, meterRegistry, true, 2, Duration.ofSeconds(5), 100);
+
+        CompletableFuture<Pokemon> first = unit.submit(new Pokemon(PIKACHU, "first", 1));
+        CompletableFuture<Pokemon> second = unit.submit(new Pokemon(PIKACHU, "second", 1));
+
+        assertEquals("first", first.join().getName());
+        CompletionException ex = assertThrows(CompletionException.class, second::join);
+        assertInstanceOf(PokemonServiceException.class, ex.getCause());
+    }
+
+    @Test
+    @DisplayName("Submitting while write-behind is disabled is rejected")
+    void submit_rejectedWhenDisabled() {
+        unit = new PokemonWriteBehindService(repository, meterRegistry, false, 100, Duration.ofMillis(5), 100);
+
+        assertFalse(unit.isEnabled());
+        assertThrows(IllegalStateException.class, () -> unit.submit(new Pokemon(PIKACHU, "sparky", 1)));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Creates racing with shutdown are all stored or failed, none is left pending")
+    void shutdown_completesEveryFuture() throws Exception {
+        when(repository.insertAll(anyList())).thenReturn(Map.of());
+        unit = new PokemonWriteBehindService(repository, meterRegistry, true, 8, Duration.ofMillis(1), 16);
+
+        List<CompletableFuture<Pokemon>> futures = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> submitters = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            submitters.add(Thread.ofVirtual().start(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    try {
+                        futures.add(unit.submit(new Pokemon(PIKACHU, "sparky", 1)));
+                    } catch (IllegalStateException ex) {
+                        return;
+                    }
+                }
+            }));
+        }
+        Thread.sleep(20);
+        unit.shutdown();
+        for (Thread submitter : submitters) {
+            submitter.join();
+        }
+
+        assertThrows(IllegalStateException.class, () -> unit.submit(new Pokemon(PIKACHU, "late", 1)));
+        for (CompletableFuture<Pokemon> future : futures) {
+            assertDoesNotThrow(() -> future.handle((pokemon, ex) -> pokemon).get(5, TimeUnit.SECONDS));
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.archetype.layer.service;
+
+import com.archetype.layer.domain.dto.request.PokemonCreate;
+import com.archetype.layer.domain.dto.response.PageResponse;
+import com.archetype.layer.domain.dto.response.PokemonDetails;
+import com.archetype.layer.domain.model.IndividualValues;
+import com.archetype.layer.domain.model.KeysetPage;
+import com.archetype.layer.domain.model.Pokemon;
+import com.archetype.layer.domain.model.PokemonId;
+import com.archetype.layer.domain.model.Species;
+import com.archetype.layer.domain.model.Type;
+import com.archetype.layer.exception.PokemonNotFoundException;
+import com.archetype.layer.exception.PokemonServiceException;
+import com.archetype.layer.exception.PokemonValidationException;
+import com.archetype.layer.exception.SpeciesNotFoundException;
+import com.archetype.layer.mapper.dto.PokemonDtoMapperImpl;
+import com.archetype.layer.persistence.ReactivePokemonDataRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+import static com.archetype.layer.service.SpeciesFixtures.species;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ReactivePokemonService with a mocked reactive repository and species catalog.
+ */
+class ReactivePokemonServiceTest {
+
+    private static final Species PIKACHU = species(25, "pikachu", Type.electric);
+    private static final Species MEW = species(151, "mew", Type.psychic);
+
+    private final ReactivePokemonDataRepository repository = mock(ReactivePokemonDataRepository.class);
+    private final SpeciesCatalogService speciesCatalog = mock(SpeciesCatalogService.class);
+    private final PageCursorService pages = new PageCursorService(50, 200);
+
+    private final ReactivePokemonService unit = new ReactivePokemonService(repository, speciesCatalog, new PokemonDtoMapperImpl(),
+            new IndividualValuesService(), pages);
+
+    @BeforeEach
+    void setUp() {
+        when(speciesCatalog.require(anyInt())).thenAnswer(invocation -> {
+            throw new SpeciesNotFoundException(invocation.getArgument(0));
+        });
+        when(repository.save(any(Pokemon.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+    }
+
+    @Test
+    @DisplayName("A Pokemon is read by ID, and a missing one fails with not found")
+    void getPokemon() {
+        UUID sparky = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        when(repository.getPokemonById(sparky)).thenReturn(Mono.just(stored(sparky, "sparky")));
+        when(repository.getPokemonById(missing)).thenReturn(Mono.error(new PokemonNotFoundException(missing)));
+
+        PokemonDetails details = unit.getPokemon(sparky).block();
+
+        assertEquals(sparky, details.id());
+        assertEquals("sparky", details.name());
+        assertThrows(PokemonNotFoundException.class, () -> unit.getPokemon(missing).block());
+    }
+
+    @Test
+    @DisplayName("A page continues after the cursor's key and returns the cursor of its last Pokemon")
+    void listPokemon_followsCursor() {
+        UUID after = UUID.randomUUID();
+        UUID last = UUID.randomUUID();
+        when(repository.getPokemonPage(25, after.toString(), 2))
+                .thenReturn(Mono.just(new KeysetPage<>(List.of(stored(UUID.randomUUID(), "a"), stored(last, "b")), last.toString())));
+
+        PageResponse<PokemonDetails> page = unit.listPokemon(25, pages.encode(PageCursorService.POKEMON, after.toString()), 2).block();
+
+        assertEquals(List.of("a", "b"), page.items().stream().map(PokemonDetails::name).toList());
+        assertEquals(last.toString(), pages.decode(PageCursorService.POKEMON, page.next()));
+    }
+
+    @Test
+    @DisplayName("The first page is read without a cursor key and at the default size")
+    void listPokemon_firstPage() {
+        when(repository.getPokemonPage(null, null, 50)).thenReturn(Mono.just(new KeysetPage<>(List.of(stored(UUID.randomUUID(), "a")), null)));
+
+        PageResponse<PokemonDetails> page = unit.listPokemon(null, null, null).block();
+
+        assertEquals(List.of("a"), page.items().stream().map(PokemonDetails::name).toList());
+        assertEquals(50, page.size());
+        assertNull(page.next());
+    }
+
+    @Test
+    @DisplayName("Invalid cursors and page sizes fail on subscription without querying the repository")
+    void listPokemon_rejectsInvalidRequests() {
+        String speciesCursor = pages.encode(PageCursorService.SPECIES, "25");
+
+        Mono<PageResponse<PokemonDetails>> invalidCursor = unit.listPokemon(null, speciesCursor, null);
+        Mono<PageResponse<PokemonDetails>> invalidSize = unit.listPokemon(null, null, 0);
+
+        assertThrows(PokemonValidationException.class, invalidCursor::block);
+        assertThrows(PokemonValidationException.class, invalidSize::block);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("A Pokemon is created from the species the catalog resolves")
+    void createPokemon_resolvesSpecies() {
+        doReturn(PIKACHU).when(speciesCatalog).require(25);
+        doReturn(MEW).when(speciesCatalog).require(151);
+
+        PokemonDetails sparky = unit.createPokemon(new PokemonCreate(25, "sparky"), 7L).block();
+        PokemonDetails mew = unit.createPokemon(new PokemonCreate(151, null), 7L).block();
+
+        assertEquals("sparky", sparky.name());
+        assertEquals(25, sparky.nationalId());
+        assertEquals("mew", mew.name());
+        verify(repository, times(2)).save(any(Pokemon.class));
+    }
+
+    @Test
+    @DisplayName("An unknown species is not found, as on the blocking create, and a failing save becomes a service error")
+    void createPokemon_mapsFailures() {
+        doReturn(PIKACHU).when(speciesCatalog).require(25);
+        when(repository.save(any(Pokemon.class))).thenReturn(Mono.error(new IllegalStateException("connection reset")));
+
+        assertThrows(SpeciesNotFoundException.class, () -> unit.createPokemon(new PokemonCreate(999, null), null).block());
+        verify(repository, never()).save(any(Pokemon.class));
+        PokemonServiceException failure = assertThrows(PokemonServiceException.class,
+                () -> unit.createPokemon(new PokemonCreate(25, null), null).block());
+        assertInstanceOf(IllegalStateException.class, failure.getCause());
+    }
+
+    private static Pokemon stored(UUID id, String name) {
+        return new Pokemon(new PokemonId(id), PIKACHU, name, 12, new IndividualValues(1, 2, 3, 4));
+    }
+}
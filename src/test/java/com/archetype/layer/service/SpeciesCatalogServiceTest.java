@@ -0,0 +1,106 @@
+package com.archetype.layer.service;
+
+import com.archetype.layer.domain.model.KeysetPage;
+import com.archetype.layer.domain.model.Species;
+import com.archetype.layer.domain.model.Type;
+import com.archetype.layer.exception.SpeciesNotFoundException;
+import com.archetype.layer.persistence.PokemonDataRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for SpeciesCatalogService with a mocked repository.
+ */
+class SpeciesCatalogServiceTest {
+
+    private PokemonDataRepository repository;
+    private SimpleMeterRegistry meterRegistry;
+
+    private SpeciesCatalogService unit;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(PokemonDataRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        unit = new SpeciesCatalogService(repository, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Lookups are served from the snapshot without going back to the repository")
+    void lookups_useSnapshot() {
+        when(repository.getSpeciesPage(0, 500)).thenReturn(new KeysetPage<>(List.of(species(1, "bulbasaur")), "1"));
+        when(repository.getSpeciesPage(1, 500)).thenReturn(new KeysetPage<>(List.of(species(25, "pikachu")), null));
+
+        unit.refresh();
+
+        assertEquals("pikachu", unit.byNationalId(25).orElseThrow().name());
+        assertEquals(1, unit.byName("Bulbasaur").orElseThrow().nationalId());
+        assertTrue(unit.byNationalId(150).isEmpty());
+        assertEquals(List.of(1, 25), unit.all().stream().map(Species::nationalId).toList());
+        assertEquals(List.of(25), unit.page(1, 10).stream().map(Species::nationalId).toList());
+        verify(repository, times(2)).getSpeciesPage(anyInt(), anyInt());
+
+        assertEquals(2, meterRegistry.get(SpeciesCatalogService.SIZE_GAUGE).gauge().value());
+        assertEquals(1, meterRegistry.get(SpeciesCatalogService.LOOKUP_COUNTER).tags("key", "id", "result", "miss").counter().count());
+    }
+
+    @Test
+    @DisplayName("A refresh swaps in a new snapshot built from the repository")
+    void refresh_swapsSnapshot() {
+        when(repository.getSpeciesPage(0, 500)).thenReturn(new KeysetPage<>(List.of(species(1, "bulbasaur")), null))
+                                                .thenReturn(new KeysetPage<>(List.of(species(1, "bulbasaur"), species(4, "charmander")), null));
+
+        unit.refresh();
+        assertTrue(unit.byNationalId(4).isEmpty());
+
+        unit.refresh();
+        assertEquals("charmander", unit.byNationalId(4).orElseThrow().name());
+    }
+
+    @Test
+    @DisplayName("Species missing from the snapshot are read from the repository, unknown ones are not found")
+    void require_fallsBackToRepository() {
+        when(repository.getSpeciesPage(0, 500)).thenReturn(new KeysetPage<>(List.of(species(1, "bulbasaur")), null));
+        when(repository.getSpeciesById(4)).thenReturn(species(4, "charmander"));
+        when(repository.getSpeciesById(999)).thenThrow(new NoSuchElementException());
+        unit.refresh();
+
+        assertEquals("bulbasaur", unit.require(1).name());
+        assertEquals("charmander", unit.require(4).name());
+        assertThrows(SpeciesNotFoundException.class, () -> unit.require(999));
+        verify(repository, never()).getSpeciesById(1);
+    }
+
+    @Test
+    @DisplayName("A failed preload does not fail startup and is retried until the catalog is loaded")
+    void preload_retriesFailures() throws InterruptedException {
+        when(repository.getSpeciesPage(0, 500)).thenThrow(new IllegalStateException("connection refused"))
+                                                .thenReturn(new KeysetPage<>(List.of(species(1, "bulbasaur")), null));
+
+        unit.onApplicationStarted();
+        assertFalse(unit.isLoaded());
+
+        verify(repository, timeout(5000).times(2)).getSpeciesPage(0, 500);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!unit.isLoaded() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(unit.isLoaded());
+        assertEquals("bulbasaur", unit.byNationalId(1).orElseThrow().name());
+        unit.shutdown();
+    }
+
+    private static Species species(int nationalId, String name) {
+        return new Species(nationalId, name, Type.normal, null, List.of(), Map.of(), null);
+    }
+}
@@ -0,0 +1,23 @@
+package com.archetype.layer.service;
+
+import com.archetype.layer.domain.model.Species;
+import com.archetype.layer.domain.model.Type;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Species shared by the service tests.
+ */
+final class SpeciesFixtures {
+
+    private SpeciesFixtures() {
+    }
+
+    /**
+     * A single-typed species without abilities or moves and with every base stat at 50.
+     */
+    static Species species(int nationalId, String name, Type type) {
+        return new Species(nationalId, name, type, null, List.of(), Map.of(), new Species.PokemonStats(50, 50, 50, 50, 50, 50));
+    }
+}
@@ -0,0 +1,167 @@
+package com.archetype.layer.service;
+
+import com.archetype.layer.client.pokeapi.PokeApiAdapter;
+import com.archetype.layer.client.pokeapi.SpeciesBatchSink;
+import com.archetype.layer.domain.model.Species;
+import com.archetype.layer.domain.model.SpeciesLoadJob;
+import com.archetype.layer.domain.model.SpeciesSyncResult;
+import com.archetype.layer.domain.model.Type;
+import com.archetype.layer.exception.PokemonValidationException;
+import com.archetype.layer.mapper.dto.SpeciesLoadJobDtoMapper;
+import com.archetype.layer.persistence.PokemonDataRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for SpeciesLoadService with a mocked repository and PokeAPI adapter.
+ */
+class SpeciesLoadServiceTest {
+
+    private static final int BATCH_SIZE = 25;
+
+    private PokemonDataRepository repository;
+    private PokeApiAdapter pokeApiAdapter;
+    private SpeciesLoadJobDtoMapper jobMapper;
+    private SpeciesCatalogService speciesCatalog;
+    private SimpleMeterRegistry meterRegistry;
+
+    private SpeciesLoadService unit;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(PokemonDataRepository.class);
+        pokeApiAdapter = mock(PokeApiAdapter.class);
+        jobMapper = mock(SpeciesLoadJobDtoMapper.class);
+        speciesCatalog = mock(SpeciesCatalogService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        when(repository.save(any(SpeciesLoadJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(repository.getAbilityCatalog()).thenReturn(Map.of());
+        when(pokeApiAdapter.takeFetchedAbilities()).thenReturn(Map.of());
+        unit = new SpeciesLoadService(repository, pokeApiAdapter, jobMapper, speciesCatalog, meterRegistry, BATCH_SIZE, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        unit.shutdown();
+    }
+
+    @Test
+    @DisplayName("A load checkpoints after every batch, completes, and refreshes the catalog when species were written")
+    void start_checkpointsAndCompletes() {
+        when(repository.getLoadJobs(SpeciesLoadJob.Status.RUNNING)).thenReturn(List.of());
+        when(repository.resync(anyList())).thenReturn(new SpeciesSyncResult(2, 0, 0), new SpeciesSyncResult(0, 1, 0));
+        when(pokeApiAdapter.ingest(eq(1), eq(151), eq(BATCH_SIZE), any())).thenAnswer(invocation -> {
+            SpeciesBatchSink sink = invocation.getArgument(3);
+            sink.accept(List.of(species(1), species(2)), 2);
+            sink.accept(List.of(species(3)), 3);
+            return 3;
+        });
+
+        unit.start(1, null, null, null);
+
+        verify(speciesCatalog, timeout(5000)).refresh();
+        List<SpeciesLoadJob> saved = savedJobs(4);
+        assertEquals(List.of(0, 2, 3, 3), saved.stream().map(SpeciesLoadJob::lastCompletedId).toList());
+        SpeciesLoadJob completed = saved.getLast();
+        assertEquals(SpeciesLoadJob.Status.COMPLETED, completed.status());
+        assertEquals(2, completed.inserted());
+        assertEquals(1, completed.updated());
+        assertEquals(2, meterRegistry.get(SpeciesLoadService.LOADED_COUNTER).tag("result", "inserted").counter().count());
+    }
+
+    @Test
+    @DisplayName("A failing load is marked failed at its last checkpoint")
+    void start_failsAtLastCheckpoint() {
+        when(repository.getLoadJobs(SpeciesLoadJob.Status.RUNNING)).thenReturn(List.of());
+        when(repository.resync(anyList())).thenReturn(new SpeciesSyncResult(10, 0, 0));
+        when(pokeApiAdapter.ingest(anyInt(), anyInt(), anyInt(), any())).thenAnswer(invocation -> {
+            SpeciesBatchSink sink = invocation.getArgument(3);
+            sink.accept(List.of(species(10)), 10);
+            throw new IllegalStateException("PokeAPI unavailable");
+        });
+
+        unit.start(null, 1, 20, null);
+
+        verify(repository, timeout(5000)).save(argThat((SpeciesLoadJob job) -> job.status() == SpeciesLoadJob.Status.FAILED));
+        SpeciesLoadJob failed = savedJobs(3).getLast();
+        assertEquals(10, failed.lastCompletedId());
+        assertEquals("PokeAPI unavailable", failed.failure());
+        verify(speciesCatalog, never()).refresh();
+    }
+
+    @Test
+    @DisplayName("A load that dies with an Error is still marked failed instead of being left running")
+    void start_marksFailedOnError() {
+        when(repository.getLoadJobs(SpeciesLoadJob.Status.RUNNING)).thenReturn(List.of());
+        when(pokeApiAdapter.ingest(anyInt(), anyInt(), anyInt(), any())).thenThrow(new OutOfMemoryError());
+
+        unit.start(1, null, null, null);
+
+        verify(repository, timeout(5000)).save(argThat((SpeciesLoadJob job) -> job.status() == SpeciesLoadJob.Status.FAILED));
+        SpeciesLoadJob failed = savedJobs(2).getLast();
+        assertEquals(0, failed.lastCompletedId());
+        assertEquals(OutOfMemoryError.class.getName(), failed.failure());
+    }
+
+    @Test
+    @DisplayName("A job left running by a restart resumes after its checkpoint")
+    void onApplicationReady_resumesFromCheckpoint() {
+        Instant now = Instant.now();
+        SpeciesLoadJob interrupted = SpeciesLoadJob.start(SpeciesLoadJob.Source.API, 1, 151, now)
+                                                   .checkpoint(50, new SpeciesSyncResult(50, 0, 0), now);
+        when(repository.getLoadJobs(SpeciesLoadJob.Status.RUNNING)).thenReturn(List.of(interrupted));
+        when(pokeApiAdapter.ingest(anyInt(), anyInt(), anyInt(), any())).thenReturn(101);
+
+        unit.onApplicationReady();
+
+        verify(pokeApiAdapter, timeout(5000)).ingest(eq(51), eq(151), eq(BATCH_SIZE), any());
+        verify(repository, timeout(5000)).save(argThat((SpeciesLoadJob job) -> job.status() == SpeciesLoadJob.Status.COMPLETED
+                && job.id().equals(interrupted.id())));
+    }
+
+    @Test
+    @DisplayName("Starting a load while one is running returns the running job")
+    void start_returnsRunningJob() {
+        SpeciesLoadJob running = SpeciesLoadJob.start(SpeciesLoadJob.Source.API, 1, 151, Instant.now());
+        when(repository.getLoadJobs(SpeciesLoadJob.Status.RUNNING)).thenReturn(List.of(running));
+
+        unit.start(2, null, null, null);
+
+        verify(jobMapper).toDto(running);
+        verify(repository, never()).save(any(SpeciesLoadJob.class));
+        verifyNoMoreInteractions(pokeApiAdapter);
+    }
+
+    @Test
+    @DisplayName("Unknown generations, ranges outside the national dex and a missing dump are rejected")
+    void start_rejectsInvalidRequests() {
+        assertThrows(PokemonValidationException.class, () -> unit.start(10, null, null, null));
+        assertThrows(PokemonValidationException.class, () -> unit.start(null, 200, 100, null));
+        assertThrows(PokemonValidationException.class, () -> unit.start(null, null, null, "ftp"));
+        when(pokeApiAdapter.lastIdInDump(151)).thenReturn(0);
+        assertThrows(PokemonValidationException.class, () -> unit.start(1, null, null, "dump"));
+        verify(repository, never()).save(any(SpeciesLoadJob.class));
+    }
+
+    private List<SpeciesLoadJob> savedJobs(int count) {
+        ArgumentCaptor<SpeciesLoadJob> jobs = ArgumentCaptor.forClass(SpeciesLoadJob.class);
+        verify(repository, timeout(5000).times(count)).save(jobs.capture());
+        return jobs.getAllValues();
+    }
+
+    private static Species species(int nationalId) {
+        return new Species(nationalId, "species-" + nationalId, Type.normal, null, List.of(), Map.of(),
+                new Species.PokemonStats(1, 1, 1, 1, 1, 1));
+    }
+}
@@ -0,0 +1,32 @@
+package com.archetype.mvc.persistence.document;
+
+import com.archetype.mvc.model.Ability;
+import com.archetype.mvc.model.Species;
+import com.archetype.mvc.model.Type;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Species shared by the projection tests and benchmarks.
+ */
+public final class SpeciesDocumentFixtures {
+
+    private SpeciesDocumentFixtures() {
+    }
+
+    /**
+     * Charizard with two types, two abilities and a 100-move learnset, about the size of a species document once the
+     * moves of later games are loaded.
+     */
+    public static Species charizard() {
+        Map<Integer, String> moves = new TreeMap<>();
+        for (int i = 1; i <= 100; i++) {
+            moves.put(i, "move-number-" + i);
+        }
+        return new Species(6, "charizard", Type.fire, Type.flying,
+                List.of(new Ability(66, "blaze", null, false), new Ability(94, "solar-power", null, true)),
+                moves, new Species.PokemonStats(84, 78, 109, 85, 100, 78));
+    }
+}
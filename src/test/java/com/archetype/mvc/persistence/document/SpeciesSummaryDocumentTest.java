@@ -0,0 +1,66 @@
+package com.archetype.mvc.persistence.document;
+
+import com.archetype.mvc.model.Element;
+import com.archetype.mvc.persistence.internal.PokemonMvcPersistenceMapperImpl;
+import org.bson.BsonBinaryWriter;
+import org.bson.Document;
+import org.bson.codecs.DocumentCodec;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the species summary projection on the BSON a full {@code pokemon-species} document encodes to.
+ */
+class SpeciesSummaryDocumentTest {
+
+    private MappingMongoConverter converter;
+    private Document full;
+
+    @BeforeEach
+    void setUp() {
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext());
+        converter.afterPropertiesSet();
+        full = new Document();
+        converter.write(new PokemonMvcPersistenceMapperImpl().toDocument(SpeciesDocumentFixtures.charizard()), full);
+    }
+
+    @Test
+    @DisplayName("The projection fields select a summary that reads back as SpeciesSummaryDocument")
+    void fields_readBackAsSummary() {
+        SpeciesSummaryDocument summary = converter.read(SpeciesSummaryDocument.class, project(full));
+
+        assertEquals(new SpeciesSummaryDocument(6, "charizard", Element.FIRE, Element.FLYING), summary);
+    }
+
+    @Test
+    @DisplayName("A summary moves a fraction of the BSON bytes of the full species document")
+    void projection_isSmallerThanFullDocument() {
+        int fullBytes = bsonSize(full);
+        int summaryBytes = bsonSize(project(full));
+
+        assertTrue(summaryBytes * 10 < fullBytes, () -> "summary " + summaryBytes + " bytes, full document " + fullBytes + " bytes");
+    }
+
+    /**
+     * Applies {@link SpeciesSummaryDocument#FIELDS} the way the server does: the listed fields plus {@code _id}.
+     */
+    private static Document project(Document document) {
+        Document projected = new Document("_id", document.get("_id"));
+        Document.parse(SpeciesSummaryDocument.FIELDS).keySet().forEach(field -> projected.append(field, document.get(field)));
+        return projected;
+    }
+
+    private static int bsonSize(Document document) {
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        new DocumentCodec().encode(new BsonBinaryWriter(buffer), document, EncoderContext.builder().build());
+        return buffer.size();
+    }
+}